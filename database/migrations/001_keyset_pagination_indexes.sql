@@ -0,0 +1,6 @@
+-- Keyset pagination indexes for GET /api/events/page and GET /api/venues/page
+-- Run this on databases created before the paged endpoints were introduced.
+-- The (sort key, id) pairs match the ORDER BY of the keyset queries so each page is a bounded index range scan.
+
+CREATE INDEX IF NOT EXISTS idx_events_title_id ON events(event_title, id);
+CREATE INDEX IF NOT EXISTS idx_venues_name_id ON venues(venue_name, id);
@@ -0,0 +1,6 @@
+-- Pooled id allocation for events
+-- EventEntity now takes its ids from events_id_seq with allocationSize = 50 so Hibernate can batch INSERTs.
+-- The sequence increment must match the allocation size, otherwise Hibernate refuses to start.
+-- Existing ids are untouched: the next block starts after the current sequence value.
+
+ALTER TABLE events ALTER COLUMN id SET INCREMENT BY 50;
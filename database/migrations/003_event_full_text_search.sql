@@ -0,0 +1,14 @@
+-- Full-text search for GET /api/events/search
+-- search_vector is maintained by PostgreSQL from the title (weight A) and description (weight B),
+-- so the application never writes it and ranking reads a precomputed document instead of re-parsing text.
+-- Adding a stored generated column rewrites the table; on a large, busy table run it in a maintenance window.
+-- The GIN index can be built without blocking writes: run the CREATE INDEX on its own with CONCURRENTLY
+-- (outside a transaction) if needed.
+
+ALTER TABLE events
+    ADD COLUMN IF NOT EXISTS search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(event_title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_events_search_vector ON events USING GIN (search_vector);
@@ -0,0 +1,27 @@
+-- Typed event dates for GET /api/events/page?from=&to= and sort=date
+-- events.date was VARCHAR(50); EventEntity now maps it as a LocalDate, so the column must become DATE.
+--
+-- 1. Review values that will not convert. They become NULL: such events keep working but are left out of
+--    date-range and date-sorted pages until a date is set again through PUT /api/events/{id}.
+--
+--    SELECT id, event_title, date FROM events
+--    WHERE date IS NOT NULL AND date !~ '^\d{4}-\d{2}-\d{2}$';
+--
+-- 2. Convert. Values are parsed with PostgreSQL's date input rules (ISO YYYY-MM-DD as the app always wrote,
+--    other formats per the session DateStyle); anything unparseable, including impossible dates such as
+--    2025-02-30, becomes NULL instead of aborting the migration. The ALTER rewrites the table.
+
+CREATE OR REPLACE FUNCTION pg_temp.try_parse_event_date(value TEXT) RETURNS DATE AS $$
+BEGIN
+    RETURN NULLIF(trim(value), '')::DATE;
+EXCEPTION WHEN others THEN
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE events ALTER COLUMN date TYPE DATE USING pg_temp.try_parse_event_date(date);
+
+-- 3. Replace the single-column index with one matching ORDER BY date, event_hour, id of the keyset queries.
+
+DROP INDEX IF EXISTS idx_events_date;
+CREATE INDEX IF NOT EXISTS idx_events_date_hour_id ON events(date, event_hour, id);
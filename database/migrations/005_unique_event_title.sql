@@ -0,0 +1,25 @@
+-- Unique event titles for POST /api/events
+-- Title uniqueness used to be a SELECT before every INSERT, which two concurrent requests could both pass.
+-- The constraint makes the INSERT itself the check; the application maps a violation of uk_events_title to 409.
+--
+-- 1. Review existing duplicates. The constraint cannot be added while any remain.
+--
+--    SELECT event_title, array_agg(id ORDER BY id) FROM events
+--    GROUP BY event_title HAVING count(*) > 1;
+--
+-- 2. Keep the oldest event under each title and suffix the others with their id so no event is lost.
+
+UPDATE events e
+SET event_title = e.event_title || ' (' || e.id || ')'
+WHERE EXISTS (
+    SELECT 1 FROM events older
+    WHERE older.event_title = e.event_title AND older.id < e.id
+);
+
+-- 3. Add the constraint. Its index also serves lookups by title, so the plain title index is dropped.
+--    On a large, busy table build the index first without blocking writes (outside a transaction):
+--      CREATE UNIQUE INDEX CONCURRENTLY uk_events_title ON events(event_title);
+--    then attach it with ADD CONSTRAINT uk_events_title UNIQUE USING INDEX uk_events_title.
+
+ALTER TABLE events ADD CONSTRAINT uk_events_title UNIQUE (event_title);
+DROP INDEX IF EXISTS idx_events_title;
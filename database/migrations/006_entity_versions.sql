@@ -0,0 +1,14 @@
+-- Versions for conditional requests on GET/PUT /api/events/{id} and /api/venues/{id}
+-- version is the optimistic-lock counter behind ETag and If-Match; updated_at backs Last-Modified.
+-- Adding a NOT NULL column with a constant default does not rewrite the table (PostgreSQL 11+).
+
+ALTER TABLE venues ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE events ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- The application now sets updated_at itself on every insert and update, in the same statement that bumps
+-- version. The triggers would overwrite it with a slightly different time, so the Last-Modified returned by
+-- a PUT would not match the one later GETs report.
+
+DROP TRIGGER IF EXISTS update_venues_updated_at ON venues;
+DROP TRIGGER IF EXISTS update_events_updated_at ON events;
+DROP FUNCTION IF EXISTS update_updated_at_column();
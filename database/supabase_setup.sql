@@ -0,0 +1,58 @@
+-- Supabase setup for the Eventify application
+-- The tables and indexes are created by the application itself: Flyway applies src/main/resources/db/migration
+-- on startup. Run this script in the Supabase SQL Editor afterwards to add row level security and sample data.
+
+-- Enable Row Level Security (RLS) for Supabase
+ALTER TABLE venues ENABLE ROW LEVEL SECURITY;
+ALTER TABLE events ENABLE ROW LEVEL SECURITY;
+
+-- Create RLS policies (adjust based on your authentication requirements)
+-- Allow public read access to venues
+CREATE POLICY "Venues are viewable by everyone." ON venues FOR SELECT USING (true);
+
+-- Allow public read access to events
+CREATE POLICY "Events are viewable by everyone." ON events FOR SELECT USING (true);
+
+-- Allow authenticated users to insert/update venues (customize as needed)
+CREATE POLICY "Authenticated users can manage venues." ON venues FOR ALL USING (auth.role() = 'authenticated');
+
+-- Allow authenticated users to insert/update events (customize as needed)
+CREATE POLICY "Authenticated users can manage events." ON events FOR ALL USING (auth.role() = 'authenticated');
+
+-- Insert sample data for testing (optional)
+INSERT INTO venues (venue_name, country, address, city, state, zip_code) VALUES
+('Madison Square Garden', 'USA', '4 Pennsylvania Plaza', 'New York', 'NY', '10001'),
+('Hollywood Bowl', 'USA', '2301 N Highland Ave', 'Los Angeles', 'CA', '90028'),
+('Royal Albert Hall', 'UK', 'Kensington Gore', 'London', '', 'SW7 2AP');
+
+INSERT INTO events (event_title, description, venue_id, date, event_hour, price, hoster) VALUES
+('Summer Music Festival', 'Annual outdoor music festival featuring top artists', 1, '2024-07-15', '19:00:00', 75.00, 'Live Nation'),
+('Comedy Night Special', 'Stand-up comedy show with renowned comedians', 2, '2024-08-20', '20:30:00', 45.50, 'Comedy Central'),
+('Classical Concert', 'Evening of classical music performances', 3, '2024-09-10', '19:30:00', 120.00, 'Royal Philharmonic');
+
+-- Note: In Supabase, permissions are handled through RLS policies and the auth system
+-- No explicit GRANT statements needed for basic operations
+
+-- Verify the schema creation
+SELECT 
+    table_name, 
+    column_name, 
+    data_type, 
+    is_nullable,
+    column_default
+FROM information_schema.columns 
+WHERE table_schema = 'public' 
+    AND table_name IN ('events', 'venues')
+ORDER BY table_name, ordinal_position;
+
+-- Additional verification for Supabase
+SELECT 
+    schemaname,
+    tablename,
+    tableowner,
+    hasindexes,
+    hasrules,
+    hastriggers
+FROM pg_tables 
+WHERE schemaname = 'public' 
+    AND tablename IN ('events', 'venues');
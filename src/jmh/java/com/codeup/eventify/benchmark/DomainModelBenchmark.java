@@ -0,0 +1,99 @@
+package com.codeup.eventify.benchmark;
+
+import com.codeup.eventify.benchmark.support.BenchmarkData;
+import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.model.Venue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Event/Venue builders, equals and hashCode. Equality compares distinct but equal
+ * instances, so the full field-by-field path (including the nested venue) is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainModelBenchmark {
+
+    @Param({ "10", "1000", "10000" })
+    private int size;
+
+    private List<Event> events;
+    private List<Event> copies;
+
+    @Setup
+    public void setUp() {
+        events = BenchmarkData.events(size);
+        copies = BenchmarkData.events(size);
+    }
+
+    // Field values are taken from existing instances so only the builders are measured
+    @Benchmark
+    public void buildEvents(Blackhole blackhole) {
+        for (Event event : events) {
+            Venue venue = event.getVenue();
+            blackhole.consume(Event.builder()
+                    .id(event.getId())
+                    .title(event.getTitle())
+                    .description(event.getDescription())
+                    .date(event.getDate())
+                    .venue(Venue.builder()
+                            .id(venue.getId())
+                            .name(venue.getName())
+                            .country(venue.getCountry())
+                            .address(venue.getAddress())
+                            .city(venue.getCity())
+                            .state(venue.getState())
+                            .zipCode(venue.getZipCode())
+                            .build())
+                    .hour(event.getHour())
+                    .price(event.getPrice())
+                    .hostedBy(event.getHostedBy())
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public int equalsEvents() {
+        int equal = 0;
+        for (int i = 0; i < size; i++) {
+            if (events.get(i).equals(copies.get(i))) {
+                equal++;
+            }
+        }
+        return equal;
+    }
+
+    @Benchmark
+    public int hashCodeEvents() {
+        int hash = 0;
+        for (Event event : events) {
+            hash += event.hashCode();
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public Set<Event> hashSetOfEvents() {
+        return new HashSet<>(events);
+    }
+}
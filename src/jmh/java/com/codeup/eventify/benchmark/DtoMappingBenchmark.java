@@ -0,0 +1,61 @@
+package com.codeup.eventify.benchmark;
+
+import com.codeup.eventify.benchmark.support.BenchmarkData;
+import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.model.EventView;
+import com.codeup.eventify.infrastructure.adapters.in.web.mapper.EventResponseMapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response DTO mapping done by EventRestAdapter, from the domain model (write responses)
+ * and from read-model projections (GET responses).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({ "10", "1000", "10000" })
+    private int size;
+
+    private List<Event> events;
+    private List<EventView> views;
+
+    @Setup
+    public void setUp() {
+        events = BenchmarkData.events(size);
+        views = BenchmarkData.views(events);
+    }
+
+    @Benchmark
+    public void eventToResponseDTO(Blackhole blackhole) {
+        for (Event event : events) {
+            blackhole.consume(EventResponseMapper.toResponseDTO(event));
+        }
+    }
+
+    @Benchmark
+    public void viewToResponseDTO(Blackhole blackhole) {
+        for (EventView view : views) {
+            blackhole.consume(EventResponseMapper.toResponseDTO(view));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.codeup.eventify.benchmark;
+
+import com.codeup.eventify.benchmark.support.BenchmarkData;
+import com.codeup.eventify.domain.model.EventView;
+import com.codeup.eventify.infrastructure.adapters.in.web.dto.response.EventResponseDTO;
+import com.codeup.eventify.infrastructure.adapters.in.web.mapper.EventResponseMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of EventResponseDTO lists with an ObjectMapper configured the
+ * way Spring MVC configures its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({ "10", "1000", "10000" })
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<EventView> views;
+    private List<EventResponseDTO> dtos;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        views = BenchmarkData.views(BenchmarkData.events(size));
+        dtos = views.stream().map(EventResponseMapper::toResponseDTO).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeDtoList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dtos);
+    }
+
+    // What GET /api/events does after the query returns: map every view, then serialize
+    @Benchmark
+    public byte[] mapAndSerializeViews() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(views.stream().map(EventResponseMapper::toResponseDTO).toList());
+    }
+}
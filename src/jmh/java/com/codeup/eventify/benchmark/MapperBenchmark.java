@@ -0,0 +1,84 @@
+package com.codeup.eventify.benchmark;
+
+import com.codeup.eventify.benchmark.support.BenchmarkData;
+import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.model.Venue;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.entity.EventEntity;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.entity.VenueEntity;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.mapper.EventMapper;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.mapper.VenueMapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct conversions between JPA entities and domain objects, per list of {@code size} rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({ "10", "1000", "10000" })
+    private int size;
+
+    private final EventMapper eventMapper = EventMapper.INSTANCE;
+    private final VenueMapper venueMapper = VenueMapper.INSTANCE;
+
+    private List<Event> events;
+    private List<EventEntity> entities;
+    private List<Venue> venues;
+    private List<VenueEntity> venueEntities;
+
+    @Setup
+    public void setUp() {
+        events = BenchmarkData.events(size);
+        entities = BenchmarkData.entities(events);
+        venues = BenchmarkData.venues(size);
+        venueEntities = venues.stream().map(venueMapper::toEntity).toList();
+    }
+
+    @Benchmark
+    public void eventEntityToDomain(Blackhole blackhole) {
+        for (EventEntity entity : entities) {
+            blackhole.consume(eventMapper.toDomain(entity));
+        }
+    }
+
+    @Benchmark
+    public void eventDomainToEntity(Blackhole blackhole) {
+        for (Event event : events) {
+            blackhole.consume(eventMapper.toEntity(event));
+        }
+    }
+
+    @Benchmark
+    public void venueEntityToDomain(Blackhole blackhole) {
+        for (VenueEntity entity : venueEntities) {
+            blackhole.consume(venueMapper.toDomain(entity));
+        }
+    }
+
+    @Benchmark
+    public void venueDomainToEntity(Blackhole blackhole) {
+        for (Venue venue : venues) {
+            blackhole.consume(venueMapper.toEntity(venue));
+        }
+    }
+}
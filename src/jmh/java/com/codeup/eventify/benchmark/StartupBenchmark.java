@@ -0,0 +1,74 @@
+package com.codeup.eventify.benchmark;
+
+import com.codeup.eventify.EventifyApplication;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold start of the whole application (Tomcat included) against an existing schema, with
+ * Hibernate updating ({@code update}), checking ({@code validate}) or leaving alone
+ * ({@code none}) the schema, which is what Flyway now lets it do. Every fork is a fresh
+ * JVM booting once, like a new instance scaling out.
+ * <p>
+ * Runs on a local H2 file database with the {@code test} profile, where metadata queries are
+ * local calls; against a remote PostgreSQL each of them is a network round trip, so the gap
+ * only grows there.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class StartupBenchmark {
+
+    // A file database: Spring Boot shuts in-memory ones down with the context that opened them
+    private static final String URL =
+            "jdbc:h2:file:./target/eventify-startup;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH";
+
+    @Param({ "update", "validate", "none" })
+    private String ddlAuto;
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void createSchema() {
+        // Outside the measurement: the database outlives this context, like a deployed schema
+        start("create").close();
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public ConfigurableApplicationContext startup() {
+        context = start(ddlAuto);
+        return context;
+    }
+
+    private static ConfigurableApplicationContext start(String ddlAuto) {
+        return new SpringApplicationBuilder(EventifyApplication.class)
+                .profiles("test")
+                .run("--spring.datasource.url=" + URL,
+                        "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "--server.port=0");
+    }
+}
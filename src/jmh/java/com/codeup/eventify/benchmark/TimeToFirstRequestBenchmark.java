@@ -0,0 +1,139 @@
+package com.codeup.eventify.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time from launching the packaged application until it has answered its first
+ * {@code GET /api/venues}, per startup mode:
+ * <ul>
+ * <li>{@code jvm} - the plain jar</li>
+ * <li>{@code aot} - the same jar with {@code -Dspring.aot.enabled=true}</li>
+ * <li>{@code cds} - AOT plus the class data sharing archive from the training run</li>
+ * <li>{@code native} - the GraalVM native image</li>
+ * </ul>
+ * Needs {@code ./mvnw -Pcds package} (and {@code ./mvnw -Pnative native:compile} for
+ * {@code native}) beforehand; a mode whose artifact is missing fails in setup. The
+ * application connects to its configured database unless {@code appArgs} points it
+ * elsewhere.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TimeToFirstRequestBenchmark {
+
+    private static final Path CDS_DIR = Path.of("target", "cds");
+    private static final Path NATIVE_IMAGE = Path.of("target", "Eventify");
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    @Param({ "jvm", "aot", "cds", "native" })
+    private String mode;
+
+    // Extra application arguments, e.g. "--spring.datasource.url=jdbc:postgresql://localhost:5432/eventify"
+    @Param({ "" })
+    private String appArgs;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private List<String> command;
+    private Process process;
+
+    @Setup(Level.Trial)
+    public void resolveCommand() throws IOException {
+        String jar = Files.list(CDS_DIR)
+                .map(path -> path.getFileName().toString())
+                .filter(name -> name.endsWith(".jar"))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No jar in " + CDS_DIR + ", run ./mvnw -Pcds package"));
+        command = new ArrayList<>();
+        switch (mode) {
+            case "jvm" -> command.addAll(List.of("java", "-jar", jar));
+            case "aot" -> command.addAll(List.of("java", "-Dspring.aot.enabled=true", "-jar", jar));
+            case "cds" -> command.addAll(List.of("java", "-XX:SharedArchiveFile=application.jsa",
+                    "-Dspring.aot.enabled=true", "-jar", jar));
+            case "native" -> {
+                if (!Files.isExecutable(NATIVE_IMAGE)) {
+                    throw new IllegalStateException("No native image at " + NATIVE_IMAGE
+                            + ", run ./mvnw -Pnative native:compile");
+                }
+                command.add(NATIVE_IMAGE.toAbsolutePath().toString());
+            }
+            default -> throw new IllegalArgumentException("Unknown mode " + mode);
+        }
+        if (!appArgs.isBlank()) {
+            command.addAll(Arrays.asList(appArgs.trim().split("\\s+")));
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    @Benchmark
+    public int firstRequest() throws Exception {
+        int port = freePort();
+        List<String> launch = new ArrayList<>(command);
+        launch.add("--server.port=" + port);
+        process = new ProcessBuilder(launch)
+                .directory(CDS_DIR.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/venues")).build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with " + process.exitValue() + ": " + launch);
+            }
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return response.statusCode();
+                }
+            } catch (ConnectException e) {
+                // Not listening yet
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException("No answer within " + STARTUP_TIMEOUT + ": " + launch);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
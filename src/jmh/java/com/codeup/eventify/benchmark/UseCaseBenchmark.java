@@ -0,0 +1,132 @@
+package com.codeup.eventify.benchmark;
+
+import com.codeup.eventify.application.usecase.events.CreateEventsUseCaseImpl;
+import com.codeup.eventify.application.usecase.events.RetrieveEventUseCaseImpl;
+import com.codeup.eventify.benchmark.support.BenchmarkData;
+import com.codeup.eventify.domain.model.CursorPage;
+import com.codeup.eventify.domain.model.DateRange;
+import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.model.EventCreationResult;
+import com.codeup.eventify.domain.model.EventSort;
+import com.codeup.eventify.domain.model.EventView;
+import com.codeup.eventify.domain.model.Venue;
+import com.codeup.eventify.infrastructure.adapters.out.cache.InMemoryCatalogGenerationAdapter;
+import com.codeup.eventify.infrastructure.adapters.out.changes.InMemoryChangeFeedAdapter;
+import com.codeup.eventify.infrastructure.adapters.out.memory.InMemoryEventReadModelAdapter;
+import com.codeup.eventify.infrastructure.adapters.out.memory.InMemoryEventRepositoryAdapter;
+import com.codeup.eventify.infrastructure.adapters.out.memory.InMemoryVenueRepositoryAdapter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Use cases wired to the in-memory adapters of the {@code in-memory} profile, so the numbers
+ * cover validation, paging and batching logic without any persistence cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UseCaseBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int BATCH_SIZE = 100;
+
+    @Param({ "10", "1000", "10000" })
+    private int size;
+
+    private RetrieveEventUseCaseImpl retrieveEventUseCase;
+    private CreateEventsUseCaseImpl createEventsUseCase;
+    private InMemoryEventRepositoryAdapter eventRepository;
+    private String middleTitleCursor;
+    private List<Event> batch;
+    private List<EventCreationResult> created = List.of();
+
+    @Setup
+    public void setUp() {
+        List<Event> events = BenchmarkData.events(size);
+        List<Venue> venues = BenchmarkData.venues(size);
+        InMemoryVenueRepositoryAdapter venueRepository = new InMemoryVenueRepositoryAdapter();
+        venues.forEach(venueRepository::save);
+        eventRepository = new InMemoryEventRepositoryAdapter(venueRepository);
+        eventRepository.saveAll(events);
+
+        retrieveEventUseCase = new RetrieveEventUseCaseImpl(new InMemoryEventReadModelAdapter(eventRepository));
+        createEventsUseCase = new CreateEventsUseCaseImpl(eventRepository, venueRepository,
+                new InMemoryChangeFeedAdapter(BATCH_SIZE), new InMemoryCatalogGenerationAdapter());
+
+        // A cursor into the middle of the title ordering, to measure a deep page
+        CursorPage<EventView> page = retrieveEventUseCase.getEventsPage(Math.max(1, Math.min(100, size / 2)), null,
+                EventSort.TITLE, DateRange.UNBOUNDED);
+        middleTitleCursor = page.getNextCursor();
+
+        batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            Event event = BenchmarkData.event(null, size + i, venues.get(i % venues.size()));
+            batch.add(Event.builder()
+                    .title(event.getTitle())
+                    .description(event.getDescription())
+                    .date(event.getDate())
+                    .venue(Venue.builder().id(event.getVenue().getId()).build())
+                    .hour(event.getHour())
+                    .price(event.getPrice())
+                    .hostedBy(event.getHostedBy())
+                    .build());
+        }
+    }
+
+    // The batch titles must be new on every invocation; deleting the events the last batch
+    // created is excluded from the measurement
+    @TearDown(Level.Invocation)
+    public void deleteCreatedEvents() {
+        for (EventCreationResult result : created) {
+            if (result.isSuccess()) {
+                eventRepository.deleteById(result.getEvent().getId());
+            }
+        }
+        created = List.of();
+    }
+
+    @Benchmark
+    public List<EventView> getAllEvents() {
+        return retrieveEventUseCase.getAllEvents();
+    }
+
+    @Benchmark
+    public CursorPage<EventView> getFirstPageById() {
+        return retrieveEventUseCase.getEventsPage(PAGE_SIZE, null, EventSort.ID, DateRange.UNBOUNDED);
+    }
+
+    @Benchmark
+    public CursorPage<EventView> getDeepPageByTitle() {
+        return retrieveEventUseCase.getEventsPage(PAGE_SIZE, middleTitleCursor, EventSort.TITLE, DateRange.UNBOUNDED);
+    }
+
+    @Benchmark
+    public EventView getEventById() {
+        return retrieveEventUseCase.getEventById((long) size / 2 + 1);
+    }
+
+    @Benchmark
+    public List<EventCreationResult> createEventBatch() {
+        created = createEventsUseCase.createEvents(batch);
+        return created;
+    }
+}
@@ -0,0 +1,113 @@
+package com.codeup.eventify.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bursts of blocking requests on a Tomcat-sized platform pool (200 threads) versus one
+ * virtual thread per request. Each request waits {@code waitMillis} outside the database
+ * (network, remote calls) and then holds one of {@code poolSize} connections for
+ * {@code dbMillis}, like a use case calling the JPA adapters.
+ * <p>
+ * {@code throughput} reports requests per second; {@code burstLatency} reports the time to
+ * drain a burst, i.e. the worst-case request latency at that concurrency.
+ * The virtual executor needs JDK 21+; on older runtimes those runs fail in setup.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VirtualThreadBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int REQUESTS = 2000;
+
+    @Param({ "platform", "virtual" })
+    private String executor;
+
+    @Param({ "20", "50" })
+    private int poolSize;
+
+    @Param({ "10" })
+    private int waitMillis;
+
+    @Param({ "2" })
+    private int dbMillis;
+
+    private ExecutorService executorService;
+    private Semaphore connections;
+
+    @Setup
+    public void setUp() throws Exception {
+        connections = new Semaphore(poolSize, true);
+        if ("virtual".equals(executor)) {
+            // Looked up reflectively so the project keeps compiling for Java 17
+            executorService = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } else {
+            executorService = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        executorService.shutdown();
+        executorService.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(REQUESTS)
+    public void throughput() throws Exception {
+        burst();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void burstLatency() throws Exception {
+        burst();
+    }
+
+    private void burst() throws Exception {
+        List<Future<?>> futures = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            futures.add(executorService.submit(this::handleRequest));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private void handleRequest() {
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(waitMillis));
+        connections.acquireUninterruptibly();
+        try {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(dbMillis));
+        } finally {
+            connections.release();
+        }
+    }
+}
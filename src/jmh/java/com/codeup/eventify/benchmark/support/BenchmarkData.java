@@ -0,0 +1,110 @@
+package com.codeup.eventify.benchmark.support;
+
+import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.model.EventView;
+import com.codeup.eventify.domain.model.Venue;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.entity.EventEntity;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.entity.VenueEntity;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic datasets for the benchmarks: {@code size} events spread over
+ * {@code size / EVENTS_PER_VENUE} venues, shaped like production rows.
+ */
+public final class BenchmarkData {
+
+    public static final int EVENTS_PER_VENUE = 10;
+
+    private BenchmarkData() {
+    }
+
+    public static List<Venue> venues(int eventCount) {
+        int venueCount = Math.max(1, eventCount / EVENTS_PER_VENUE);
+        List<Venue> venues = new ArrayList<>(venueCount);
+        for (int i = 0; i < venueCount; i++) {
+            venues.add(Venue.builder()
+                    .id((long) i + 1)
+                    .name("Venue " + i)
+                    .country("USA")
+                    .address(i + " Pennsylvania Plaza")
+                    .city("New York")
+                    .state("NY")
+                    .zipCode(String.format("%05d", 10000 + i))
+                    .build());
+        }
+        return venues;
+    }
+
+    public static List<Event> events(int size) {
+        List<Venue> venues = venues(size);
+        List<Event> events = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            events.add(event((long) i + 1, i, venues.get(i % venues.size())));
+        }
+        return events;
+    }
+
+    public static Event event(Long id, int i, Venue venue) {
+        return Event.builder()
+                .id(id)
+                .title("Event " + i)
+                .description("Live music night number " + i + " with local and touring bands")
+                .date(LocalDate.of(2025, 12, i % 28 + 1))
+                .venue(venue)
+                .hour(LocalTime.of(18 + i % 5, 0))
+                .price(25.0 + i % 100)
+                .hostedBy("Host " + i % 50)
+                .build();
+    }
+
+    public static List<EventView> views(List<Event> events) {
+        List<EventView> views = new ArrayList<>(events.size());
+        for (Event event : events) {
+            views.add(view(event));
+        }
+        return views;
+    }
+
+    public static EventView view(Event event) {
+        return EventView.builder()
+                .id(event.getId())
+                .title(event.getTitle())
+                .description(event.getDescription())
+                .date(event.getDate())
+                .venue(event.getVenue())
+                .hour(event.getHour())
+                .price(event.getPrice())
+                .hostedBy(event.getHostedBy())
+                .build();
+    }
+
+    public static List<EventEntity> entities(List<Event> events) {
+        List<EventEntity> entities = new ArrayList<>(events.size());
+        for (Event event : events) {
+            Venue venue = event.getVenue();
+            entities.add(EventEntity.builder()
+                    .id(event.getId())
+                    .title(event.getTitle())
+                    .description(event.getDescription())
+                    .date(event.getDate())
+                    .venue(VenueEntity.builder()
+                            .id(venue.getId())
+                            .name(venue.getName())
+                            .country(venue.getCountry())
+                            .address(venue.getAddress())
+                            .city(venue.getCity())
+                            .state(venue.getState())
+                            .zipCode(venue.getZipCode())
+                            .build())
+                    .hour(event.getHour())
+                    .price(event.getPrice())
+                    .hostedBy(event.getHostedBy())
+                    .build());
+        }
+        return entities;
+    }
+}
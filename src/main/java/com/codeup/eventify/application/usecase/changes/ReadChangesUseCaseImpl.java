@@ -0,0 +1,40 @@
+package com.codeup.eventify.application.usecase.changes;
+
+import org.springframework.stereotype.Service;
+
+import com.codeup.eventify.domain.model.ChangePage;
+import com.codeup.eventify.domain.ports.in.changes.ReadChangesUseCase;
+import com.codeup.eventify.domain.ports.out.ChangeFeedPort;
+
+@Service
+public class ReadChangesUseCaseImpl implements ReadChangesUseCase {
+
+    public static final int MAX_LIMIT = 1000;
+
+    private final ChangeFeedPort changeFeed;
+
+    public ReadChangesUseCaseImpl(ChangeFeedPort changeFeed) {
+        this.changeFeed = changeFeed;
+    }
+
+    @Override
+    public ChangePage getChangesAfter(long sequence, int limit) {
+        if (sequence < 0) {
+            throw new IllegalArgumentException("Sequence cannot be negative");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        return changeFeed.readAfter(sequence, limit);
+    }
+
+    @Override
+    public long getLatestSequence() {
+        return changeFeed.latestSequence();
+    }
+
+    @Override
+    public Runnable subscribe(Runnable listener) {
+        return changeFeed.subscribe(listener);
+    }
+}
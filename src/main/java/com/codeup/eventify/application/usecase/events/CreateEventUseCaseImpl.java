@@ -1,66 +1,77 @@
 package com.codeup.eventify.application.usecase.events;
 
+import com.codeup.eventify.domain.model.ChangeResource;
+import com.codeup.eventify.domain.model.ChangeType;
 import com.codeup.eventify.domain.model.Event;
 import com.codeup.eventify.domain.ports.in.events.CreateEventUseCase;
+import com.codeup.eventify.domain.ports.out.CatalogGenerationPort;
+import com.codeup.eventify.domain.ports.out.ChangeFeedPort;
 import com.codeup.eventify.domain.ports.out.EventRepositoryPort;
-import com.codeup.eventify.domain.ports.out.VenueRepositoryPort;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Slf4j
 @Service
+@Transactional
 public class CreateEventUseCaseImpl implements CreateEventUseCase {
 
     private final EventRepositoryPort eventRepository;
-    private final VenueRepositoryPort venueRepository;
+    private final ChangeFeedPort changeFeed;
+    private final CatalogGenerationPort catalogGenerations;
 
-    public CreateEventUseCaseImpl(EventRepositoryPort eventRepository, VenueRepositoryPort venueRepository) {
+    public CreateEventUseCaseImpl(EventRepositoryPort eventRepository, ChangeFeedPort changeFeed,
+            CatalogGenerationPort catalogGenerations) {
         this.eventRepository = eventRepository;
-        this.venueRepository = venueRepository;
+        this.changeFeed = changeFeed;
+        this.catalogGenerations = catalogGenerations;
     }
 
     @Override
     public Event createEvent(Event event) {
         log.info("Creating event with title: {}", event.getTitle());
 
-        if (eventRepository.existsByTitle(event.getTitle())) {
-            throw new IllegalArgumentException("An event with title '" + event.getTitle() + "' already exists");
-        }
-        if (event.getTitle() == null || event.getTitle().isEmpty()) {
-            throw new IllegalArgumentException("Event title cannot be null or empty");
-        }
-        if (event.getDescription() == null || event.getDescription().isEmpty()) {
-            throw new IllegalArgumentException("Event description cannot be null or empty");
-        }
-        if (event.getDate() == null || event.getDate().isEmpty()) {
-            throw new IllegalArgumentException("Event date cannot be null or empty");
-        }
-        if (event.getHostedBy() == null || event.getHostedBy().isEmpty()) {
-            throw new IllegalArgumentException("Event must have a host");
-        }
-
-        // Note: venue should be resolved at the adapter layer and passed as a complete
-        // Venue object
-        // For now, we'll handle the case where venue might be null
-        if (event.getVenue() == null) {
-            throw new IllegalArgumentException("Event must have an associated venue");
-        }
-
-        var venue = venueRepository.findById(event.getVenue().getId())
-                .orElseThrow(() -> new RuntimeException("Venue not found with ID: " + event.getVenue().getId()));
+        validate(event);
 
+        // Title uniqueness is enforced by the repository on insert (DuplicateEventTitleException),
+        // so concurrent creates with one title cannot both pass a check made beforehand
         Event createdEvent = Event.builder()
                 .title(event.getTitle())
                 .description(event.getDescription())
                 .date(event.getDate())
-                .venue(venue)
+                .venue(event.getVenue())
                 .hour(event.getHour())
                 .price(event.getPrice())
                 .hostedBy(event.getHostedBy())
                 .build();
 
         Event savedEvent = eventRepository.save(createdEvent);
+        changeFeed.publish(ChangeResource.EVENT, ChangeType.CREATED, savedEvent.getId(), savedEvent.getVersion());
+        catalogGenerations.eventsChanged(List.of(savedEvent.getVenue().getId()));
         log.info("Event created successfully with ID: {}", savedEvent.getId());
         return savedEvent;
     }
+
+    // Shared with asynchronous ingestion, which must reject the same events before queueing them
+    static void validate(Event event) {
+        if (event.getTitle() == null || event.getTitle().isEmpty()) {
+            throw new IllegalArgumentException("Event title cannot be null or empty");
+        }
+        if (event.getDescription() == null || event.getDescription().isEmpty()) {
+            throw new IllegalArgumentException("Event description cannot be null or empty");
+        }
+        if (event.getDate() == null) {
+            throw new IllegalArgumentException("Event date cannot be null");
+        }
+        if (event.getHostedBy() == null || event.getHostedBy().isEmpty()) {
+            throw new IllegalArgumentException("Event must have a host");
+        }
+
+        // The venue is resolved by the calling adapter and is not loaded again here
+        if (event.getVenue() == null || event.getVenue().getId() == null) {
+            throw new IllegalArgumentException("Event must have an associated venue");
+        }
+    }
 }
@@ -0,0 +1,149 @@
+package com.codeup.eventify.application.usecase.events;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.codeup.eventify.domain.model.ChangeResource;
+import com.codeup.eventify.domain.model.ChangeType;
+import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.model.EventCreationResult;
+import com.codeup.eventify.domain.model.Venue;
+import com.codeup.eventify.domain.ports.in.events.CreateEventsUseCase;
+import com.codeup.eventify.domain.ports.out.CatalogGenerationPort;
+import com.codeup.eventify.domain.ports.out.ChangeFeedPort;
+import com.codeup.eventify.domain.ports.out.EventRepositoryPort;
+import com.codeup.eventify.domain.ports.out.VenueRepositoryPort;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@Transactional
+public class CreateEventsUseCaseImpl implements CreateEventsUseCase {
+    private final EventRepositoryPort eventRepository;
+    private final VenueRepositoryPort venueRepository;
+    private final ChangeFeedPort changeFeed;
+    private final CatalogGenerationPort catalogGenerations;
+
+    public CreateEventsUseCaseImpl(EventRepositoryPort eventRepository, VenueRepositoryPort venueRepository,
+            ChangeFeedPort changeFeed, CatalogGenerationPort catalogGenerations) {
+        this.eventRepository = eventRepository;
+        this.venueRepository = venueRepository;
+        this.changeFeed = changeFeed;
+        this.catalogGenerations = catalogGenerations;
+    }
+
+    @Override
+    public List<EventCreationResult> createEvents(List<Event> events) {
+        if (events == null || events.isEmpty()) {
+            throw new IllegalArgumentException("Event batch cannot be null or empty");
+        }
+        log.info("Creating batch of {} events", events.size());
+
+        // One query per batch for venues and one for title collisions, instead of one of each per event
+        Set<Long> venueIds = events.stream()
+                .map(Event::getVenue)
+                .filter(Objects::nonNull)
+                .map(Venue::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Venue> venues = venueIds.isEmpty()
+                ? Map.of()
+                : venueRepository.findAllById(venueIds)
+                        .stream()
+                        .collect(Collectors.toMap(Venue::getId, Function.identity()));
+
+        Set<String> titles = events.stream()
+                .map(Event::getTitle)
+                .filter(title -> title != null && !title.isEmpty())
+                .collect(Collectors.toSet());
+        Set<String> existingTitles = eventRepository.findExistingTitles(titles);
+
+        EventCreationResult[] results = new EventCreationResult[events.size()];
+        List<Event> eventsToSave = new ArrayList<>();
+        List<Integer> savedIndexes = new ArrayList<>();
+        Set<String> batchTitles = new HashSet<>();
+
+        for (int i = 0; i < events.size(); i++) {
+            Event event = events.get(i);
+            String error = validate(event, venues, existingTitles, batchTitles);
+            if (error != null) {
+                results[i] = EventCreationResult.failure(i, error);
+                continue;
+            }
+            batchTitles.add(event.getTitle());
+            eventsToSave.add(Event.builder()
+                    .title(event.getTitle())
+                    .description(event.getDescription())
+                    .date(event.getDate())
+                    .venue(venues.get(event.getVenue().getId()))
+                    .hour(event.getHour())
+                    .price(event.getPrice())
+                    .hostedBy(event.getHostedBy())
+                    .build());
+            savedIndexes.add(i);
+        }
+
+        if (!eventsToSave.isEmpty()) {
+            List<Event> savedEvents = eventRepository.saveAll(eventsToSave);
+            for (int i = 0; i < savedEvents.size(); i++) {
+                int index = savedIndexes.get(i);
+                results[index] = EventCreationResult.success(index, savedEvents.get(i));
+            }
+            savedEvents.forEach(saved -> changeFeed.publish(ChangeResource.EVENT, ChangeType.CREATED, saved.getId(),
+                    saved.getVersion()));
+            catalogGenerations.eventsChanged(savedEvents.stream()
+                    .map(saved -> saved.getVenue().getId())
+                    .collect(Collectors.toSet()));
+        }
+
+        log.info("Event batch processed: {} created, {} rejected", eventsToSave.size(),
+                events.size() - eventsToSave.size());
+        return Arrays.asList(results);
+    }
+
+    private String validate(Event event, Map<Long, Venue> venues, Set<String> existingTitles,
+            Set<String> batchTitles) {
+        if (event == null) {
+            return "Event cannot be null";
+        }
+        if (event.getTitle() == null || event.getTitle().isEmpty()) {
+            return "Event title cannot be null or empty";
+        }
+        if (existingTitles.contains(event.getTitle()) || batchTitles.contains(event.getTitle())) {
+            return "An event with title '" + event.getTitle() + "' already exists";
+        }
+        if (event.getDescription() == null || event.getDescription().isEmpty()) {
+            return "Event description cannot be null or empty";
+        }
+        if (event.getDate() == null) {
+            return "Event date cannot be null";
+        }
+        if (event.getHour() == null) {
+            return "Event hour cannot be null";
+        }
+        if (event.getPrice() == null) {
+            return "Event price cannot be null";
+        }
+        if (event.getHostedBy() == null || event.getHostedBy().isEmpty()) {
+            return "Event must have a host";
+        }
+        if (event.getVenue() == null || event.getVenue().getId() == null) {
+            return "Event must have an associated venue";
+        }
+        if (!venues.containsKey(event.getVenue().getId())) {
+            return "Venue not found with ID: " + event.getVenue().getId();
+        }
+        return null;
+    }
+}
@@ -1,30 +1,49 @@
 package com.codeup.eventify.application.usecase.events;
 
+import java.util.List;
+
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.codeup.eventify.domain.model.ChangeResource;
+import com.codeup.eventify.domain.model.ChangeType;
+import com.codeup.eventify.domain.model.EventView;
 import com.codeup.eventify.domain.ports.in.events.DeleteEventUseCase;
+import com.codeup.eventify.domain.ports.out.CatalogGenerationPort;
+import com.codeup.eventify.domain.ports.out.ChangeFeedPort;
+import com.codeup.eventify.domain.ports.out.EventReadModelPort;
 import com.codeup.eventify.domain.ports.out.EventRepositoryPort;
 
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+@Transactional
 public class DeleteEventUseCaseImpl implements DeleteEventUseCase {
     private final EventRepositoryPort eventRepository;
+    private final EventReadModelPort eventReadModel;
+    private final ChangeFeedPort changeFeed;
+    private final CatalogGenerationPort catalogGenerations;
 
-    public DeleteEventUseCaseImpl(EventRepositoryPort eventRepository) {
+    public DeleteEventUseCaseImpl(EventRepositoryPort eventRepository, EventReadModelPort eventReadModel,
+            ChangeFeedPort changeFeed, CatalogGenerationPort catalogGenerations) {
         this.eventRepository = eventRepository;
+        this.eventReadModel = eventReadModel;
+        this.changeFeed = changeFeed;
+        this.catalogGenerations = catalogGenerations;
     }
 
     @Override
     public void deleteEvent(Long id) {
         log.info("Deleting event with ID: {}", id);
 
-        if (!eventRepository.existsById(id)) {
-            throw new RuntimeException("Event not found with ID: " + id);
-        }
+        // Loaded rather than checked with existsById: the event list of its venue changes too
+        EventView event = eventReadModel.findById(id)
+                .orElseThrow(() -> new RuntimeException("Event not found with ID: " + id));
 
         eventRepository.deleteById(id);
+        changeFeed.publish(ChangeResource.EVENT, ChangeType.DELETED, id, null);
+        catalogGenerations.eventsChanged(List.of(event.getVenueId()));
         log.info("Event deleted successfully with ID: {}", id);
     }
 
@@ -0,0 +1,38 @@
+package com.codeup.eventify.application.usecase.events;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.ports.in.events.ExportEventsUseCase;
+import com.codeup.eventify.domain.ports.out.EventRepositoryPort;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ExportEventsUseCaseImpl implements ExportEventsUseCase {
+    private final EventRepositoryPort eventRepository;
+
+    public ExportEventsUseCaseImpl(EventRepositoryPort eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @Override
+    public long exportEvents(Consumer<Event> consumer) {
+        log.info("Exporting all events");
+
+        AtomicLong exported = new AtomicLong();
+        eventRepository.streamAll(event -> {
+            consumer.accept(event);
+            exported.incrementAndGet();
+        });
+
+        log.info("Exported {} events", exported.get());
+        return exported.get();
+    }
+}
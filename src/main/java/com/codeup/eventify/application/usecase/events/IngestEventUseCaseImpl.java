@@ -0,0 +1,50 @@
+package com.codeup.eventify.application.usecase.events;
+
+import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.model.IngestionTicket;
+import com.codeup.eventify.domain.ports.in.events.IngestEventUseCase;
+import com.codeup.eventify.domain.ports.out.EventIngestionQueuePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Asynchronous event creation (enabled with {@code eventify.ingestion.mode=async}): the
+ * event is validated like a synchronous create, then handed to the ingestion queue and
+ * written later in batches. Title uniqueness is only known once the event is written,
+ * so a taken title shows up as a {@code FAILED} ticket rather than a rejection here.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "eventify.ingestion.mode", havingValue = "async")
+public class IngestEventUseCaseImpl implements IngestEventUseCase {
+
+    private final EventIngestionQueuePort ingestionQueue;
+
+    public IngestEventUseCaseImpl(EventIngestionQueuePort ingestionQueue) {
+        this.ingestionQueue = ingestionQueue;
+    }
+
+    @Override
+    public IngestionTicket submitEvent(Event event) {
+        CreateEventUseCaseImpl.validate(event);
+
+        IngestionTicket ticket = ingestionQueue.enqueue(Event.builder()
+                .title(event.getTitle())
+                .description(event.getDescription())
+                .date(event.getDate())
+                .venue(event.getVenue())
+                .hour(event.getHour())
+                .price(event.getPrice())
+                .hostedBy(event.getHostedBy())
+                .build());
+        log.debug("Queued event '{}' as {}", event.getTitle(), ticket.getTrackingId());
+        return ticket;
+    }
+
+    @Override
+    public IngestionTicket getTicket(String trackingId) {
+        return ingestionQueue.findTicket(trackingId)
+                .orElseThrow(() -> new RuntimeException("Ingestion ticket not found with ID: " + trackingId));
+    }
+}
@@ -1,47 +1,117 @@
 package com.codeup.eventify.application.usecase.events;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.model.CursorPage;
+import com.codeup.eventify.domain.model.DateRange;
+import com.codeup.eventify.domain.model.EventSort;
+import com.codeup.eventify.domain.model.EventView;
+import com.codeup.eventify.domain.model.PageCursor;
+import com.codeup.eventify.domain.model.ResourceVersion;
 import com.codeup.eventify.domain.ports.in.events.RetrieveEventUseCase;
-import com.codeup.eventify.domain.ports.out.EventRepositoryPort;
+import com.codeup.eventify.domain.ports.out.EventReadModelPort;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+// Read-only, so with read replicas configured these are served by a replica (see ReadReplicaConfig)
+@Transactional(readOnly = true)
 public class RetrieveEventUseCaseImpl implements RetrieveEventUseCase {
-    private final EventRepositoryPort eventRepository;
+    private static final int MAX_PAGE_SIZE = 100;
 
-    public RetrieveEventUseCaseImpl(EventRepositoryPort eventRepository) {
-        this.eventRepository = eventRepository;
+    // Reads go through the projection port, not EventRepositoryPort, so no entities or domain graphs are built
+    private final EventReadModelPort eventReadModel;
+
+    public RetrieveEventUseCaseImpl(EventReadModelPort eventReadModel) {
+        this.eventReadModel = eventReadModel;
     }
 
     @Override
-    public Event getEventById(Long id) {
+    public EventView getEventById(Long id) {
         if (id <= 0) {
             throw new IllegalArgumentException("Invalid event ID");
         }
         log.info("Fetching event with ID: {}", id);
 
-        return eventRepository.findById(id)
+        return eventReadModel.findById(id)
                 .orElseThrow(() -> new RuntimeException("Event not found with ID: " + id));
     }
 
     @Override
-    public List<Event> getAllEvents() {
+    public ResourceVersion getEventVersion(Long id) {
+        if (id <= 0) {
+            throw new IllegalArgumentException("Invalid event ID");
+        }
+        return eventReadModel.findVersionById(id)
+                .orElseThrow(() -> new RuntimeException("Event not found with ID: " + id));
+    }
+
+    @Override
+    public List<EventView> getAllEvents() {
         log.info("Fetching all events");
-        return eventRepository.findAll();
+        return eventReadModel.findAll();
     }
 
     @Override
-    public List<Event> getEventsByVenueId(Long venueId) {
+    public CursorPage<EventView> getEventsPage(int limit, String after, EventSort sort, DateRange range) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (range.isBounded() && sort != EventSort.DATE) {
+            throw new IllegalArgumentException("Date range filters require sort: " + EventSort.DATE);
+        }
+        PageCursor cursor = null;
+        if (after != null && !after.isEmpty()) {
+            cursor = PageCursor.decode(after);
+            if (!sort.name().equals(cursor.getSort())) {
+                throw new IllegalArgumentException("Page cursor does not match sort: " + sort);
+            }
+            if (sort == EventSort.DATE && !isDateTime(cursor.getSortValue())) {
+                throw new IllegalArgumentException("Invalid page cursor");
+            }
+        }
+        log.info("Fetching events page with limit: {}, sort: {}, range: {}", limit, sort, range);
+
+        // Ask for one extra row so we know whether another page exists without a COUNT query
+        List<EventView> events = eventReadModel.findPage(sort, cursor, range, limit + 1);
+        if (events.size() <= limit) {
+            return new CursorPage<>(events, null);
+        }
+
+        List<EventView> items = events.subList(0, limit);
+        EventView last = items.get(limit - 1);
+        String sortValue = switch (sort) {
+            case TITLE -> last.getTitle();
+            case DATE -> LocalDateTime.of(last.getDate(), last.getHour()).toString();
+            case ID -> null;
+        };
+        return new CursorPage<>(items, new PageCursor(sort.name(), last.getId(), sortValue).encode());
+    }
+
+    @Override
+    public List<EventView> getEventsByVenueId(Long venueId) {
         if (venueId <= 0) {
             throw new IllegalArgumentException("Invalid venue ID");
         }
         log.info("Fetching events for venue ID: {}", venueId);
 
-        return eventRepository.findByVenueId(venueId);
+        return eventReadModel.findByVenueId(venueId);
+    }
+
+    private static boolean isDateTime(String value) {
+        if (value == null) {
+            return false;
+        }
+        try {
+            LocalDateTime.parse(value);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
     }
 }
@@ -0,0 +1,53 @@
+package com.codeup.eventify.application.usecase.events;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.codeup.eventify.domain.model.EventSearchHit;
+import com.codeup.eventify.domain.model.OffsetPage;
+import com.codeup.eventify.domain.ports.in.events.SearchEventsUseCase;
+import com.codeup.eventify.domain.ports.out.EventSearchPort;
+
+import lombok.extern.slf4j.Slf4j;
+
+// No transaction: the in-memory index never touches the database, and the Postgres search is a single
+// query that Spring Data already runs read-only
+@Slf4j
+@Service
+public class SearchEventsUseCaseImpl implements SearchEventsUseCase {
+    private static final int MAX_PAGE_SIZE = 100;
+    // Ranking has to score every match before it can skip, so deep offsets are refused instead of getting slower
+    private static final int MAX_OFFSET = 1000;
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    private final EventSearchPort eventSearch;
+
+    public SearchEventsUseCaseImpl(EventSearchPort eventSearch) {
+        this.eventSearch = eventSearch;
+    }
+
+    @Override
+    public OffsetPage<EventSearchHit> searchEvents(String query, int limit, int offset) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query cannot be null or empty");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query cannot exceed " + MAX_QUERY_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (offset < 0 || offset > MAX_OFFSET) {
+            throw new IllegalArgumentException("Page offset must be between 0 and " + MAX_OFFSET);
+        }
+        log.info("Searching events for '{}' with limit: {}, offset: {}", query, limit, offset);
+
+        // Ask for one extra hit so we know whether another page exists without a COUNT query
+        List<EventSearchHit> hits = eventSearch.search(query.trim(), limit + 1, offset);
+        if (hits.size() <= limit) {
+            return new OffsetPage<>(hits, offset, limit, false);
+        }
+        return new OffsetPage<>(hits.subList(0, limit), offset, limit, true);
+    }
+}
@@ -1,9 +1,20 @@
 package com.codeup.eventify.application.usecase.events;
 
+import java.util.List;
+
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.codeup.eventify.domain.exception.StaleVersionException;
+import com.codeup.eventify.domain.model.ChangeResource;
+import com.codeup.eventify.domain.model.ChangeType;
 import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.model.EventView;
+import com.codeup.eventify.domain.model.ResourceVersion;
 import com.codeup.eventify.domain.ports.in.events.UpdateEventUseCase;
+import com.codeup.eventify.domain.ports.out.CatalogGenerationPort;
+import com.codeup.eventify.domain.ports.out.ChangeFeedPort;
+import com.codeup.eventify.domain.ports.out.EventReadModelPort;
 import com.codeup.eventify.domain.ports.out.EventRepositoryPort;
 import com.codeup.eventify.domain.ports.out.VenueRepositoryPort;
 
@@ -11,17 +22,25 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+@Transactional
 public class UpdateEventUseCaseImpl implements UpdateEventUseCase {
     private final EventRepositoryPort eventRepository;
+    private final EventReadModelPort eventReadModel;
     private final VenueRepositoryPort venueRepository;
+    private final ChangeFeedPort changeFeed;
+    private final CatalogGenerationPort catalogGenerations;
 
-    public UpdateEventUseCaseImpl(EventRepositoryPort eventRepository, VenueRepositoryPort venueRepository) {
+    public UpdateEventUseCaseImpl(EventRepositoryPort eventRepository, EventReadModelPort eventReadModel,
+            VenueRepositoryPort venueRepository, ChangeFeedPort changeFeed, CatalogGenerationPort catalogGenerations) {
         this.eventRepository = eventRepository;
+        this.eventReadModel = eventReadModel;
         this.venueRepository = venueRepository;
+        this.changeFeed = changeFeed;
+        this.catalogGenerations = catalogGenerations;
     }
 
     @Override
-    public Event updateEvent(Long id, Event event) {
+    public Event updateEvent(Long id, Event event, String expectedVersion) {
         if (id <= 0) {
             throw new IllegalArgumentException("Invalid event ID");
         }
@@ -31,14 +50,23 @@ public class UpdateEventUseCaseImpl implements UpdateEventUseCase {
         if (event.getDescription() == null || event.getDescription().isEmpty()) {
             throw new IllegalArgumentException("Event description cannot be null or empty");
         }
-        if (event.getDate() == null || event.getDate().isEmpty()) {
-            throw new IllegalArgumentException("Event date cannot be null or empty");
+        if (event.getDate() == null) {
+            throw new IllegalArgumentException("Event date cannot be null");
         }
         if (event.getHostedBy() == null || event.getHostedBy().isEmpty()) {
             throw new IllegalArgumentException("Event must have a host");
         }
         log.info("Updating event with ID: {}", id);
 
+        // The whole view rather than just its version: the venue the event is moved away from changes too
+        EventView currentEvent = eventReadModel.findById(id)
+                .orElseThrow(() -> new RuntimeException("Event not found with ID: " + id));
+        ResourceVersion current = ResourceVersion.of(currentEvent);
+        if (expectedVersion != null && !current.matches(expectedVersion)) {
+            throw new StaleVersionException("Event " + id + " is at version " + current.getTag()
+                    + ", not " + expectedVersion);
+        }
+
         var venue = venueRepository.findById(event.getVenue().getId())
                 .orElseThrow(() -> new RuntimeException("Venue not found with ID: " + event.getVenue().getId()));
 
@@ -51,9 +79,13 @@ public class UpdateEventUseCaseImpl implements UpdateEventUseCase {
                 .hour(event.getHour())
                 .price(event.getPrice())
                 .hostedBy(event.getHostedBy())
+                // Checked again by the repository on write, catching updates committed since the lookup
+                .version(current.getVersion())
                 .build();
 
         Event savedEvent = eventRepository.save(updatedEvent);
+        changeFeed.publish(ChangeResource.EVENT, ChangeType.UPDATED, id, savedEvent.getVersion());
+        catalogGenerations.eventsChanged(List.of(currentEvent.getVenueId(), venue.getId()));
         log.info("Event updated successfully with ID: {}", id);
         return savedEvent;
     }
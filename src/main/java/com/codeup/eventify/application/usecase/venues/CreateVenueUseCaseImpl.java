@@ -1,20 +1,31 @@
 package com.codeup.eventify.application.usecase.venues;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.codeup.eventify.domain.model.ChangeResource;
+import com.codeup.eventify.domain.model.ChangeType;
 import com.codeup.eventify.domain.model.Venue;
 import com.codeup.eventify.domain.ports.in.venues.CreateVenueUseCase;
+import com.codeup.eventify.domain.ports.out.CatalogGenerationPort;
+import com.codeup.eventify.domain.ports.out.ChangeFeedPort;
 import com.codeup.eventify.domain.ports.out.VenueRepositoryPort;
 
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+@Transactional
 public class CreateVenueUseCaseImpl implements CreateVenueUseCase {
     private final VenueRepositoryPort venueRepository;
+    private final ChangeFeedPort changeFeed;
+    private final CatalogGenerationPort catalogGenerations;
 
-    public CreateVenueUseCaseImpl(VenueRepositoryPort venueRepository) {
+    public CreateVenueUseCaseImpl(VenueRepositoryPort venueRepository, ChangeFeedPort changeFeed,
+            CatalogGenerationPort catalogGenerations) {
         this.venueRepository = venueRepository;
+        this.changeFeed = changeFeed;
+        this.catalogGenerations = catalogGenerations;
     }
 
     @Override
@@ -52,6 +63,8 @@ public class CreateVenueUseCaseImpl implements CreateVenueUseCase {
                 .build();
 
         Venue savedVenue = venueRepository.save(createdVenue);
+        changeFeed.publish(ChangeResource.VENUE, ChangeType.CREATED, savedVenue.getId(), savedVenue.getVersion());
+        catalogGenerations.venueChanged(savedVenue.getId());
         log.info("Venue created successfully with ID: {}", savedVenue.getId());
         return savedVenue;
     }
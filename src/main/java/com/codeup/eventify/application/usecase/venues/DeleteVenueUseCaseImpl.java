@@ -1,19 +1,30 @@
 package com.codeup.eventify.application.usecase.venues;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.codeup.eventify.domain.model.ChangeResource;
+import com.codeup.eventify.domain.model.ChangeType;
 import com.codeup.eventify.domain.ports.in.venues.DeleteVenueUseCase;
+import com.codeup.eventify.domain.ports.out.CatalogGenerationPort;
+import com.codeup.eventify.domain.ports.out.ChangeFeedPort;
 import com.codeup.eventify.domain.ports.out.VenueRepositoryPort;
 
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+@Transactional
 public class DeleteVenueUseCaseImpl implements DeleteVenueUseCase {
     private final VenueRepositoryPort venueRepository;
+    private final ChangeFeedPort changeFeed;
+    private final CatalogGenerationPort catalogGenerations;
 
-    public DeleteVenueUseCaseImpl(VenueRepositoryPort venueRepository) {
+    public DeleteVenueUseCaseImpl(VenueRepositoryPort venueRepository, ChangeFeedPort changeFeed,
+            CatalogGenerationPort catalogGenerations) {
         this.venueRepository = venueRepository;
+        this.changeFeed = changeFeed;
+        this.catalogGenerations = catalogGenerations;
     }
 
     @Override
@@ -24,6 +35,9 @@ public class DeleteVenueUseCaseImpl implements DeleteVenueUseCase {
         log.info("Deleting venue with ID: {}", id);
 
         venueRepository.deleteById(id);
+        // The venue's events are deleted with it; subscribers are expected to drop them on this change
+        changeFeed.publish(ChangeResource.VENUE, ChangeType.DELETED, id, null);
+        catalogGenerations.venueChanged(id);
         log.info("Venue deleted successfully with ID: {}", id);
     }
 }
@@ -3,8 +3,13 @@ package com.codeup.eventify.application.usecase.venues;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.codeup.eventify.domain.model.CursorPage;
+import com.codeup.eventify.domain.model.PageCursor;
+import com.codeup.eventify.domain.model.ResourceVersion;
 import com.codeup.eventify.domain.model.Venue;
+import com.codeup.eventify.domain.model.VenueSort;
 import com.codeup.eventify.domain.ports.in.venues.RetrieveVenueUseCase;
 import com.codeup.eventify.domain.ports.out.VenueRepositoryPort;
 
@@ -12,7 +17,10 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+// Read-only, so with read replicas configured these are served by a replica (see ReadReplicaConfig)
+@Transactional(readOnly = true)
 public class RetrieveVenueUseCaseImpl implements RetrieveVenueUseCase {
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final VenueRepositoryPort venueRepository;
 
@@ -31,9 +39,41 @@ public class RetrieveVenueUseCaseImpl implements RetrieveVenueUseCase {
                 .orElseThrow(() -> new RuntimeException("Venue not found with ID: " + id));
     }
 
+    @Override
+    public ResourceVersion getVenueVersion(Long id) {
+        return venueRepository.findVersionById(id)
+                .orElseThrow(() -> new RuntimeException("Venue not found with ID: " + id));
+    }
+
     @Override
     public List<Venue> getAllVenues() {
         log.info("Fetching all venues");
         return venueRepository.findAll();
     }
+
+    @Override
+    public CursorPage<Venue> getVenuesPage(int limit, String after, VenueSort sort) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        PageCursor cursor = null;
+        if (after != null && !after.isEmpty()) {
+            cursor = PageCursor.decode(after);
+            if (!sort.name().equals(cursor.getSort())) {
+                throw new IllegalArgumentException("Page cursor does not match sort: " + sort);
+            }
+        }
+        log.info("Fetching venues page with limit: {}, sort: {}", limit, sort);
+
+        // Ask for one extra row so we know whether another page exists without a COUNT query
+        List<Venue> venues = venueRepository.findPage(sort, cursor, limit + 1);
+        if (venues.size() <= limit) {
+            return new CursorPage<>(venues, null);
+        }
+
+        List<Venue> items = venues.subList(0, limit);
+        Venue last = items.get(limit - 1);
+        String sortValue = sort == VenueSort.NAME ? last.getName() : null;
+        return new CursorPage<>(items, new PageCursor(sort.name(), last.getId(), sortValue).encode());
+    }
 }
@@ -1,19 +1,42 @@
 package com.codeup.eventify.application.usecase.venues;
 
+import com.codeup.eventify.domain.exception.StaleVersionException;
+import com.codeup.eventify.domain.model.ChangeResource;
+import com.codeup.eventify.domain.model.ChangeType;
+import com.codeup.eventify.domain.model.ResourceVersion;
 import com.codeup.eventify.domain.model.Venue;
 import com.codeup.eventify.domain.ports.in.venues.UpdateVenueUseCase;
+import com.codeup.eventify.domain.ports.out.CatalogGenerationPort;
+import com.codeup.eventify.domain.ports.out.ChangeFeedPort;
 import com.codeup.eventify.domain.ports.out.VenueRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
+@Transactional
 public class UpdateVenueUseCaseImpl implements UpdateVenueUseCase {
 
     private final VenueRepositoryPort venueRepositoryPort;
+    private final ChangeFeedPort changeFeed;
+    private final CatalogGenerationPort catalogGenerations;
 
     @Override
-    public Venue updateVenue(Long id, Venue venue) {
-        return venueRepositoryPort.update(id, venue);
+    public Venue updateVenue(Long id, Venue venue, String expectedVersion) {
+        if (expectedVersion != null) {
+            ResourceVersion current = venueRepositoryPort.findCurrentVersionById(id)
+                    .orElseThrow(() -> new RuntimeException("Venue not found with id: " + id));
+            if (!current.matches(expectedVersion)) {
+                throw new StaleVersionException("Venue " + id + " is at version " + current.getTag()
+                        + ", not " + expectedVersion);
+            }
+            // The repository re-checks this version on write, catching updates committed since the lookup
+            venue.setVersion(current.getVersion());
+        }
+        Venue updatedVenue = venueRepositoryPort.update(id, venue);
+        changeFeed.publish(ChangeResource.VENUE, ChangeType.UPDATED, id, updatedVenue.getVersion());
+        catalogGenerations.venueChanged(id);
+        return updatedVenue;
     }
 }
@@ -0,0 +1,22 @@
+package com.codeup.eventify.domain.exception;
+
+/**
+ * Thrown by an {@code EventRepositoryPort} when saving an event would give it the same
+ * title as another event. The store itself enforces uniqueness, so this is raised
+ * atomically with the write rather than by a separate lookup that could race.
+ */
+public class DuplicateEventTitleException extends RuntimeException {
+
+    private final String title;
+
+    public DuplicateEventTitleException(String title) {
+        super(title == null
+                ? "An event with the same title already exists"
+                : "An event with title '" + title + "' already exists");
+        this.title = title;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+}
@@ -0,0 +1,19 @@
+package com.codeup.eventify.domain.exception;
+
+/**
+ * Thrown when an event is submitted for asynchronous creation while the ingestion queue
+ * is at capacity. Nothing was queued; the caller should retry later.
+ */
+public class IngestionQueueFullException extends RuntimeException {
+
+    private final int capacity;
+
+    public IngestionQueueFullException(int capacity) {
+        super("Event ingestion queue is full (" + capacity + " pending), retry later");
+        this.capacity = capacity;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,13 @@
+package com.codeup.eventify.domain.exception;
+
+/**
+ * Thrown when a write was made against a version of a resource that is no longer
+ * current: either the caller's expected version (HTTP {@code If-Match}) does not match,
+ * or another write committed first and the optimistic-lock check rejected this one.
+ */
+public class StaleVersionException extends RuntimeException {
+
+    public StaleVersionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,60 @@
+package com.codeup.eventify.domain.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Changes read from the feed after a given sequence number. {@code gap} is set when some
+ * changes after that number are no longer retained (or the number is from before a
+ * restart), so the reader has missed changes and must reload what it mirrors;
+ * {@code changes} then starts at the oldest retained change.
+ */
+public class ChangePage {
+    private final List<ChangeRecord> changes;
+    private final boolean gap;
+    private final long latestSequence;
+
+    public ChangePage(List<ChangeRecord> changes, boolean gap, long latestSequence) {
+        this.changes = changes;
+        this.gap = gap;
+        this.latestSequence = latestSequence;
+    }
+
+    public List<ChangeRecord> getChanges() {
+        return changes;
+    }
+
+    public boolean isGap() {
+        return gap;
+    }
+
+    public long getLatestSequence() {
+        return latestSequence;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        ChangePage that = (ChangePage) o;
+        return gap == that.gap &&
+                latestSequence == that.latestSequence &&
+                Objects.equals(changes, that.changes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(changes, gap, latestSequence);
+    }
+
+    @Override
+    public String toString() {
+        return "ChangePage{" +
+                "changes=" + changes +
+                ", gap=" + gap +
+                ", latestSequence=" + latestSequence +
+                '}';
+    }
+}
@@ -0,0 +1,84 @@
+package com.codeup.eventify.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * One entry of the change feed: which resource was created, updated or deleted, its
+ * version after the change ({@code null} for deletions), and the feed's sequence number,
+ * which increases by one per change.
+ */
+public class ChangeRecord {
+    private final long sequence;
+    private final ChangeResource resource;
+    private final ChangeType type;
+    private final Long resourceId;
+    private final Long version;
+    private final Instant occurredAt;
+
+    public ChangeRecord(long sequence, ChangeResource resource, ChangeType type, Long resourceId, Long version,
+            Instant occurredAt) {
+        this.sequence = sequence;
+        this.resource = resource;
+        this.type = type;
+        this.resourceId = resourceId;
+        this.version = version;
+        this.occurredAt = occurredAt;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public ChangeResource getResource() {
+        return resource;
+    }
+
+    public ChangeType getType() {
+        return type;
+    }
+
+    public Long getResourceId() {
+        return resourceId;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        ChangeRecord that = (ChangeRecord) o;
+        return sequence == that.sequence &&
+                resource == that.resource &&
+                type == that.type &&
+                Objects.equals(resourceId, that.resourceId) &&
+                Objects.equals(version, that.version) &&
+                Objects.equals(occurredAt, that.occurredAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sequence, resource, type, resourceId, version, occurredAt);
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeRecord{" +
+                "sequence=" + sequence +
+                ", resource=" + resource +
+                ", type=" + type +
+                ", resourceId=" + resourceId +
+                ", version=" + version +
+                ", occurredAt=" + occurredAt +
+                '}';
+    }
+}
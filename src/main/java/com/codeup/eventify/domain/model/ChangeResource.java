@@ -0,0 +1,6 @@
+package com.codeup.eventify.domain.model;
+
+public enum ChangeResource {
+    EVENT,
+    VENUE
+}
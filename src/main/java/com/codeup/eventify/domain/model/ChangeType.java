@@ -0,0 +1,7 @@
+package com.codeup.eventify.domain.model;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
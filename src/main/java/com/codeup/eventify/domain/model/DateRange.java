@@ -0,0 +1,80 @@
+package com.codeup.eventify.domain.model;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+
+/**
+ * Inclusive range of event dates; a {@code null} bound leaves that side open.
+ */
+public class DateRange {
+    public static final DateRange UNBOUNDED = new DateRange(null, null);
+
+    private final LocalDate from;
+    private final LocalDate to;
+
+    public DateRange(LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("Date range start " + from + " is after its end " + to);
+        }
+        this.from = from;
+        this.to = to;
+    }
+
+    public static DateRange parse(String from, String to) {
+        return new DateRange(parseBound("from", from), parseBound("to", to));
+    }
+
+    private static LocalDate parseBound(String name, String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid '" + name + "' date: " + value + " (expected YYYY-MM-DD)");
+        }
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public boolean isBounded() {
+        return from != null || to != null;
+    }
+
+    public boolean contains(LocalDate date) {
+        return date != null
+                && (from == null || !date.isBefore(from))
+                && (to == null || !date.isAfter(to));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        DateRange that = (DateRange) o;
+        return Objects.equals(from, that.from) &&
+                Objects.equals(to, that.to);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to);
+    }
+
+    @Override
+    public String toString() {
+        return "DateRange{" +
+                "from=" + from +
+                ", to=" + to +
+                '}';
+    }
+}
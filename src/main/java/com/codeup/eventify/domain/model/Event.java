@@ -1,5 +1,7 @@
 package com.codeup.eventify.domain.model;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Objects;
 
@@ -7,17 +9,24 @@ public class Event {
     private Long id;
     private String title;
     private String description;
-    private String date;
+    private LocalDate date;
     private Venue venue;
     private LocalTime hour;
     private Double price;
     private String hostedBy;
+    private Long version;
+    private Instant updatedAt;
 
     public Event() {
     }
 
-    public Event(Long id, String title, String description, String date, Venue venue, LocalTime hour, Double price,
+    public Event(Long id, String title, String description, LocalDate date, Venue venue, LocalTime hour, Double price,
             String hostedBy) {
+        this(id, title, description, date, venue, hour, price, hostedBy, null, null);
+    }
+
+    public Event(Long id, String title, String description, LocalDate date, Venue venue, LocalTime hour, Double price,
+            String hostedBy, Long version, Instant updatedAt) {
         this.id = id;
         this.title = title;
         this.description = description;
@@ -26,6 +35,8 @@ public class Event {
         this.hour = hour;
         this.price = price;
         this.hostedBy = hostedBy;
+        this.version = version;
+        this.updatedAt = updatedAt;
     }
 
     public static Builder builder() {
@@ -36,11 +47,13 @@ public class Event {
         private Long id;
         private String title;
         private String description;
-        private String date;
+        private LocalDate date;
         private Venue venue;
         private LocalTime hour;
         private Double price;
         private String hostedBy;
+        private Long version;
+        private Instant updatedAt;
 
         public Builder id(Long id) {
             this.id = id;
@@ -57,7 +70,7 @@ public class Event {
             return this;
         }
 
-        public Builder date(String date) {
+        public Builder date(LocalDate date) {
             this.date = date;
             return this;
         }
@@ -82,8 +95,18 @@ public class Event {
             return this;
         }
 
+        public Builder version(Long version) {
+            this.version = version;
+            return this;
+        }
+
+        public Builder updatedAt(Instant updatedAt) {
+            this.updatedAt = updatedAt;
+            return this;
+        }
+
         public Event build() {
-            return new Event(id, title, description, date, venue, hour, price, hostedBy);
+            return new Event(id, title, description, date, venue, hour, price, hostedBy, version, updatedAt);
         }
     }
 
@@ -111,11 +134,11 @@ public class Event {
         this.description = description;
     }
 
-    public String getDate() {
+    public LocalDate getDate() {
         return date;
     }
 
-    public void setDate(String date) {
+    public void setDate(LocalDate date) {
         this.date = date;
     }
 
@@ -151,6 +174,22 @@ public class Event {
         this.hour = hour;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -165,12 +204,14 @@ public class Event {
                 Objects.equals(venue, event.venue) &&
                 Objects.equals(hour, event.hour) &&
                 Objects.equals(price, event.price) &&
-                Objects.equals(hostedBy, event.hostedBy);
+                Objects.equals(hostedBy, event.hostedBy) &&
+                Objects.equals(version, event.version) &&
+                Objects.equals(updatedAt, event.updatedAt);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, title, description, date, venue, hour, price, hostedBy);
+        return Objects.hash(id, title, description, date, venue, hour, price, hostedBy, version, updatedAt);
     }
 
     @Override
@@ -179,11 +220,13 @@ public class Event {
                 "id=" + id +
                 ", title='" + title + '\'' +
                 ", description='" + description + '\'' +
-                ", date='" + date + '\'' +
+                ", date=" + date +
                 ", venue=" + venue +
                 ", hour=" + hour +
                 ", price=" + price +
                 ", hostedBy='" + hostedBy + '\'' +
+                ", version=" + version +
+                ", updatedAt=" + updatedAt +
                 '}';
     }
 }
@@ -0,0 +1,65 @@
+package com.codeup.eventify.domain.model;
+
+import java.util.Objects;
+
+public class EventCreationResult {
+    private final int index;
+    private final Event event;
+    private final String error;
+
+    private EventCreationResult(int index, Event event, String error) {
+        this.index = index;
+        this.event = event;
+        this.error = error;
+    }
+
+    public static EventCreationResult success(int index, Event event) {
+        return new EventCreationResult(index, event, null);
+    }
+
+    public static EventCreationResult failure(int index, String error) {
+        return new EventCreationResult(index, null, error);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        EventCreationResult that = (EventCreationResult) o;
+        return index == that.index &&
+                Objects.equals(event, that.event) &&
+                Objects.equals(error, that.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, event, error);
+    }
+
+    @Override
+    public String toString() {
+        return "EventCreationResult{" +
+                "index=" + index +
+                ", event=" + event +
+                ", error='" + error + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,69 @@
+package com.codeup.eventify.domain.model;
+
+import java.util.Objects;
+
+/**
+ * One ranked full-text match. Highlights are the HTML-escaped field with the matched
+ * terms wrapped in {@code <mark>...</mark>}, and are {@code null} when the field did
+ * not match.
+ */
+public final class EventSearchHit {
+    public static final String HIGHLIGHT_START = "<mark>";
+    public static final String HIGHLIGHT_STOP = "</mark>";
+
+    private final EventView event;
+    private final double rank;
+    private final String titleHighlight;
+    private final String descriptionHighlight;
+
+    public EventSearchHit(EventView event, double rank, String titleHighlight, String descriptionHighlight) {
+        this.event = event;
+        this.rank = rank;
+        this.titleHighlight = titleHighlight;
+        this.descriptionHighlight = descriptionHighlight;
+    }
+
+    public EventView getEvent() {
+        return event;
+    }
+
+    public double getRank() {
+        return rank;
+    }
+
+    public String getTitleHighlight() {
+        return titleHighlight;
+    }
+
+    public String getDescriptionHighlight() {
+        return descriptionHighlight;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        EventSearchHit that = (EventSearchHit) o;
+        return Double.compare(rank, that.rank) == 0 &&
+                Objects.equals(event, that.event) &&
+                Objects.equals(titleHighlight, that.titleHighlight) &&
+                Objects.equals(descriptionHighlight, that.descriptionHighlight);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(event, rank, titleHighlight, descriptionHighlight);
+    }
+
+    @Override
+    public String toString() {
+        return "EventSearchHit{" +
+                "event=" + event +
+                ", rank=" + rank +
+                ", titleHighlight='" + titleHighlight + '\'' +
+                ", descriptionHighlight='" + descriptionHighlight + '\'' +
+                '}';
+    }
+}
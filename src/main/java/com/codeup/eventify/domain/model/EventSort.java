@@ -0,0 +1,17 @@
+package com.codeup.eventify.domain.model;
+
+public enum EventSort {
+    ID,
+    TITLE,
+    // Chronological: date, then hour, then id
+    DATE;
+
+    public static EventSort fromValue(String value) {
+        for (EventSort sort : values()) {
+            if (sort.name().equalsIgnoreCase(value)) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported event sort: " + value);
+    }
+}
@@ -0,0 +1,283 @@
+package com.codeup.eventify.domain.model;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Objects;
+
+/**
+ * Flat, immutable read model of an event and its venue. Built directly from a query
+ * projection, so reads never materialize managed entities or the {@link Event} /
+ * {@link Venue} graph.
+ */
+public final class EventView {
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final LocalDate date;
+    private final LocalTime hour;
+    private final Double price;
+    private final String hostedBy;
+    private final Long venueId;
+    private final String venueName;
+    private final String venueCountry;
+    private final String venueAddress;
+    private final String venueCity;
+    private final String venueState;
+    private final String venueZipCode;
+    private final Long version;
+    private final Instant updatedAt;
+    private final Long venueVersion;
+    private final Instant venueUpdatedAt;
+
+    public EventView(Long id, String title, String description, LocalDate date, LocalTime hour, Double price,
+            String hostedBy, Long venueId, String venueName, String venueCountry, String venueAddress,
+            String venueCity, String venueState, String venueZipCode) {
+        this(id, title, description, date, hour, price, hostedBy, venueId, venueName, venueCountry, venueAddress,
+                venueCity, venueState, venueZipCode, null, null, null, null);
+    }
+
+    public EventView(Long id, String title, String description, LocalDate date, LocalTime hour, Double price,
+            String hostedBy, Long venueId, String venueName, String venueCountry, String venueAddress,
+            String venueCity, String venueState, String venueZipCode, Long version, Instant updatedAt,
+            Long venueVersion, Instant venueUpdatedAt) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.date = date;
+        this.hour = hour;
+        this.price = price;
+        this.hostedBy = hostedBy;
+        this.venueId = venueId;
+        this.venueName = venueName;
+        this.venueCountry = venueCountry;
+        this.venueAddress = venueAddress;
+        this.venueCity = venueCity;
+        this.venueState = venueState;
+        this.venueZipCode = venueZipCode;
+        this.version = version;
+        this.updatedAt = updatedAt;
+        this.venueVersion = venueVersion;
+        this.venueUpdatedAt = venueUpdatedAt;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private Long id;
+        private String title;
+        private String description;
+        private LocalDate date;
+        private LocalTime hour;
+        private Double price;
+        private String hostedBy;
+        private Long venueId;
+        private String venueName;
+        private String venueCountry;
+        private String venueAddress;
+        private String venueCity;
+        private String venueState;
+        private String venueZipCode;
+        private Long version;
+        private Instant updatedAt;
+        private Long venueVersion;
+        private Instant venueUpdatedAt;
+
+        public Builder id(Long id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder title(String title) {
+            this.title = title;
+            return this;
+        }
+
+        public Builder description(String description) {
+            this.description = description;
+            return this;
+        }
+
+        public Builder date(LocalDate date) {
+            this.date = date;
+            return this;
+        }
+
+        public Builder hour(LocalTime hour) {
+            this.hour = hour;
+            return this;
+        }
+
+        public Builder price(Double price) {
+            this.price = price;
+            return this;
+        }
+
+        public Builder hostedBy(String hostedBy) {
+            this.hostedBy = hostedBy;
+            return this;
+        }
+
+        public Builder venue(Venue venue) {
+            if (venue != null) {
+                this.venueId = venue.getId();
+                this.venueName = venue.getName();
+                this.venueCountry = venue.getCountry();
+                this.venueAddress = venue.getAddress();
+                this.venueCity = venue.getCity();
+                this.venueState = venue.getState();
+                this.venueZipCode = venue.getZipCode();
+                this.venueVersion = venue.getVersion();
+                this.venueUpdatedAt = venue.getUpdatedAt();
+            }
+            return this;
+        }
+
+        public Builder version(Long version) {
+            this.version = version;
+            return this;
+        }
+
+        public Builder updatedAt(Instant updatedAt) {
+            this.updatedAt = updatedAt;
+            return this;
+        }
+
+        public EventView build() {
+            return new EventView(id, title, description, date, hour, price, hostedBy, venueId, venueName,
+                    venueCountry, venueAddress, venueCity, venueState, venueZipCode, version, updatedAt,
+                    venueVersion, venueUpdatedAt);
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public LocalTime getHour() {
+        return hour;
+    }
+
+    public Double getPrice() {
+        return price;
+    }
+
+    public String getHostedBy() {
+        return hostedBy;
+    }
+
+    public Long getVenueId() {
+        return venueId;
+    }
+
+    public String getVenueName() {
+        return venueName;
+    }
+
+    public String getVenueCountry() {
+        return venueCountry;
+    }
+
+    public String getVenueAddress() {
+        return venueAddress;
+    }
+
+    public String getVenueCity() {
+        return venueCity;
+    }
+
+    public String getVenueState() {
+        return venueState;
+    }
+
+    public String getVenueZipCode() {
+        return venueZipCode;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getVenueVersion() {
+        return venueVersion;
+    }
+
+    public Instant getVenueUpdatedAt() {
+        return venueUpdatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        EventView that = (EventView) o;
+        return Objects.equals(id, that.id) &&
+                Objects.equals(title, that.title) &&
+                Objects.equals(description, that.description) &&
+                Objects.equals(date, that.date) &&
+                Objects.equals(hour, that.hour) &&
+                Objects.equals(price, that.price) &&
+                Objects.equals(hostedBy, that.hostedBy) &&
+                Objects.equals(venueId, that.venueId) &&
+                Objects.equals(venueName, that.venueName) &&
+                Objects.equals(venueCountry, that.venueCountry) &&
+                Objects.equals(venueAddress, that.venueAddress) &&
+                Objects.equals(venueCity, that.venueCity) &&
+                Objects.equals(venueState, that.venueState) &&
+                Objects.equals(venueZipCode, that.venueZipCode) &&
+                Objects.equals(version, that.version) &&
+                Objects.equals(updatedAt, that.updatedAt) &&
+                Objects.equals(venueVersion, that.venueVersion) &&
+                Objects.equals(venueUpdatedAt, that.venueUpdatedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, title, description, date, hour, price, hostedBy, venueId, venueName, venueCountry,
+                venueAddress, venueCity, venueState, venueZipCode, version, updatedAt, venueVersion, venueUpdatedAt);
+    }
+
+    @Override
+    public String toString() {
+        return "EventView{" +
+                "id=" + id +
+                ", title='" + title + '\'' +
+                ", description='" + description + '\'' +
+                ", date=" + date +
+                ", hour=" + hour +
+                ", price=" + price +
+                ", hostedBy='" + hostedBy + '\'' +
+                ", venueId=" + venueId +
+                ", venueName='" + venueName + '\'' +
+                ", venueCountry='" + venueCountry + '\'' +
+                ", venueAddress='" + venueAddress + '\'' +
+                ", venueCity='" + venueCity + '\'' +
+                ", venueState='" + venueState + '\'' +
+                ", venueZipCode='" + venueZipCode + '\'' +
+                ", version=" + version +
+                ", updatedAt=" + updatedAt +
+                ", venueVersion=" + venueVersion +
+                ", venueUpdatedAt=" + venueUpdatedAt +
+                '}';
+    }
+}
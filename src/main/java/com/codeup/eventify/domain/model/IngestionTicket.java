@@ -0,0 +1,78 @@
+package com.codeup.eventify.domain.model;
+
+import java.util.Objects;
+
+/**
+ * Tracks one event accepted for asynchronous creation: {@code QUEUED} until the
+ * background writer has stored it, then {@code CREATED} with the new event's id or
+ * {@code FAILED} with the reason.
+ */
+public class IngestionTicket {
+    private final String trackingId;
+    private final IngestionStatus status;
+    private final Long eventId;
+    private final String error;
+
+    private IngestionTicket(String trackingId, IngestionStatus status, Long eventId, String error) {
+        this.trackingId = trackingId;
+        this.status = status;
+        this.eventId = eventId;
+        this.error = error;
+    }
+
+    public static IngestionTicket queued(String trackingId) {
+        return new IngestionTicket(trackingId, IngestionStatus.QUEUED, null, null);
+    }
+
+    public static IngestionTicket created(String trackingId, Long eventId) {
+        return new IngestionTicket(trackingId, IngestionStatus.CREATED, eventId, null);
+    }
+
+    public static IngestionTicket failed(String trackingId, String error) {
+        return new IngestionTicket(trackingId, IngestionStatus.FAILED, null, error);
+    }
+
+    public String getTrackingId() {
+        return trackingId;
+    }
+
+    public IngestionStatus getStatus() {
+        return status;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        IngestionTicket that = (IngestionTicket) o;
+        return Objects.equals(trackingId, that.trackingId) &&
+                status == that.status &&
+                Objects.equals(eventId, that.eventId) &&
+                Objects.equals(error, that.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(trackingId, status, eventId, error);
+    }
+
+    @Override
+    public String toString() {
+        return "IngestionTicket{" +
+                "trackingId='" + trackingId + '\'' +
+                ", status=" + status +
+                ", eventId=" + eventId +
+                ", error='" + error + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,62 @@
+package com.codeup.eventify.domain.model;
+
+import java.util.List;
+import java.util.Objects;
+
+public class OffsetPage<T> {
+    private final List<T> items;
+    private final int offset;
+    private final int limit;
+    private final boolean hasMore;
+
+    public OffsetPage(List<T> items, int offset, int limit, boolean hasMore) {
+        this.items = List.copyOf(items);
+        this.offset = offset;
+        this.limit = limit;
+        this.hasMore = hasMore;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public boolean hasMore() {
+        return hasMore;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        OffsetPage<?> that = (OffsetPage<?>) o;
+        return offset == that.offset &&
+                limit == that.limit &&
+                hasMore == that.hasMore &&
+                Objects.equals(items, that.items);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(items, offset, limit, hasMore);
+    }
+
+    @Override
+    public String toString() {
+        return "OffsetPage{" +
+                "items=" + items +
+                ", offset=" + offset +
+                ", limit=" + limit +
+                ", hasMore=" + hasMore +
+                '}';
+    }
+}
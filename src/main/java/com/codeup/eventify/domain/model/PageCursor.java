@@ -0,0 +1,85 @@
+package com.codeup.eventify.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position of the last row returned by a keyset page. Clients only ever see the
+ * encoded form, so the layout can change without breaking the API contract.
+ */
+public class PageCursor {
+    private static final char SEPARATOR = ':';
+
+    private final String sort;
+    private final Long id;
+    private final String sortValue;
+
+    public PageCursor(String sort, Long id, String sortValue) {
+        this.sort = sort;
+        this.id = id;
+        this.sortValue = sortValue;
+    }
+
+    public static PageCursor decode(String encoded) {
+        String payload;
+        try {
+            payload = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
+
+        String[] parts = payload.split(String.valueOf(SEPARATOR), 3);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
+        try {
+            return new PageCursor(parts[0], Long.parseLong(parts[1]), parts[2].isEmpty() ? null : parts[2]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
+    }
+
+    public String encode() {
+        String payload = sort + SEPARATOR + id + SEPARATOR + (sortValue == null ? "" : sortValue);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getSortValue() {
+        return sortValue;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        PageCursor that = (PageCursor) o;
+        return Objects.equals(sort, that.sort) &&
+                Objects.equals(id, that.id) &&
+                Objects.equals(sortValue, that.sortValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sort, id, sortValue);
+    }
+
+    @Override
+    public String toString() {
+        return "PageCursor{" +
+                "sort='" + sort + '\'' +
+                ", id=" + id +
+                ", sortValue='" + sortValue + '\'' +
+                '}';
+    }
+}
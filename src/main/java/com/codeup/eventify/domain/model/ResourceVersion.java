@@ -0,0 +1,98 @@
+package com.codeup.eventify.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Version of one resource representation, as used for HTTP validators. {@code version}
+ * is the resource's own optimistic-lock counter; {@code tag} also covers any other
+ * resource embedded in the representation (an event's venue), so it changes whenever
+ * anything shown changes; {@code lastModified} is the latest of their update times.
+ */
+public class ResourceVersion {
+    private final long version;
+    private final String tag;
+    private final Instant lastModified;
+
+    private ResourceVersion(long version, String tag, Instant lastModified) {
+        this.version = version;
+        this.tag = tag;
+        this.lastModified = lastModified;
+    }
+
+    public static ResourceVersion of(Long version, Instant updatedAt) {
+        long value = version == null ? 0L : version;
+        return new ResourceVersion(value, Long.toString(value), updatedAt);
+    }
+
+    public static ResourceVersion of(Venue venue) {
+        return of(venue.getVersion(), venue.getUpdatedAt());
+    }
+
+    public static ResourceVersion of(Event event) {
+        ResourceVersion version = of(event.getVersion(), event.getUpdatedAt());
+        return event.getVenue() == null
+                ? version
+                : version.including(event.getVenue().getVersion(), event.getVenue().getUpdatedAt());
+    }
+
+    public static ResourceVersion of(EventView event) {
+        ResourceVersion version = of(event.getVersion(), event.getUpdatedAt());
+        return event.getVenueId() == null
+                ? version
+                : version.including(event.getVenueVersion(), event.getVenueUpdatedAt());
+    }
+
+    /**
+     * Folds the version of an embedded resource into the tag and last-modified time,
+     * leaving {@link #getVersion()} as this resource's own counter.
+     */
+    public ResourceVersion including(Long version, Instant updatedAt) {
+        Instant latest = lastModified == null || (updatedAt != null && updatedAt.isAfter(lastModified))
+                ? updatedAt
+                : lastModified;
+        return new ResourceVersion(this.version, tag + "." + (version == null ? 0L : version), latest);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+    public boolean matches(String tag) {
+        return this.tag.equals(tag);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        ResourceVersion that = (ResourceVersion) o;
+        return version == that.version &&
+                Objects.equals(tag, that.tag) &&
+                Objects.equals(lastModified, that.lastModified);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(version, tag, lastModified);
+    }
+
+    @Override
+    public String toString() {
+        return "ResourceVersion{" +
+                "version=" + version +
+                ", tag='" + tag + '\'' +
+                ", lastModified=" + lastModified +
+                '}';
+    }
+}
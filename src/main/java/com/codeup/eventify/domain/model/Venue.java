@@ -1,5 +1,6 @@
 package com.codeup.eventify.domain.model;
 
+import java.time.Instant;
 import java.util.Objects;
 
 public class Venue {
@@ -10,11 +11,18 @@ public class Venue {
     private String city;
     private String state;
     private String zipCode;
+    private Long version;
+    private Instant updatedAt;
 
     public Venue() {
     }
 
     public Venue(Long id, String name, String country, String address, String city, String state, String zipCode) {
+        this(id, name, country, address, city, state, zipCode, null, null);
+    }
+
+    public Venue(Long id, String name, String country, String address, String city, String state, String zipCode,
+            Long version, Instant updatedAt) {
         this.id = id;
         this.name = name;
         this.country = country;
@@ -22,6 +30,8 @@ public class Venue {
         this.city = city;
         this.state = state;
         this.zipCode = zipCode;
+        this.version = version;
+        this.updatedAt = updatedAt;
     }
 
     public static Builder builder() {
@@ -36,6 +46,8 @@ public class Venue {
         private String city;
         private String state;
         private String zipCode;
+        private Long version;
+        private Instant updatedAt;
 
         public Builder id(Long id) {
             this.id = id;
@@ -72,8 +84,18 @@ public class Venue {
             return this;
         }
 
+        public Builder version(Long version) {
+            this.version = version;
+            return this;
+        }
+
+        public Builder updatedAt(Instant updatedAt) {
+            this.updatedAt = updatedAt;
+            return this;
+        }
+
         public Venue build() {
-            return new Venue(id, name, country, address, city, state, zipCode);
+            return new Venue(id, name, country, address, city, state, zipCode, version, updatedAt);
         }
     }
 
@@ -133,6 +155,22 @@ public class Venue {
         this.zipCode = zipCode;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -146,12 +184,14 @@ public class Venue {
                 Objects.equals(address, venue.address) &&
                 Objects.equals(city, venue.city) &&
                 Objects.equals(state, venue.state) &&
-                Objects.equals(zipCode, venue.zipCode);
+                Objects.equals(zipCode, venue.zipCode) &&
+                Objects.equals(version, venue.version) &&
+                Objects.equals(updatedAt, venue.updatedAt);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, name, country, address, city, state, zipCode);
+        return Objects.hash(id, name, country, address, city, state, zipCode, version, updatedAt);
     }
 
     @Override
@@ -164,6 +204,8 @@ public class Venue {
                 ", city='" + city + '\'' +
                 ", state='" + state + '\'' +
                 ", zipCode='" + zipCode + '\'' +
+                ", version=" + version +
+                ", updatedAt=" + updatedAt +
                 '}';
     }
 }
@@ -0,0 +1,15 @@
+package com.codeup.eventify.domain.model;
+
+public enum VenueSort {
+    ID,
+    NAME;
+
+    public static VenueSort fromValue(String value) {
+        for (VenueSort sort : values()) {
+            if (sort.name().equalsIgnoreCase(value)) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported venue sort: " + value);
+    }
+}
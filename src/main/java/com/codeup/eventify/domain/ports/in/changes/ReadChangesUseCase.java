@@ -0,0 +1,11 @@
+package com.codeup.eventify.domain.ports.in.changes;
+
+import com.codeup.eventify.domain.model.ChangePage;
+
+public interface ReadChangesUseCase {
+    ChangePage getChangesAfter(long sequence, int limit);
+
+    long getLatestSequence();
+
+    Runnable subscribe(Runnable listener);
+}
@@ -0,0 +1,10 @@
+package com.codeup.eventify.domain.ports.in.events;
+
+import java.util.List;
+
+import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.model.EventCreationResult;
+
+public interface CreateEventsUseCase {
+    List<EventCreationResult> createEvents(List<Event> events);
+}
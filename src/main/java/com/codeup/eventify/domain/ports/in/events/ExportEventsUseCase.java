@@ -0,0 +1,9 @@
+package com.codeup.eventify.domain.ports.in.events;
+
+import java.util.function.Consumer;
+
+import com.codeup.eventify.domain.model.Event;
+
+public interface ExportEventsUseCase {
+    long exportEvents(Consumer<Event> consumer);
+}
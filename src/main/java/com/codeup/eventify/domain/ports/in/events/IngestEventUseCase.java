@@ -0,0 +1,10 @@
+package com.codeup.eventify.domain.ports.in.events;
+
+import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.model.IngestionTicket;
+
+public interface IngestEventUseCase {
+    IngestionTicket submitEvent(Event event);
+
+    IngestionTicket getTicket(String trackingId);
+}
@@ -2,12 +2,20 @@ package com.codeup.eventify.domain.ports.in.events;
 
 import java.util.List;
 
-import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.model.CursorPage;
+import com.codeup.eventify.domain.model.DateRange;
+import com.codeup.eventify.domain.model.EventSort;
+import com.codeup.eventify.domain.model.EventView;
+import com.codeup.eventify.domain.model.ResourceVersion;
 
 public interface RetrieveEventUseCase {
-    Event getEventById(Long id);
+    EventView getEventById(Long id);
 
-    List<Event> getAllEvents();
+    ResourceVersion getEventVersion(Long id);
 
-    List<Event> getEventsByVenueId(Long venueId);
+    List<EventView> getAllEvents();
+
+    CursorPage<EventView> getEventsPage(int limit, String after, EventSort sort, DateRange range);
+
+    List<EventView> getEventsByVenueId(Long venueId);
 }
@@ -0,0 +1,8 @@
+package com.codeup.eventify.domain.ports.in.events;
+
+import com.codeup.eventify.domain.model.EventSearchHit;
+import com.codeup.eventify.domain.model.OffsetPage;
+
+public interface SearchEventsUseCase {
+    OffsetPage<EventSearchHit> searchEvents(String query, int limit, int offset);
+}
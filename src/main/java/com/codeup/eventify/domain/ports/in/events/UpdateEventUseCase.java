@@ -3,5 +3,8 @@ package com.codeup.eventify.domain.ports.in.events;
 import com.codeup.eventify.domain.model.Event;
 
 public interface UpdateEventUseCase {
-    Event updateEvent(Long id, Event event);
+    /**
+     * @param expectedVersion version tag the caller last saw, or {@code null} to update unconditionally
+     */
+    Event updateEvent(Long id, Event event, String expectedVersion);
 }
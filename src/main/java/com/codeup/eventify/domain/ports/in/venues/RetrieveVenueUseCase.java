@@ -2,10 +2,17 @@ package com.codeup.eventify.domain.ports.in.venues;
 
 import java.util.List;
 
+import com.codeup.eventify.domain.model.CursorPage;
+import com.codeup.eventify.domain.model.ResourceVersion;
 import com.codeup.eventify.domain.model.Venue;
+import com.codeup.eventify.domain.model.VenueSort;
 
 public interface RetrieveVenueUseCase {
     Venue getVenueById(Long id);
 
+    ResourceVersion getVenueVersion(Long id);
+
     List<Venue> getAllVenues();
+
+    CursorPage<Venue> getVenuesPage(int limit, String after, VenueSort sort);
 }
@@ -3,5 +3,8 @@ package com.codeup.eventify.domain.ports.in.venues;
 import com.codeup.eventify.domain.model.Venue;
 
 public interface UpdateVenueUseCase {
-    Venue updateVenue(Long id, Venue venue);
+    /**
+     * @param expectedVersion version tag the caller last saw, or {@code null} to update unconditionally
+     */
+    Venue updateVenue(Long id, Venue venue, String expectedVersion);
 }
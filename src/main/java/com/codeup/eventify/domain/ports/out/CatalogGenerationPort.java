@@ -0,0 +1,34 @@
+package com.codeup.eventify.domain.ports.out;
+
+import java.util.Collection;
+
+/**
+ * Generation counters for caches of whole catalog reads. A counter only ever increases, and
+ * does so whenever something read through it changes, so a result built at one generation
+ * stays valid until the generation moves on. Called once the change has been stored;
+ * inside a transaction it takes effect on commit.
+ */
+public interface CatalogGenerationPort {
+
+    /**
+     * Events of these venues were created, updated or deleted.
+     */
+    void eventsChanged(Collection<Long> venueIds);
+
+    /**
+     * The venue was created, updated or deleted (deleting it deletes its events too).
+     */
+    void venueChanged(Long venueId);
+
+    /**
+     * Covers all events, including the venue details embedded in them.
+     */
+    long eventsGeneration();
+
+    /**
+     * Covers the events of one venue.
+     */
+    long venueEventsGeneration(Long venueId);
+
+    long venuesGeneration();
+}
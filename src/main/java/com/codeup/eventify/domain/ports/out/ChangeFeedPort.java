@@ -0,0 +1,24 @@
+package com.codeup.eventify.domain.ports.out;
+
+import com.codeup.eventify.domain.model.ChangePage;
+import com.codeup.eventify.domain.model.ChangeResource;
+import com.codeup.eventify.domain.model.ChangeType;
+
+public interface ChangeFeedPort {
+
+    /**
+     * Appends a change with the next sequence number and wakes every subscriber. Called
+     * once the change has been stored; inside a transaction it takes effect on commit.
+     */
+    void publish(ChangeResource resource, ChangeType type, Long resourceId, Long version);
+
+    ChangePage readAfter(long sequence, int limit);
+
+    long latestSequence();
+
+    /**
+     * Registers a listener run (on the publishing thread, so it must not block) after every
+     * change. The returned action unsubscribes it.
+     */
+    Runnable subscribe(Runnable listener);
+}
@@ -0,0 +1,18 @@
+package com.codeup.eventify.domain.ports.out;
+
+import java.util.Optional;
+
+import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.model.IngestionTicket;
+
+public interface EventIngestionQueuePort {
+
+    /**
+     * Durably queues a validated event for creation and returns its {@code QUEUED} ticket.
+     * Throws {@link com.codeup.eventify.domain.exception.IngestionQueueFullException} when
+     * the queue is at capacity.
+     */
+    IngestionTicket enqueue(Event event);
+
+    Optional<IngestionTicket> findTicket(String trackingId);
+}
@@ -0,0 +1,30 @@
+package com.codeup.eventify.domain.ports.out;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.codeup.eventify.domain.model.DateRange;
+import com.codeup.eventify.domain.model.EventSort;
+import com.codeup.eventify.domain.model.EventView;
+import com.codeup.eventify.domain.model.PageCursor;
+import com.codeup.eventify.domain.model.ResourceVersion;
+
+public interface EventReadModelPort {
+
+    Optional<EventView> findById(Long id);
+
+    /**
+     * Version of the event's representation (including its venue), read without loading the event itself.
+     */
+    Optional<ResourceVersion> findVersionById(Long id);
+
+    List<EventView> findAll();
+
+    /**
+     * Next keyset page after {@code after} (or the first page when it is null). A bounded
+     * {@code range} is only supported with {@link EventSort#DATE}, which also skips undated events.
+     */
+    List<EventView> findPage(EventSort sort, PageCursor after, DateRange range, int limit);
+
+    List<EventView> findByVenueId(Long venueId);
+}
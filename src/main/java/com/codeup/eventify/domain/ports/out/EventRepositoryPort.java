@@ -1,18 +1,34 @@
 package com.codeup.eventify.domain.ports.out;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import com.codeup.eventify.domain.model.Event;
 
 public interface EventRepositoryPort {
 
+    /**
+     * Inserts a new event, or replaces an existing one if it has an id. Replacing requires the
+     * event's current version; if another write got there first a
+     * {@link com.codeup.eventify.domain.exception.StaleVersionException} is thrown.
+     */
     Event save(Event event);
 
+    /**
+     * Saves the events in one unit: if any of them is rejected (e.g. a taken title) none of
+     * the new events is stored.
+     */
+    List<Event> saveAll(List<Event> events);
+
     Optional<Event> findById(Long id);
 
     List<Event> findAll();
 
+    void streamAll(Consumer<Event> action);
+
     List<Event> findByTitle(String title);
 
     List<Event> findByVenueId(Long venueId);
@@ -21,6 +37,8 @@ public interface EventRepositoryPort {
 
     boolean existsByTitle(String title);
 
+    Set<String> findExistingTitles(Collection<String> titles);
+
     void deleteById(Long id);
 
     boolean existsById(Long id);
@@ -0,0 +1,14 @@
+package com.codeup.eventify.domain.ports.out;
+
+import java.util.List;
+
+import com.codeup.eventify.domain.model.EventSearchHit;
+
+public interface EventSearchPort {
+
+    /**
+     * Matches ordered by descending rank, then id. The query uses web-search syntax:
+     * all words must match, {@code "quoted phrases"}, {@code or} and {@code -excluded}.
+     */
+    List<EventSearchHit> search(String query, int limit, int offset);
+}
@@ -1,9 +1,13 @@
 package com.codeup.eventify.domain.ports.out;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import com.codeup.eventify.domain.model.PageCursor;
+import com.codeup.eventify.domain.model.ResourceVersion;
 import com.codeup.eventify.domain.model.Venue;
+import com.codeup.eventify.domain.model.VenueSort;
 
 public interface VenueRepositoryPort {
 
@@ -11,8 +15,23 @@ public interface VenueRepositoryPort {
 
     Optional<Venue> findById(Long id);
 
+    /**
+     * Version of the venue, read without loading the venue itself.
+     */
+    Optional<ResourceVersion> findVersionById(Long id);
+
+    /**
+     * Version of the venue as last committed, for checking a precondition before a write. Unlike
+     * {@link #findVersionById} it is never answered from a cache.
+     */
+    Optional<ResourceVersion> findCurrentVersionById(Long id);
+
+    List<Venue> findAllById(Collection<Long> ids);
+
     List<Venue> findAll();
 
+    List<Venue> findPage(VenueSort sort, PageCursor after, int limit);
+
     Optional<Venue> findByName(String name);
 
     boolean existsByName(String name);
@@ -21,5 +40,9 @@ public interface VenueRepositoryPort {
 
     boolean existsById(Long id);
 
+    /**
+     * Replaces the venue. When {@code venue} carries a version the write only succeeds if it is
+     * still current, otherwise a {@link com.codeup.eventify.domain.exception.StaleVersionException} is thrown.
+     */
     Venue update(Long id, Venue venue);
 }
@@ -0,0 +1,84 @@
+package com.codeup.eventify.infrastructure.adapters.in.web;
+
+import com.codeup.eventify.domain.model.ChangePage;
+import com.codeup.eventify.domain.model.ChangeRecord;
+import com.codeup.eventify.domain.ports.in.changes.ReadChangesUseCase;
+import com.codeup.eventify.infrastructure.adapters.in.web.dto.response.ChangePageResponseDTO;
+import com.codeup.eventify.infrastructure.adapters.in.web.dto.response.ChangeResponseDTO;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+@Tag(name = "Changes", description = "Change feed for events and venues")
+public class ChangeRestAdapter {
+
+        private final ReadChangesUseCase readChangesUseCase;
+        private final ChangeStreams changeStreams;
+
+        @Operation(summary = "Get changes", description = "Read the creates, updates and deletes of events and venues recorded after a sequence number, oldest first")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Changes retrieved successfully"),
+                        @ApiResponse(responseCode = "400", description = "Negative sequence or limit out of range")
+        })
+        @GetMapping
+        public ResponseEntity<ChangePageResponseDTO> getChanges(
+                        @Parameter(description = "Sequence number of the last change already seen (0 for the oldest retained)") @RequestParam(defaultValue = "0") long after,
+                        @Parameter(description = "Maximum number of changes to return (1-1000)") @RequestParam(defaultValue = "100") int limit) {
+                ChangePage page = readChangesUseCase.getChangesAfter(after, limit);
+                return ResponseEntity.ok(ChangePageResponseDTO.builder()
+                                .changes(page.getChanges().stream().map(ChangeRestAdapter::toResponseDTO).toList())
+                                .gap(page.isGap())
+                                .latestSequence(page.getLatestSequence())
+                                .build());
+        }
+
+        @Operation(summary = "Stream changes", description = "Server-Sent Events stream of changes. Each 'change' event carries its sequence number as the event id, so a reconnecting client resumes with Last-Event-ID. A 'reset' event means changes were missed and the catalog must be reloaded")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Stream opened"),
+                        @ApiResponse(responseCode = "400", description = "Negative sequence number"),
+                        @ApiResponse(responseCode = "503", description = "Too many streams open, retry later")
+        })
+        @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        public ResponseEntity<SseEmitter> streamChanges(
+                        @Parameter(description = "Sequence number to resume after, set by EventSource on reconnect") @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+                        @Parameter(description = "Sequence number to start after; defaults to only new changes") @RequestParam(required = false) Long after) {
+                long cursor = lastEventId != null ? lastEventId
+                                : after != null ? after : readChangesUseCase.getLatestSequence();
+                if (cursor < 0) {
+                        throw new IllegalArgumentException("Sequence cannot be negative");
+                }
+                return changeStreams.open(cursor)
+                                .map(ResponseEntity::ok)
+                                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                                .header(HttpHeaders.RETRY_AFTER, "5")
+                                                .build());
+        }
+
+        static ChangeResponseDTO toResponseDTO(ChangeRecord change) {
+                return ChangeResponseDTO.builder()
+                                .sequence(change.getSequence())
+                                .resource(change.getResource().name())
+                                .type(change.getType().name())
+                                .id(change.getResourceId())
+                                .version(change.getVersion())
+                                .occurredAt(change.getOccurredAt())
+                                .build();
+        }
+}
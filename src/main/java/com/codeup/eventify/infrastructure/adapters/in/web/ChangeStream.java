@@ -0,0 +1,126 @@
+package com.codeup.eventify.infrastructure.adapters.in.web;
+
+import com.codeup.eventify.domain.model.ChangePage;
+import com.codeup.eventify.domain.model.ChangeRecord;
+import com.codeup.eventify.domain.ports.in.changes.ReadChangesUseCase;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One SSE subscriber of the change feed. The feed only signals that something changed;
+ * this stream then reads every change after the last one it sent, so a burst of changes
+ * costs one wake-up and a client that falls behind catches up from the buffer. At most one
+ * send task per stream runs at a time, on the shared sender executor, so a slow client
+ * only delays itself.
+ */
+@Slf4j
+final class ChangeStream {
+
+        private static final int PAGE_SIZE = 100;
+
+        private final SseEmitter emitter;
+        private final ReadChangesUseCase changes;
+        private final Executor sender;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final Runnable onClose;
+        private volatile boolean heartbeatDue;
+        // Only touched by the send task, which never runs concurrently with itself
+        private long cursor;
+        private Runnable unsubscribe;
+        private ScheduledFuture<?> heartbeat;
+
+        ChangeStream(SseEmitter emitter, ReadChangesUseCase changes, Executor sender, long cursor, Runnable onClose) {
+                this.emitter = emitter;
+                this.changes = changes;
+                this.sender = sender;
+                this.cursor = cursor;
+                this.onClose = onClose;
+        }
+
+        void start(TaskScheduler heartbeats, Duration heartbeatInterval) {
+                emitter.onCompletion(this::close);
+                emitter.onTimeout(this::close);
+                emitter.onError(e -> close());
+                unsubscribe = changes.subscribe(this::wake);
+                heartbeat = heartbeats.scheduleAtFixedRate(() -> {
+                        heartbeatDue = true;
+                        wake();
+                }, Instant.now().plus(heartbeatInterval), heartbeatInterval);
+                // Replays whatever is already after the cursor
+                wake();
+        }
+
+        private void wake() {
+                if (!closed.get() && scheduled.compareAndSet(false, true)) {
+                        try {
+                                sender.execute(this::send);
+                        } catch (RejectedExecutionException e) {
+                                scheduled.set(false);
+                                close();
+                        }
+                }
+        }
+
+        private void send() {
+                try {
+                        ChangePage page;
+                        do {
+                                page = changes.getChangesAfter(cursor, PAGE_SIZE);
+                                if (page.isGap()) {
+                                        // Changes were missed: the client has to reload before applying these
+                                        emitter.send(SseEmitter.event().name("reset").data(page.getLatestSequence()));
+                                        // Resume from what is retained now; a cursor past the latest change (this
+                                        // instance restarted) would otherwise report the same gap on every wake-up
+                                        cursor = page.getChanges().isEmpty() ? page.getLatestSequence()
+                                                        : page.getChanges().get(0).getSequence() - 1;
+                                }
+                                for (ChangeRecord change : page.getChanges()) {
+                                        emitter.send(SseEmitter.event()
+                                                        .id(Long.toString(change.getSequence()))
+                                                        .name("change")
+                                                        .data(ChangeRestAdapter.toResponseDTO(change), MediaType.APPLICATION_JSON));
+                                        cursor = change.getSequence();
+                                }
+                        } while (page.getChanges().size() == PAGE_SIZE);
+                        if (heartbeatDue) {
+                                heartbeatDue = false;
+                                emitter.send(SseEmitter.event().comment("heartbeat"));
+                        }
+                } catch (IOException | IllegalStateException e) {
+                        // The client went away or the emitter already completed
+                        log.debug("Closing change stream: {}", e.getMessage());
+                        close();
+                } finally {
+                        scheduled.set(false);
+                }
+                // A change published while this task was finishing found it still scheduled
+                if (!closed.get() && changes.getLatestSequence() > cursor) {
+                        wake();
+                }
+        }
+
+        private void close() {
+                if (!closed.compareAndSet(false, true)) {
+                        return;
+                }
+                onClose.run();
+                if (unsubscribe != null) {
+                        unsubscribe.run();
+                }
+                if (heartbeat != null) {
+                        heartbeat.cancel(false);
+                }
+        }
+}
@@ -0,0 +1,62 @@
+package com.codeup.eventify.infrastructure.adapters.in.web;
+
+import com.codeup.eventify.domain.ports.in.changes.ReadChangesUseCase;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The open SSE change streams: at most {@code maxStreams} at a time, all sending on the one
+ * bounded {@code senders} executor and woken for heartbeats by {@code heartbeats}.
+ */
+public class ChangeStreams implements MeterBinder {
+
+        private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+
+        private final ReadChangesUseCase changes;
+        private final Executor senders;
+        private final TaskScheduler heartbeats;
+        private final int maxStreams;
+        private final AtomicInteger open = new AtomicInteger();
+
+        public ChangeStreams(ReadChangesUseCase changes, Executor senders, TaskScheduler heartbeats, int maxStreams) {
+                this.changes = changes;
+                this.senders = senders;
+                this.heartbeats = heartbeats;
+                this.maxStreams = maxStreams;
+        }
+
+        /**
+         * A stream of the changes after {@code cursor}, or empty when {@code maxStreams} are
+         * already open.
+         */
+        public Optional<SseEmitter> open(long cursor) {
+                if (open.incrementAndGet() > maxStreams) {
+                        open.decrementAndGet();
+                        return Optional.empty();
+                }
+                // Times out with spring.mvc.async.request-timeout; clients reconnect with Last-Event-ID
+                SseEmitter emitter = new SseEmitter();
+                new ChangeStream(emitter, changes, senders, cursor, open::decrementAndGet).start(heartbeats, HEARTBEAT_INTERVAL);
+                return Optional.of(emitter);
+        }
+
+        public int getOpenStreams() {
+                return open.get();
+        }
+
+        @Override
+        public void bindTo(MeterRegistry registry) {
+                Gauge.builder("eventify.changes.streams", this, ChangeStreams::getOpenStreams)
+                                .description("Open change streams")
+                                .register(registry);
+        }
+}
@@ -0,0 +1,82 @@
+package com.codeup.eventify.infrastructure.adapters.in.web;
+
+import com.codeup.eventify.infrastructure.adapters.in.web.dto.response.ErrorResponseDTO;
+import com.codeup.eventify.infrastructure.limit.AdaptiveConcurrencyLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Sheds load on the event and venue endpoints: reads (GET/HEAD) and writes each pass
+ * through their own {@link AdaptiveConcurrencyLimiter}, and a request over the limit is
+ * answered at once with 503 and {@code Retry-After} instead of waiting for a database
+ * connection. The export is streamed for as long as the client reads, so it is not
+ * limited.
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+        private static final String EXPORT_PATH = "/api/events/export";
+
+        private final AdaptiveConcurrencyLimiter readLimiter;
+        private final AdaptiveConcurrencyLimiter writeLimiter;
+        private final ObjectMapper objectMapper;
+
+        public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter readLimiter, AdaptiveConcurrencyLimiter writeLimiter,
+                        ObjectMapper objectMapper) {
+                this.readLimiter = readLimiter;
+                this.writeLimiter = writeLimiter;
+                this.objectMapper = objectMapper;
+        }
+
+        @Override
+        protected boolean shouldNotFilter(HttpServletRequest request) {
+                return request.getRequestURI().startsWith(EXPORT_PATH);
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                        throws ServletException, IOException {
+                AdaptiveConcurrencyLimiter limiter = isRead(request) ? readLimiter : writeLimiter;
+                Optional<AdaptiveConcurrencyLimiter.Permit> permit = limiter.tryAcquire();
+                if (permit.isEmpty()) {
+                        log.debug("Shedding {} {}: {} limit of {} reached", request.getMethod(), request.getRequestURI(),
+                                        limiter.getName(), limiter.getLimit());
+                        reject(response, limiter);
+                        return;
+                }
+                try {
+                        chain.doFilter(request, response);
+                } finally {
+                        permit.get().release();
+                }
+        }
+
+        private static boolean isRead(HttpServletRequest request) {
+                return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+        }
+
+        private void reject(HttpServletResponse response, AdaptiveConcurrencyLimiter limiter) throws IOException {
+                HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+                response.setStatus(status.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                objectMapper.writeValue(response.getOutputStream(), ErrorResponseDTO.builder()
+                                .status(status.value())
+                                .error(status.getReasonPhrase())
+                                .message("Too many concurrent " + limiter.getName() + " requests, retry shortly")
+                                .build());
+        }
+}
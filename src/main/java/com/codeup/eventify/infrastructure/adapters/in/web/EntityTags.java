@@ -0,0 +1,50 @@
+package com.codeup.eventify.infrastructure.adapters.in.web;
+
+import com.codeup.eventify.domain.model.ResourceVersion;
+
+import org.springframework.http.ResponseEntity;
+
+/**
+ * HTTP validators for {@link ResourceVersion}s: strong {@code ETag}s, {@code Last-Modified},
+ * and the version an {@code If-Match} header asks a write to be made against.
+ */
+final class EntityTags {
+
+        private EntityTags() {
+        }
+
+        static String etag(ResourceVersion version) {
+                return "\"" + version.getTag() + "\"";
+        }
+
+        static long lastModified(ResourceVersion version) {
+                return version.getLastModified() == null ? -1 : version.getLastModified().toEpochMilli();
+        }
+
+        static <B extends ResponseEntity.HeadersBuilder<B>> B withValidators(B builder, ResourceVersion version) {
+                builder.eTag(etag(version));
+                if (version.getLastModified() != null) {
+                        builder.lastModified(version.getLastModified());
+                }
+                return builder;
+        }
+
+        /**
+         * Version tag an {@code If-Match} header requires, or {@code null} when the write is
+         * unconditional (no header, or {@code *}). Weak tags are passed through so they never
+         * match, as If-Match uses strong comparison.
+         */
+        static String expectedVersion(String ifMatch) {
+                if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+                        return null;
+                }
+                String value = ifMatch.trim();
+                if (value.indexOf(',') >= 0) {
+                        throw new IllegalArgumentException("If-Match must be \"*\" or a single entity tag");
+                }
+                if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                        return value.substring(1, value.length() - 1);
+                }
+                return value;
+        }
+}
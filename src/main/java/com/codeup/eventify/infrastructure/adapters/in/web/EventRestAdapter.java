@@ -1,24 +1,62 @@
 package com.codeup.eventify.infrastructure.adapters.in.web;
 
+import com.codeup.eventify.domain.model.CursorPage;
+import com.codeup.eventify.domain.model.DateRange;
 import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.model.EventCreationResult;
+import com.codeup.eventify.domain.model.EventSearchHit;
+import com.codeup.eventify.domain.model.EventSort;
+import com.codeup.eventify.domain.model.EventView;
+import com.codeup.eventify.domain.model.IngestionTicket;
+import com.codeup.eventify.domain.model.OffsetPage;
+import com.codeup.eventify.domain.model.ResourceVersion;
+import com.codeup.eventify.domain.model.Venue;
 import com.codeup.eventify.domain.ports.in.events.*;
+import com.codeup.eventify.domain.ports.out.CatalogGenerationPort;
 import com.codeup.eventify.domain.ports.out.VenueRepositoryPort;
 import com.codeup.eventify.infrastructure.adapters.in.web.dto.request.EventRequestDTO;
+import com.codeup.eventify.infrastructure.adapters.in.web.dto.response.CursorPageResponseDTO;
+import com.codeup.eventify.infrastructure.adapters.in.web.dto.response.EventBatchItemResponseDTO;
+import com.codeup.eventify.infrastructure.adapters.in.web.dto.response.EventBatchResponseDTO;
 import com.codeup.eventify.infrastructure.adapters.in.web.dto.response.EventResponseDTO;
+import com.codeup.eventify.infrastructure.adapters.in.web.dto.response.EventSearchHitResponseDTO;
+import com.codeup.eventify.infrastructure.adapters.in.web.dto.response.IngestionTicketResponseDTO;
+import com.codeup.eventify.infrastructure.adapters.in.web.dto.response.OffsetPageResponseDTO;
+import com.codeup.eventify.infrastructure.adapters.in.web.mapper.EventResponseMapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/events")
@@ -26,79 +64,287 @@ import java.util.List;
 @Tag(name = "Events", description = "Events Management API")
 public class EventRestAdapter {
 
+        private static final int EXPORT_FLUSH_INTERVAL = 100;
+        private static final int MAX_BATCH_SIZE = 1000;
+
         private final CreateEventUseCase createEventUseCase;
+        private final CreateEventsUseCase createEventsUseCase;
         private final RetrieveEventUseCase retrieveEventUseCase;
         private final UpdateEventUseCase updateEventUseCase;
         private final DeleteEventUseCase deleteEventUseCase;
+        private final ExportEventsUseCase exportEventsUseCase;
+        private final SearchEventsUseCase searchEventsUseCase;
         private final VenueRepositoryPort venueRepository;
+        private final ObjectMapper objectMapper;
+        private final CatalogGenerationPort catalogGenerations;
+        private final ResponseBodyCache responseBodyCache;
+        private final Validator validator;
+        // Present only with eventify.ingestion.mode=async
+        private final ObjectProvider<IngestEventUseCase> ingestEventUseCase;
 
-        @Operation(summary = "Create a new event", description = "Create an event with an existing associated venue")
+        @Operation(summary = "Create a new event", description = "Create an event with an existing associated venue. With asynchronous ingestion enabled the event is queued and 202 is returned with a tracking id")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "201", description = "Event created successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = EventResponseDTO.class))),
+                        @ApiResponse(responseCode = "202", description = "Event queued for creation, see the Location header for its status", content = @Content(mediaType = "application/json", schema = @Schema(implementation = IngestionTicketResponseDTO.class))),
                         @ApiResponse(responseCode = "400", description = "Invalid input data"),
-                        @ApiResponse(responseCode = "404", description = "Venue not found")
+                        @ApiResponse(responseCode = "404", description = "Venue not found"),
+                        @ApiResponse(responseCode = "409", description = "An event with the same title already exists"),
+                        @ApiResponse(responseCode = "429", description = "Ingestion queue is full, retry after the Retry-After delay")
         })
         @PostMapping
-        public ResponseEntity<EventResponseDTO> createEvent(@Valid @RequestBody EventRequestDTO requestDTO) {
+        public ResponseEntity<?> createEvent(@Valid @RequestBody EventRequestDTO requestDTO) {
                 Event event = toEvent(requestDTO);
+                IngestEventUseCase ingest = ingestEventUseCase.getIfAvailable();
+                if (ingest != null) {
+                        IngestionTicket ticket = ingest.submitEvent(event);
+                        return ResponseEntity.accepted()
+                                        .location(ServletUriComponentsBuilder.fromCurrentRequestUri()
+                                                        .path("/ingestion/{trackingId}")
+                                                        .buildAndExpand(ticket.getTrackingId())
+                                                        .toUri())
+                                        .body(toTicketDTO(ticket));
+                }
                 Event createdEvent = createEventUseCase.createEvent(event);
-                EventResponseDTO responseDTO = toResponseDTO(createdEvent);
-                return ResponseEntity.status(HttpStatus.CREATED).body(responseDTO);
+                EventResponseDTO responseDTO = EventResponseMapper.toResponseDTO(createdEvent);
+                return EntityTags.withValidators(ResponseEntity.status(HttpStatus.CREATED), ResourceVersion.of(createdEvent))
+                                .body(responseDTO);
+        }
+
+        @Operation(summary = "Create events in bulk", description = "Create up to 1000 events in one request. Each item is validated on its own and reported as created or failed")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "201", description = "All events created successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = EventBatchResponseDTO.class))),
+                        @ApiResponse(responseCode = "207", description = "Some events could not be created, see per-item results", content = @Content(mediaType = "application/json", schema = @Schema(implementation = EventBatchResponseDTO.class))),
+                        @ApiResponse(responseCode = "400", description = "Empty or oversized batch"),
+                        @ApiResponse(responseCode = "409", description = "A title was taken by a concurrent request while the batch was saved; nothing was created")
+        })
+        @PostMapping("/batch")
+        public ResponseEntity<EventBatchResponseDTO> createEvents(@RequestBody List<EventRequestDTO> requestDTOs) {
+                if (requestDTOs.size() > MAX_BATCH_SIZE) {
+                        throw new IllegalArgumentException("Event batch cannot exceed " + MAX_BATCH_SIZE + " items");
+                }
+                // Items are validated one by one, so an invalid item fails alone instead of rejecting the batch
+                List<EventCreationResult> results = new ArrayList<>(Collections.nCopies(requestDTOs.size(), null));
+                List<Event> events = new ArrayList<>(requestDTOs.size());
+                List<Integer> eventIndexes = new ArrayList<>(requestDTOs.size());
+                for (int i = 0; i < requestDTOs.size(); i++) {
+                        String error = validationError(requestDTOs.get(i));
+                        if (error != null) {
+                                results.set(i, EventCreationResult.failure(i, error));
+                        } else {
+                                events.add(toUnresolvedEvent(requestDTOs.get(i)));
+                                eventIndexes.add(i);
+                        }
+                }
+                // Venues are resolved once for the whole batch by the use case, not per item here. An empty
+                // request still goes to the use case, which rejects it
+                if (!events.isEmpty() || requestDTOs.isEmpty()) {
+                        for (EventCreationResult result : createEventsUseCase.createEvents(events)) {
+                                int index = eventIndexes.get(result.getIndex());
+                                results.set(index, result.isSuccess()
+                                                ? EventCreationResult.success(index, result.getEvent())
+                                                : EventCreationResult.failure(index, result.getError()));
+                        }
+                }
+
+                List<EventBatchItemResponseDTO> items = results.stream()
+                                .map(result -> EventBatchItemResponseDTO.builder()
+                                                .index(result.getIndex())
+                                                .status(result.isSuccess() ? "CREATED" : "FAILED")
+                                                .event(result.isSuccess() ? EventResponseMapper.toResponseDTO(result.getEvent()) : null)
+                                                .error(result.getError())
+                                                .build())
+                                .toList();
+                int created = (int) results.stream().filter(EventCreationResult::isSuccess).count();
+                EventBatchResponseDTO responseDTO = EventBatchResponseDTO.builder()
+                                .created(created)
+                                .failed(results.size() - created)
+                                .results(items)
+                                .build();
+
+                HttpStatus status = created == results.size() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+                return ResponseEntity.status(status).body(responseDTO);
         }
 
-        @Operation(summary = "Get event by ID", description = "Retrieve a specific event by its identifier")
+        @Operation(summary = "Get the status of a queued event", description = "Track an event accepted with 202 by POST /api/events until it is created or fails")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Ticket found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = IngestionTicketResponseDTO.class))),
+                        @ApiResponse(responseCode = "404", description = "Unknown or expired tracking id, or asynchronous ingestion is disabled")
+        })
+        @GetMapping("/ingestion/{trackingId}")
+        public ResponseEntity<IngestionTicketResponseDTO> getIngestionTicket(@PathVariable String trackingId) {
+                IngestEventUseCase ingest = ingestEventUseCase.getIfAvailable();
+                if (ingest == null) {
+                        return ResponseEntity.notFound().build();
+                }
+                return ResponseEntity.ok(toTicketDTO(ingest.getTicket(trackingId)));
+        }
+
+        @Operation(summary = "Get event by ID", description = "Retrieve a specific event by its identifier. Supports If-None-Match and If-Modified-Since")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Event found successfully"),
+                        @ApiResponse(responseCode = "304", description = "Event unchanged since the given ETag or date"),
                         @ApiResponse(responseCode = "404", description = "Event not found")
         })
         @GetMapping("/{id}")
-        public ResponseEntity<EventResponseDTO> getEventById(@PathVariable Long id) {
-                Event event = retrieveEventUseCase.getEventById(id);
-                EventResponseDTO responseDTO = toResponseDTO(event);
-                return ResponseEntity.ok(responseDTO);
+        public ResponseEntity<EventResponseDTO> getEventById(@PathVariable Long id, WebRequest request) {
+                // Revalidation only reads the version columns; the event is loaded only if it changed
+                if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null) {
+                        ResourceVersion version = retrieveEventUseCase.getEventVersion(id);
+                        if (request.checkNotModified(EntityTags.etag(version), EntityTags.lastModified(version))) {
+                                return null;
+                        }
+                }
+                EventView event = retrieveEventUseCase.getEventById(id);
+                EventResponseDTO responseDTO = EventResponseMapper.toResponseDTO(event);
+                return EntityTags.withValidators(ResponseEntity.ok(), ResourceVersion.of(event)).body(responseDTO);
         }
 
-        @Operation(summary = "Get all events", description = "Retrieve a list of all available events")
+        @Operation(summary = "Get all events", description = "Retrieve a list of all available events. Served from a response cache until an event or venue changes; gzip-encoded when the client accepts it")
         @ApiResponses(value = {
-                        @ApiResponse(responseCode = "200", description = "Events retrieved successfully")
+                        @ApiResponse(responseCode = "200", description = "Events retrieved successfully", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = EventResponseDTO.class))))
         })
         @GetMapping
-        public ResponseEntity<List<EventResponseDTO>> getAllEvents() {
-                List<Event> events = retrieveEventUseCase.getAllEvents();
-                List<EventResponseDTO> responseDTOs = events.stream()
-                                .map(this::toResponseDTO)
-                                .toList();
-                return ResponseEntity.ok(responseDTOs);
+        public ResponseEntity<byte[]> getAllEvents(
+                        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+                return responseBodyCache.respond("events", null, catalogGenerations.eventsGeneration(), acceptEncoding,
+                                () -> retrieveEventUseCase.getAllEvents().stream()
+                                                .map(EventResponseMapper::toResponseDTO)
+                                                .toList());
         }
 
-        @Operation(summary = "Get events by venue", description = "Retrieve all events associated with a specific venue")
+        @Operation(summary = "Get a page of events", description = "Retrieve events one page at a time using an opaque cursor; each page costs the same regardless of table size. With from/to only events dated within the range are returned, in chronological order")
         @ApiResponses(value = {
-                        @ApiResponse(responseCode = "200", description = "Events retrieved successfully"),
+                        @ApiResponse(responseCode = "200", description = "Page retrieved successfully"),
+                        @ApiResponse(responseCode = "400", description = "Invalid limit, cursor, sort or date range")
+        })
+        @GetMapping("/page")
+        public ResponseEntity<CursorPageResponseDTO<EventResponseDTO>> getEventsPage(
+                        @Parameter(description = "Maximum number of events to return (1-100)") @RequestParam(defaultValue = "20") int limit,
+                        @Parameter(description = "Cursor returned as 'nextCursor' by the previous page") @RequestParam(required = false) String after,
+                        @Parameter(description = "Sort key: id, title or date (default id, or date when from/to is given)") @RequestParam(required = false) String sort,
+                        @Parameter(description = "Earliest event date, inclusive (YYYY-MM-DD)") @RequestParam(required = false) String from,
+                        @Parameter(description = "Latest event date, inclusive (YYYY-MM-DD)") @RequestParam(required = false) String to) {
+                DateRange range = DateRange.parse(from, to);
+                EventSort eventSort = sort != null ? EventSort.fromValue(sort)
+                                : range.isBounded() ? EventSort.DATE : EventSort.ID;
+                CursorPage<EventView> page = retrieveEventUseCase.getEventsPage(limit, after, eventSort, range);
+                CursorPageResponseDTO<EventResponseDTO> responseDTO = CursorPageResponseDTO.<EventResponseDTO>builder()
+                                .items(page.getItems().stream()
+                                                .map(EventResponseMapper::toResponseDTO)
+                                                .toList())
+                                .nextCursor(page.getNextCursor())
+                                .hasMore(page.hasMore())
+                                .build();
+                return ResponseEntity.ok(responseDTO);
+        }
+
+        @Operation(summary = "Search events", description = "Full-text search over event titles and descriptions, ranked by relevance. Supports web-search syntax: quoted phrases, 'or' and '-' to exclude a word")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Search completed successfully"),
+                        @ApiResponse(responseCode = "400", description = "Empty or too long query, invalid limit or offset")
+        })
+        @GetMapping("/search")
+        public ResponseEntity<OffsetPageResponseDTO<EventSearchHitResponseDTO>> searchEvents(
+                        @Parameter(description = "Search text, e.g. jazz -festival") @RequestParam String q,
+                        @Parameter(description = "Maximum number of results to return (1-100)") @RequestParam(defaultValue = "20") int limit,
+                        @Parameter(description = "Number of results to skip (0-1000)") @RequestParam(defaultValue = "0") int offset) {
+                OffsetPage<EventSearchHit> page = searchEventsUseCase.searchEvents(q, limit, offset);
+                OffsetPageResponseDTO<EventSearchHitResponseDTO> responseDTO = OffsetPageResponseDTO.<EventSearchHitResponseDTO>builder()
+                                .items(page.getItems().stream()
+                                                .map(hit -> EventSearchHitResponseDTO.builder()
+                                                                .event(EventResponseMapper.toResponseDTO(hit.getEvent()))
+                                                                .rank(hit.getRank())
+                                                                .titleHighlight(hit.getTitleHighlight())
+                                                                .descriptionHighlight(hit.getDescriptionHighlight())
+                                                                .build())
+                                                .toList())
+                                .offset(page.getOffset())
+                                .limit(page.getLimit())
+                                .hasMore(page.hasMore())
+                                .build();
+                return ResponseEntity.ok(responseDTO);
+        }
+
+        @Operation(summary = "Export all events", description = "Stream the whole event catalog record by record, as NDJSON (one event per line) or as a chunked JSON array")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+                        @ApiResponse(responseCode = "400", description = "Unsupported format")
+        })
+        @GetMapping("/export")
+        public ResponseEntity<StreamingResponseBody> exportEvents(
+                        @Parameter(description = "Output format: ndjson or json") @RequestParam(defaultValue = "ndjson") String format) {
+                boolean ndjson;
+                if ("ndjson".equalsIgnoreCase(format)) {
+                        ndjson = true;
+                } else if ("json".equalsIgnoreCase(format)) {
+                        ndjson = false;
+                } else {
+                        throw new IllegalArgumentException("Unsupported export format: " + format);
+                }
+
+                StreamingResponseBody body = outputStream -> {
+                        try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                                if (!ndjson) {
+                                        generator.writeStartArray();
+                                }
+                                long[] written = { 0 };
+                                exportEventsUseCase.exportEvents(event -> {
+                                        try {
+                                                generator.writeObject(EventResponseMapper.toResponseDTO(event));
+                                                if (ndjson) {
+                                                        generator.writeRaw('\n');
+                                                }
+                                                if (++written[0] % EXPORT_FLUSH_INTERVAL == 0) {
+                                                        generator.flush();
+                                                }
+                                        } catch (IOException e) {
+                                                // Client went away: abort the export so the database cursor is released
+                                                throw new UncheckedIOException(e);
+                                        }
+                                });
+                                if (!ndjson) {
+                                        generator.writeEndArray();
+                                }
+                        }
+                };
+
+                return ResponseEntity.ok()
+                                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                                .body(body);
+        }
+
+        @Operation(summary = "Get events by venue", description = "Retrieve all events associated with a specific venue. Served from a response cache until the venue or one of its events changes; gzip-encoded when the client accepts it")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Events retrieved successfully", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = EventResponseDTO.class)))),
                         @ApiResponse(responseCode = "400", description = "Invalid venue ID")
         })
         @GetMapping("/venue/{venueId}")
-        public ResponseEntity<List<EventResponseDTO>> getEventsByVenueId(@PathVariable Long venueId) {
-                List<Event> events = retrieveEventUseCase.getEventsByVenueId(venueId);
-                List<EventResponseDTO> responseDTOs = events.stream()
-                                .map(this::toResponseDTO)
-                                .toList();
-                return ResponseEntity.ok(responseDTOs);
+        public ResponseEntity<byte[]> getEventsByVenueId(@PathVariable Long venueId,
+                        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+                return responseBodyCache.respond("events-by-venue", venueId, catalogGenerations.venueEventsGeneration(venueId),
+                                acceptEncoding, () -> retrieveEventUseCase.getEventsByVenueId(venueId).stream()
+                                                .map(EventResponseMapper::toResponseDTO)
+                                                .toList());
         }
 
-        @Operation(summary = "Update an event", description = "Update an existing event's information")
+        @Operation(summary = "Update an event", description = "Update an existing event's information. With If-Match, only if it still has that ETag")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Event updated successfully"),
                         @ApiResponse(responseCode = "400", description = "Invalid input data"),
-                        @ApiResponse(responseCode = "404", description = "Event or venue not found")
+                        @ApiResponse(responseCode = "404", description = "Event or venue not found"),
+                        @ApiResponse(responseCode = "409", description = "Another event already has this title"),
+                        @ApiResponse(responseCode = "412", description = "The event changed since the If-Match ETag, or a concurrent update won")
         })
         @PutMapping("/{id}")
         public ResponseEntity<EventResponseDTO> updateEvent(@PathVariable Long id,
+                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                         @Valid @RequestBody EventRequestDTO requestDTO) {
                 Event event = toEvent(requestDTO);
-                Event updatedEvent = updateEventUseCase.updateEvent(id, event);
-                EventResponseDTO responseDTO = toResponseDTO(updatedEvent);
+                Event updatedEvent = updateEventUseCase.updateEvent(id, event, EntityTags.expectedVersion(ifMatch));
+                EventResponseDTO responseDTO = EventResponseMapper.toResponseDTO(updatedEvent);
 
-                return ResponseEntity.ok(responseDTO);
+                return EntityTags.withValidators(ResponseEntity.ok(), ResourceVersion.of(updatedEvent)).body(responseDTO);
         }
 
         @Operation(summary = "Delete an event", description = "Remove an event from the system")
@@ -129,32 +375,40 @@ public class EventRestAdapter {
                                 .build();
         }
 
-        private EventResponseDTO toResponseDTO(Event event) {
-                return EventResponseDTO.builder()
-                                .id(event.getId())
-                                .title(event.getTitle())
-                                .description(event.getDescription())
-                                .venue(toVenueResponseDTO(event.getVenue()))
-                                .date(event.getDate())
-                                .hour(event.getHour())
-                                .price(event.getPrice())
-                                .hostedBy(event.getHostedBy())
+        private static IngestionTicketResponseDTO toTicketDTO(IngestionTicket ticket) {
+                return IngestionTicketResponseDTO.builder()
+                                .trackingId(ticket.getTrackingId())
+                                .status(ticket.getStatus().name())
+                                .eventId(ticket.getEventId())
+                                .error(ticket.getError())
                                 .build();
         }
 
-        private com.codeup.eventify.infrastructure.adapters.in.web.dto.response.VenueResponseDTO toVenueResponseDTO(
-                        com.codeup.eventify.domain.model.Venue venue) {
-                if (venue == null) {
+        // The same constraints @Valid applies to a single create, as one message per item
+        private String validationError(EventRequestDTO requestDTO) {
+                if (requestDTO == null) {
+                        return "Event cannot be null";
+                }
+                Set<ConstraintViolation<EventRequestDTO>> violations = validator.validate(requestDTO);
+                if (violations.isEmpty()) {
                         return null;
                 }
-                return com.codeup.eventify.infrastructure.adapters.in.web.dto.response.VenueResponseDTO.builder()
-                                .id(venue.getId())
-                                .name(venue.getName())
-                                .country(venue.getCountry())
-                                .address(venue.getAddress())
-                                .city(venue.getCity())
-                                .state(venue.getState())
-                                .zipCode(venue.getZipCode())
+                return violations.stream()
+                                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                                .map(ConstraintViolation::getMessage)
+                                .collect(Collectors.joining("; "));
+        }
+
+        private Event toUnresolvedEvent(EventRequestDTO requestDTO) {
+                return Event.builder()
+                                .title(requestDTO.getTitle())
+                                .description(requestDTO.getDescription())
+                                .date(requestDTO.getDate())
+                                .venue(requestDTO.getVenueId() == null ? null
+                                                : Venue.builder().id(requestDTO.getVenueId()).build())
+                                .hour(requestDTO.getHour())
+                                .price(requestDTO.getPrice())
+                                .hostedBy(requestDTO.getHostedBy())
                                 .build();
         }
 }
@@ -0,0 +1,56 @@
+package com.codeup.eventify.infrastructure.adapters.in.web;
+
+import com.codeup.eventify.domain.exception.DuplicateEventTitleException;
+import com.codeup.eventify.domain.exception.IngestionQueueFullException;
+import com.codeup.eventify.domain.exception.StaleVersionException;
+import com.codeup.eventify.infrastructure.adapters.in.web.dto.response.ErrorResponseDTO;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+        @ExceptionHandler(IllegalArgumentException.class)
+        public ResponseEntity<ErrorResponseDTO> handleIllegalArgument(IllegalArgumentException ex) {
+                log.debug("Rejecting request: {}", ex.getMessage());
+                return toResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
+
+        @ExceptionHandler(DuplicateEventTitleException.class)
+        public ResponseEntity<ErrorResponseDTO> handleDuplicateEventTitle(DuplicateEventTitleException ex) {
+                log.debug("Rejecting duplicate event: {}", ex.getMessage());
+                return toResponse(HttpStatus.CONFLICT, ex.getMessage());
+        }
+
+        @ExceptionHandler(StaleVersionException.class)
+        public ResponseEntity<ErrorResponseDTO> handleStaleVersion(StaleVersionException ex) {
+                log.debug("Rejecting stale write: {}", ex.getMessage());
+                return toResponse(HttpStatus.PRECONDITION_FAILED, ex.getMessage());
+        }
+
+        @ExceptionHandler(IngestionQueueFullException.class)
+        public ResponseEntity<ErrorResponseDTO> handleIngestionQueueFull(IngestionQueueFullException ex) {
+                log.debug("Shedding event submission: {}", ex.getMessage());
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                                .header(HttpHeaders.RETRY_AFTER, "1")
+                                .body(toBody(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage()));
+        }
+
+        private ResponseEntity<ErrorResponseDTO> toResponse(HttpStatus status, String message) {
+                return ResponseEntity.status(status).body(toBody(status, message));
+        }
+
+        private ErrorResponseDTO toBody(HttpStatus status, String message) {
+                return ErrorResponseDTO.builder()
+                                .status(status.value())
+                                .error(status.getReasonPhrase())
+                                .message(message)
+                                .build();
+        }
+}
@@ -0,0 +1,120 @@
+package com.codeup.eventify.infrastructure.adapters.in.web;
+
+import com.codeup.eventify.infrastructure.adapters.in.web.dto.response.ErrorResponseDTO;
+import com.codeup.eventify.infrastructure.limit.TokenBucketStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Per-client rate limit on the event and venue reads. A client is its API key header when
+ * that key is one of {@code apiKeys}, otherwise its IP address, so made-up keys neither
+ * escape the per-address limit nor crowd real clients out of the store. Each request takes tokens from the client's bucket
+ * in a {@link TokenBucketStore}: {@code itemCost} for a single resource, {@code searchCost}
+ * for a search and {@code listCost} for a list, page or export. Responses carry
+ * {@code RateLimit-Limit}, {@code RateLimit-Remaining} and {@code RateLimit-Reset}; an
+ * empty bucket is answered with 429 and {@code Retry-After}. Writes are not limited here.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+        static final String LIMIT_HEADER = "RateLimit-Limit";
+        static final String REMAINING_HEADER = "RateLimit-Remaining";
+        static final String RESET_HEADER = "RateLimit-Reset";
+
+        private static final Pattern ITEM = Pattern.compile("/api/(events|venues)/\\d+|/api/events/ingestion/[^/]+");
+        private static final String SEARCH_PATH = "/api/events/search";
+
+        private final TokenBucketStore buckets;
+        private final String apiKeyHeader;
+        private final Set<String> apiKeys;
+        private final int itemCost;
+        private final int listCost;
+        private final int searchCost;
+        private final ObjectMapper objectMapper;
+
+        public RateLimitFilter(TokenBucketStore buckets, String apiKeyHeader, Set<String> apiKeys, int itemCost,
+                        int listCost, int searchCost, ObjectMapper objectMapper) {
+                for (int cost : new int[] { itemCost, listCost, searchCost }) {
+                        if (cost < 1 || cost > buckets.getCapacity()) {
+                                throw new IllegalArgumentException("Rate limit costs must be between 1 and the capacity of "
+                                                + buckets.getCapacity() + ", got " + cost);
+                        }
+                }
+                this.buckets = buckets;
+                this.apiKeyHeader = apiKeyHeader;
+                this.apiKeys = Set.copyOf(apiKeys);
+                this.itemCost = itemCost;
+                this.listCost = listCost;
+                this.searchCost = searchCost;
+                this.objectMapper = objectMapper;
+        }
+
+        @Override
+        protected boolean shouldNotFilter(HttpServletRequest request) {
+                return !HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod());
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                        throws ServletException, IOException {
+                String client = clientId(request);
+                TokenBucketStore.Decision decision = buckets.tryConsume(client, cost(request.getRequestURI()));
+                response.setHeader(LIMIT_HEADER, Long.toString(decision.limit()));
+                response.setHeader(REMAINING_HEADER, Long.toString(decision.remaining()));
+                response.setHeader(RESET_HEADER, Long.toString(seconds(decision.resetAfter())));
+                if (decision.allowed()) {
+                        chain.doFilter(request, response);
+                        return;
+                }
+
+                log.debug("Rate limiting {} on {}", client, request.getRequestURI());
+                HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+                response.setStatus(status.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds(decision.retryAfter())));
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                objectMapper.writeValue(response.getOutputStream(), ErrorResponseDTO.builder()
+                                .status(status.value())
+                                .error(status.getReasonPhrase())
+                                .message("Rate limit exceeded, retry in " + seconds(decision.retryAfter()) + "s")
+                                .build());
+        }
+
+        int cost(String path) {
+                if (SEARCH_PATH.equals(path)) {
+                        return searchCost;
+                }
+                if (ITEM.matcher(path).matches()) {
+                        return itemCost;
+                }
+                // Lists, pages, events by venue and the export read many rows per request
+                return listCost;
+        }
+
+        private String clientId(HttpServletRequest request) {
+                String apiKey = request.getHeader(apiKeyHeader);
+                if (apiKey != null && apiKeys.contains(apiKey)) {
+                        return "key:" + apiKey;
+                }
+                return "ip:" + request.getRemoteAddr();
+        }
+
+        private static long seconds(Duration duration) {
+                long seconds = duration.toSeconds();
+                return duration.equals(Duration.ofSeconds(seconds)) ? seconds : seconds + 1;
+        }
+}
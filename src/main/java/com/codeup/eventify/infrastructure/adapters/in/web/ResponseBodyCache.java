@@ -0,0 +1,186 @@
+package com.codeup.eventify.infrastructure.adapters.in.web;
+
+import com.codeup.eventify.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Whole list responses, kept as the JSON bytes they serialize to and, when large enough to
+ * be worth it, as gzip bytes compressed once when stored. A hit is written out as is, with
+ * no query, mapping, serialization or compression.
+ * <p>
+ * Entries are keyed by the generation ({@link com.codeup.eventify.domain.ports.out.CatalogGenerationPort})
+ * read before the response was built. A write moves the generation on, so the next request
+ * misses and builds the response again; entries of old generations are never asked for
+ * again and are the first evicted. Entries also expire after the TTL, which bounds how long
+ * writes made through other instances go unseen.
+ * <p>
+ * A miss is built from the primary database, not a read replica: the generation moves when
+ * the write commits on the primary, and a lagging replica would have the new generation
+ * cached with the old data until the TTL.
+ */
+public class ResponseBodyCache implements MeterBinder {
+
+        static final int GZIP_MIN_BYTES = 1024;
+
+        private final ObjectMapper objectMapper;
+        private final boolean enabled;
+        private final AsyncCache<Key, Body> bodies;
+
+        public ResponseBodyCache(ObjectMapper objectMapper, boolean enabled, long maximumBytes, Duration ttl) {
+                this.objectMapper = objectMapper;
+                this.enabled = enabled;
+                this.bodies = Caffeine.newBuilder()
+                                .maximumWeight(maximumBytes)
+                                .weigher((Key key, Body body) -> body.weight())
+                                .expireAfterWrite(ttl)
+                                .recordStats()
+                                .buildAsync();
+        }
+
+        /**
+         * The response {@code name(argument)} had at {@code generation}, built from {@code body}
+         * on a miss. Concurrent misses for one entry share a single build.
+         */
+        public ResponseEntity<byte[]> respond(String name, Object argument, long generation, String acceptEncoding,
+                        Supplier<?> body) {
+                if (!enabled) {
+                        return json(serialize(body.get()));
+                }
+                Body cached = getOrBuild(new Key(name, argument, generation), body);
+                if (cached.gzip() != null && acceptsGzip(acceptEncoding)) {
+                        return ResponseEntity.ok()
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                                        .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                                        .body(cached.gzip());
+                }
+                return json(cached.json());
+        }
+
+        @Override
+        public void bindTo(MeterRegistry registry) {
+                CaffeineCacheMetrics.monitor(registry, bodies, "responses");
+                Gauge.builder("eventify.response-cache.size", bodies,
+                                cache -> cache.synchronous().policy().eviction().orElseThrow().weightedSize().orElse(0))
+                                .description("Bytes held by cached responses")
+                                .baseUnit("bytes")
+                                .register(registry);
+        }
+
+        void invalidateAll() {
+                bodies.synchronous().invalidateAll();
+        }
+
+        // Same pattern as CachingVenueRepositoryAdapter: only an empty future is installed under the
+        // map lock, so the response is built outside it and never pins a virtual thread
+        private Body getOrBuild(Key key, Supplier<?> body) {
+                CompletableFuture<Body> placeholder = new CompletableFuture<>();
+                CompletableFuture<Body> future = bodies.get(key, (k, executor) -> placeholder);
+                if (future == placeholder) {
+                        try {
+                                byte[] json = serialize(ReplicaRoutingDataSource.onPrimary(body));
+                                placeholder.complete(new Body(json, json.length >= GZIP_MIN_BYTES ? gzip(json) : null));
+                        } catch (RuntimeException e) {
+                                placeholder.completeExceptionally(e);
+                                throw e;
+                        }
+                }
+                try {
+                        return future.join();
+                } catch (CompletionException e) {
+                        if (e.getCause() instanceof RuntimeException cause) {
+                                throw cause;
+                        }
+                        throw e;
+                }
+        }
+
+        private byte[] serialize(Object body) {
+                try {
+                        return objectMapper.writeValueAsBytes(body);
+                } catch (JsonProcessingException e) {
+                        throw new UncheckedIOException(e);
+                }
+        }
+
+        private static ResponseEntity<byte[]> json(byte[] json) {
+                return ResponseEntity.ok()
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                                .body(json);
+        }
+
+        private static byte[] gzip(byte[] json) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4);
+                try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+                        gzip.write(json);
+                } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                }
+                return bytes.toByteArray();
+        }
+
+        // Accept-Encoding lists codings with optional q-values, q=0 meaning "not this one"; an explicit
+        // gzip entry wins over the * wildcard
+        static boolean acceptsGzip(String acceptEncoding) {
+                if (acceptEncoding == null) {
+                        return false;
+                }
+                Boolean wildcard = null;
+                for (String coding : acceptEncoding.split(",")) {
+                        String[] parts = coding.split(";");
+                        String name = parts[0].trim();
+                        if (name.equalsIgnoreCase("gzip")) {
+                                return !refused(parts);
+                        }
+                        if (name.equals("*")) {
+                                wildcard = !refused(parts);
+                        }
+                }
+                return Boolean.TRUE.equals(wildcard);
+        }
+
+        private static boolean refused(String[] parts) {
+                for (int i = 1; i < parts.length; i++) {
+                        String parameter = parts[i].trim();
+                        if (parameter.startsWith("q=")) {
+                                try {
+                                        return Double.parseDouble(parameter.substring(2).trim()) == 0;
+                                } catch (NumberFormatException e) {
+                                        return false;
+                                }
+                        }
+                }
+                return false;
+        }
+
+        private record Key(String name, Object argument, long generation) {
+        }
+
+        private record Body(byte[] json, byte[] gzip) {
+
+                int weight() {
+                        return json.length + (gzip != null ? gzip.length : 0);
+                }
+        }
+}
@@ -1,11 +1,18 @@
 package com.codeup.eventify.infrastructure.adapters.in.web;
 
+import com.codeup.eventify.domain.model.CursorPage;
+import com.codeup.eventify.domain.model.ResourceVersion;
 import com.codeup.eventify.domain.model.Venue;
+import com.codeup.eventify.domain.model.VenueSort;
 import com.codeup.eventify.domain.ports.in.venues.*;
+import com.codeup.eventify.domain.ports.out.CatalogGenerationPort;
 import com.codeup.eventify.infrastructure.adapters.in.web.dto.request.VenueRequestDTO;
+import com.codeup.eventify.infrastructure.adapters.in.web.dto.response.CursorPageResponseDTO;
 import com.codeup.eventify.infrastructure.adapters.in.web.dto.response.VenueResponseDTO;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,11 +20,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/venues")
@@ -29,6 +36,8 @@ public class VenueRestAdapter {
         private final RetrieveVenueUseCase retrieveVenueUseCase;
         private final DeleteVenueUseCase deleteVenueUseCase;
         private final UpdateVenueUseCase updateVenueUseCase;
+        private final CatalogGenerationPort catalogGenerations;
+        private final ResponseBodyCache responseBodyCache;
 
         @Operation(summary = "Create a new venue", description = "Create a new venue with the provided information")
         @ApiResponses(value = {
@@ -41,47 +50,80 @@ public class VenueRestAdapter {
                 Venue venue = toVenue(requestDTO);
                 Venue createdVenue = createVenueUseCase.createVenue(venue);
                 VenueResponseDTO responseDTO = toResponseDTO(createdVenue);
-                return ResponseEntity.status(HttpStatus.CREATED).body(responseDTO);
+                return EntityTags.withValidators(ResponseEntity.status(HttpStatus.CREATED), ResourceVersion.of(createdVenue))
+                                .body(responseDTO);
         }
 
-        @Operation(summary = "Get venue by ID", description = "Retrieve a specific venue by its identifier")
+        @Operation(summary = "Get venue by ID", description = "Retrieve a specific venue by its identifier. Supports If-None-Match and If-Modified-Since")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Venue found successfully"),
+                        @ApiResponse(responseCode = "304", description = "Venue unchanged since the given ETag or date"),
                         @ApiResponse(responseCode = "404", description = "Venue not found")
         })
         @GetMapping("/{id}")
-        public ResponseEntity<VenueResponseDTO> getVenueById(@PathVariable Long id) {
+        public ResponseEntity<VenueResponseDTO> getVenueById(@PathVariable Long id, WebRequest request) {
+                // Revalidation only reads the version columns; the venue is loaded only if it changed
+                if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null) {
+                        ResourceVersion version = retrieveVenueUseCase.getVenueVersion(id);
+                        if (request.checkNotModified(EntityTags.etag(version), EntityTags.lastModified(version))) {
+                                return null;
+                        }
+                }
                 Venue venue = retrieveVenueUseCase.getVenueById(id);
                 VenueResponseDTO responseDTO = toResponseDTO(venue);
-                return ResponseEntity.ok(responseDTO);
+                return EntityTags.withValidators(ResponseEntity.ok(), ResourceVersion.of(venue)).body(responseDTO);
         }
 
-        @Operation(summary = "Get all venues", description = "Retrieve a list of all available venues")
+        @Operation(summary = "Get all venues", description = "Retrieve a list of all available venues. Served from a response cache until a venue changes; gzip-encoded when the client accepts it")
         @ApiResponses(value = {
-                        @ApiResponse(responseCode = "200", description = "Venues retrieved successfully")
+                        @ApiResponse(responseCode = "200", description = "Venues retrieved successfully", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = VenueResponseDTO.class))))
         })
         @GetMapping
-        public ResponseEntity<List<VenueResponseDTO>> getAllVenues() {
-                List<Venue> venues = retrieveVenueUseCase.getAllVenues();
-                List<VenueResponseDTO> responseDTOs = venues.stream()
-                                .map(this::toResponseDTO)
-                                .toList();
-                return ResponseEntity.ok(responseDTOs);
+        public ResponseEntity<byte[]> getAllVenues(
+                        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+                return responseBodyCache.respond("venues", null, catalogGenerations.venuesGeneration(), acceptEncoding,
+                                () -> retrieveVenueUseCase.getAllVenues().stream()
+                                                .map(this::toResponseDTO)
+                                                .toList());
+        }
+
+        @Operation(summary = "Get a page of venues", description = "Retrieve venues one page at a time using an opaque cursor; each page costs the same regardless of table size")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Page retrieved successfully"),
+                        @ApiResponse(responseCode = "400", description = "Invalid limit, cursor or sort")
+        })
+        @GetMapping("/page")
+        public ResponseEntity<CursorPageResponseDTO<VenueResponseDTO>> getVenuesPage(
+                        @Parameter(description = "Maximum number of venues to return (1-100)") @RequestParam(defaultValue = "20") int limit,
+                        @Parameter(description = "Cursor returned as 'nextCursor' by the previous page") @RequestParam(required = false) String after,
+                        @Parameter(description = "Sort key: id or name") @RequestParam(defaultValue = "id") String sort) {
+                CursorPage<Venue> page = retrieveVenueUseCase.getVenuesPage(limit, after, VenueSort.fromValue(sort));
+                CursorPageResponseDTO<VenueResponseDTO> responseDTO = CursorPageResponseDTO.<VenueResponseDTO>builder()
+                                .items(page.getItems().stream()
+                                                .map(this::toResponseDTO)
+                                                .toList())
+                                .nextCursor(page.getNextCursor())
+                                .hasMore(page.hasMore())
+                                .build();
+                return ResponseEntity.ok(responseDTO);
         }
 
-        @Operation(summary = "Update a venue", description = "Update an existing venue's information")
+        @Operation(summary = "Update a venue", description = "Update an existing venue's information. With If-Match, only if it still has that ETag")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Venue updated successfully"),
                         @ApiResponse(responseCode = "400", description = "Invalid input data"),
-                        @ApiResponse(responseCode = "404", description = "Venue not found")
+                        @ApiResponse(responseCode = "404", description = "Venue not found"),
+                        @ApiResponse(responseCode = "412", description = "The venue changed since the If-Match ETag, or a concurrent update won")
         })
         @PutMapping("/{id}")
         public ResponseEntity<VenueResponseDTO> updateVenue(@PathVariable Long id,
+                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                         @Valid @RequestBody VenueRequestDTO requestDTO) {
                 Venue venue = toVenue(requestDTO);
-                Venue updatedVenue = updateVenueUseCase.updateVenue(id, venue);
+                Venue updatedVenue = updateVenueUseCase.updateVenue(id, venue, EntityTags.expectedVersion(ifMatch));
                 VenueResponseDTO responseDTO = toResponseDTO(updatedVenue);
-                return ResponseEntity.ok(responseDTO);
+                return EntityTags.withValidators(ResponseEntity.ok(), ResourceVersion.of(updatedVenue)).body(responseDTO);
         }
 
         @Operation(summary = "Delete a venue", description = "Remove a venue from the system")
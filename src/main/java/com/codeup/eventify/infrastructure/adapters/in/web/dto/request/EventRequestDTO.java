@@ -9,6 +9,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Data
@@ -30,9 +31,9 @@ public class EventRequestDTO {
         @NotNull(message = "Venue ID is required")
         private Long venueId;
 
-        @Schema(description = "Event's date (formato: YYYY-MM-DD)", example = "2025-12-15", requiredMode = RequiredMode.REQUIRED)
-        @NotBlank(message = "Date is required")
-        private String date;
+        @Schema(description = "Event's date (format: YYYY-MM-DD)", example = "2025-12-15", requiredMode = RequiredMode.REQUIRED)
+        @NotNull(message = "Date is required")
+        private LocalDate date;
 
         @Schema(description = "Event's hour", example = "2025-12-15T20:00:00", requiredMode = RequiredMode.REQUIRED)
         @NotNull(message = "Hour is required")
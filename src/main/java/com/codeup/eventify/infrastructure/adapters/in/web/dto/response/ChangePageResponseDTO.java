@@ -0,0 +1,26 @@
+package com.codeup.eventify.infrastructure.adapters.in.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Changes recorded after a sequence number", name = "ChangePageResponse")
+public class ChangePageResponseDTO {
+
+    @Schema(description = "Changes in sequence order")
+    private List<ChangeResponseDTO> changes;
+
+    @Schema(description = "True when changes after the requested sequence were dropped from the feed; reload the catalog before applying these", example = "false")
+    private boolean gap;
+
+    @Schema(description = "Newest sequence number in the feed", example = "1042")
+    private long latestSequence;
+}
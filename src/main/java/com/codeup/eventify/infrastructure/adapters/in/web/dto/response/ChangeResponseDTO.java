@@ -0,0 +1,35 @@
+package com.codeup.eventify.infrastructure.adapters.in.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "A create, update or delete of an event or venue", name = "ChangeResponse")
+public class ChangeResponseDTO {
+
+    @Schema(description = "Position in the change feed; pass it back as 'after' or Last-Event-ID to resume", example = "1042")
+    private long sequence;
+
+    @Schema(description = "Kind of resource that changed", example = "EVENT", allowableValues = { "EVENT", "VENUE" })
+    private String resource;
+
+    @Schema(description = "What happened to it", example = "UPDATED", allowableValues = { "CREATED", "UPDATED", "DELETED" })
+    private String type;
+
+    @Schema(description = "Id of the changed resource", example = "42")
+    private Long id;
+
+    @Schema(description = "Version of the resource after the change, absent for deletions", example = "3")
+    private Long version;
+
+    @Schema(description = "When the change was recorded", example = "2025-12-01T18:30:00Z")
+    private Instant occurredAt;
+}
@@ -0,0 +1,26 @@
+package com.codeup.eventify.infrastructure.adapters.in.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "A page of results with an opaque cursor pointing to the next page", name = "CursorPageResponse")
+public class CursorPageResponseDTO<T> {
+
+    @Schema(description = "Items in this page")
+    private List<T> items;
+
+    @Schema(description = "Cursor to pass as 'after' to fetch the next page, null on the last page", example = "SUQ6MjA6")
+    private String nextCursor;
+
+    @Schema(description = "Whether there is another page after this one", example = "true")
+    private boolean hasMore;
+}
@@ -0,0 +1,24 @@
+package com.codeup.eventify.infrastructure.adapters.in.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Error details returned when a request cannot be processed", name = "ErrorResponse")
+public class ErrorResponseDTO {
+
+    @Schema(description = "HTTP status code", example = "400")
+    private int status;
+
+    @Schema(description = "HTTP status reason", example = "Bad Request")
+    private String error;
+
+    @Schema(description = "Error's detail", example = "Invalid page cursor")
+    private String message;
+}
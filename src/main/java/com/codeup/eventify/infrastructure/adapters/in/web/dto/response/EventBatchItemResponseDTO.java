@@ -0,0 +1,27 @@
+package com.codeup.eventify.infrastructure.adapters.in.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Outcome of a single event in a batch creation request", name = "EventBatchItemResponse")
+public class EventBatchItemResponseDTO {
+
+    @Schema(description = "Position of the event in the request array", example = "0")
+    private int index;
+
+    @Schema(description = "Outcome of the item", example = "CREATED", allowableValues = { "CREATED", "FAILED" })
+    private String status;
+
+    @Schema(description = "Created event, present when the item succeeded")
+    private EventResponseDTO event;
+
+    @Schema(description = "Reason the item was rejected, present when the item failed", example = "Venue not found with ID: 99")
+    private String error;
+}
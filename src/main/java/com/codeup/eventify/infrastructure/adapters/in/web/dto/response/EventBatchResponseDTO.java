@@ -0,0 +1,26 @@
+package com.codeup.eventify.infrastructure.adapters.in.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Per-item results of a batch event creation", name = "EventBatchResponse")
+public class EventBatchResponseDTO {
+
+    @Schema(description = "Number of events created", example = "2")
+    private int created;
+
+    @Schema(description = "Number of events rejected", example = "1")
+    private int failed;
+
+    @Schema(description = "One result per submitted event, in request order")
+    private List<EventBatchItemResponseDTO> results;
+}
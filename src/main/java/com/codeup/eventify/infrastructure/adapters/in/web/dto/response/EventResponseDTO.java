@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Data
@@ -28,7 +29,7 @@ public class EventResponseDTO {
     private com.codeup.eventify.infrastructure.adapters.in.web.dto.response.VenueResponseDTO venue;
 
     @Schema(description = "Event's date", example = "2025-12-15")
-    private String date;
+    private LocalDate date;
 
     @Schema(description = "Event's hour", example = "2025-12-15T20:00:00")
     private LocalTime hour;
@@ -0,0 +1,27 @@
+package com.codeup.eventify.infrastructure.adapters.in.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "An event matching a full-text search, with its relevance and highlighted fragments", name = "EventSearchHitResponse")
+public class EventSearchHitResponseDTO {
+
+    @Schema(description = "Matching event")
+    private EventResponseDTO event;
+
+    @Schema(description = "Relevance score, higher is better; only comparable within one search", example = "0.6079271")
+    private double rank;
+
+    @Schema(description = "HTML-escaped title with matched terms wrapped in <mark> tags, null if the title did not match", example = "Summer <mark>Jazz</mark> Night")
+    private String titleHighlight;
+
+    @Schema(description = "HTML-escaped description fragments with matched terms wrapped in <mark> tags, null if the description did not match", example = "An evening of live <mark>jazz</mark> under the stars")
+    private String descriptionHighlight;
+}
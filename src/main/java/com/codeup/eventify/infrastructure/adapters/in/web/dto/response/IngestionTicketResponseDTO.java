@@ -0,0 +1,27 @@
+package com.codeup.eventify.infrastructure.adapters.in.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Progress of an event accepted for asynchronous creation", name = "IngestionTicketResponse")
+public class IngestionTicketResponseDTO {
+
+    @Schema(description = "Tracking id returned when the event was accepted", example = "3f2b8c1e-5d4a-4e7b-9a61-0c2d7e8f9a10")
+    private String trackingId;
+
+    @Schema(description = "Where the event is in the ingestion pipeline", example = "CREATED", allowableValues = { "QUEUED", "CREATED", "FAILED" })
+    private String status;
+
+    @Schema(description = "Id of the created event, present once the status is CREATED", example = "42")
+    private Long eventId;
+
+    @Schema(description = "Reason the event could not be created, present when the status is FAILED", example = "An event with title 'Rock Concert 2025' already exists")
+    private String error;
+}
@@ -0,0 +1,29 @@
+package com.codeup.eventify.infrastructure.adapters.in.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "A page of ranked results addressed by offset", name = "OffsetPageResponse")
+public class OffsetPageResponseDTO<T> {
+
+    @Schema(description = "Items in this page")
+    private List<T> items;
+
+    @Schema(description = "Offset of the first item in this page", example = "0")
+    private int offset;
+
+    @Schema(description = "Maximum number of items requested", example = "20")
+    private int limit;
+
+    @Schema(description = "Whether there are more results after this page", example = "true")
+    private boolean hasMore;
+}
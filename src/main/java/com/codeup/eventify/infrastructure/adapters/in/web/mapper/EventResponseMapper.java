@@ -0,0 +1,64 @@
+package com.codeup.eventify.infrastructure.adapters.in.web.mapper;
+
+import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.model.EventView;
+import com.codeup.eventify.domain.model.Venue;
+import com.codeup.eventify.infrastructure.adapters.in.web.dto.response.EventResponseDTO;
+import com.codeup.eventify.infrastructure.adapters.in.web.dto.response.VenueResponseDTO;
+
+public final class EventResponseMapper {
+
+    private EventResponseMapper() {
+    }
+
+    public static EventResponseDTO toResponseDTO(Event event) {
+        return EventResponseDTO.builder()
+                .id(event.getId())
+                .title(event.getTitle())
+                .description(event.getDescription())
+                .venue(toVenueResponseDTO(event.getVenue()))
+                .date(event.getDate())
+                .hour(event.getHour())
+                .price(event.getPrice())
+                .hostedBy(event.getHostedBy())
+                .build();
+    }
+
+    // Read path: one flat projection per row goes straight to the DTO, no domain objects in between
+    public static EventResponseDTO toResponseDTO(EventView event) {
+        return EventResponseDTO.builder()
+                .id(event.getId())
+                .title(event.getTitle())
+                .description(event.getDescription())
+                .venue(event.getVenueId() == null ? null
+                        : VenueResponseDTO.builder()
+                                .id(event.getVenueId())
+                                .name(event.getVenueName())
+                                .country(event.getVenueCountry())
+                                .address(event.getVenueAddress())
+                                .city(event.getVenueCity())
+                                .state(event.getVenueState())
+                                .zipCode(event.getVenueZipCode())
+                                .build())
+                .date(event.getDate())
+                .hour(event.getHour())
+                .price(event.getPrice())
+                .hostedBy(event.getHostedBy())
+                .build();
+    }
+
+    public static VenueResponseDTO toVenueResponseDTO(Venue venue) {
+        if (venue == null) {
+            return null;
+        }
+        return VenueResponseDTO.builder()
+                .id(venue.getId())
+                .name(venue.getName())
+                .country(venue.getCountry())
+                .address(venue.getAddress())
+                .city(venue.getCity())
+                .state(venue.getState())
+                .zipCode(venue.getZipCode())
+                .build();
+    }
+}
@@ -0,0 +1,261 @@
+package com.codeup.eventify.infrastructure.adapters.out.cache;
+
+import com.codeup.eventify.domain.model.PageCursor;
+import com.codeup.eventify.domain.model.ResourceVersion;
+import com.codeup.eventify.domain.model.Venue;
+import com.codeup.eventify.domain.model.VenueSort;
+import com.codeup.eventify.domain.ports.out.VenueRepositoryPort;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through cache in front of another {@link VenueRepositoryPort}. Venues are
+ * cached by id and by name (including misses, so {@code existsByName} checks for new
+ * names stay in memory). Every write through this adapter invalidates the affected
+ * entries, and the written venue is cached only once its transaction commits; entries
+ * also expire after the configured TTL to bound staleness from writes made by other
+ * instances.
+ * <p>
+ * Misses are loaded on the calling thread but outside Caffeine's map lock (see
+ * {@link #getOrLoad}), so concurrent misses for one key still share a single load and
+ * a virtual thread is never pinned while it waits on JDBC.
+ */
+public class CachingVenueRepositoryAdapter implements VenueRepositoryPort, MeterBinder {
+
+    private final VenueRepositoryPort delegate;
+    private final AsyncCache<Long, Venue> venuesById;
+    private final AsyncCache<String, Optional<Venue>> venuesByName;
+
+    public CachingVenueRepositoryAdapter(VenueRepositoryPort delegate, long maximumSize, Duration ttl) {
+        this(delegate, maximumSize, ttl, Ticker.systemTicker());
+    }
+
+    CachingVenueRepositoryAdapter(VenueRepositoryPort delegate, long maximumSize, Duration ttl, Ticker ticker) {
+        this.delegate = delegate;
+        this.venuesById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .buildAsync();
+        this.venuesByName = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .buildAsync();
+    }
+
+    @Override
+    public Venue save(Venue venue) {
+        Venue savedVenue = delegate.save(venue);
+        // A new venue only turns a cached "not found" for its name into a stale entry
+        Runnable invalidateNames = venue.getId() == null
+                ? () -> venuesByName.synchronous().invalidate(savedVenue.getName())
+                : () -> venuesByName.synchronous().invalidateAll();
+        cacheOnCommit(savedVenue.getId(), copyOf(savedVenue), invalidateNames);
+        return savedVenue;
+    }
+
+    @Override
+    public Optional<Venue> findById(Long id) {
+        if (id == null) {
+            return delegate.findById(null);
+        }
+        Venue venue = getOrLoad(venuesById, id, key -> delegate.findById(key).orElse(null));
+        return Optional.ofNullable(venue).map(CachingVenueRepositoryAdapter::copyOf);
+    }
+
+    @Override
+    public Optional<ResourceVersion> findVersionById(Long id) {
+        // A cached venue already knows its version; a miss is answered by the delegate without filling the cache
+        Venue cached = id == null ? null : venuesById.synchronous().getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(ResourceVersion.of(cached));
+        }
+        return delegate.findVersionById(id);
+    }
+
+    @Override
+    public Optional<ResourceVersion> findCurrentVersionById(Long id) {
+        // A cached venue can be a TTL behind writes made on other instances, too old to check If-Match against
+        return delegate.findCurrentVersionById(id);
+    }
+
+    @Override
+    public List<Venue> findAllById(Collection<Long> ids) {
+        // The synchronous view would run the bulk load on the common pool, outside the caller's transaction and
+        // on a second connection; the missing venues are loaded here instead, like single misses in getOrLoad
+        Map<Long, Venue> venues = join(venuesById.getAll(ids, (missingIds, executor) -> CompletableFuture.completedFuture(
+                delegate.findAllById(toList(missingIds))
+                        .stream()
+                        .collect(Collectors.toMap(Venue::getId, CachingVenueRepositoryAdapter::copyOf)))));
+        return venues.values()
+                .stream()
+                .map(CachingVenueRepositoryAdapter::copyOf)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Venue> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Venue> findPage(VenueSort sort, PageCursor after, int limit) {
+        return delegate.findPage(sort, after, limit);
+    }
+
+    @Override
+    public Optional<Venue> findByName(String name) {
+        if (name == null) {
+            return delegate.findByName(null);
+        }
+        return getOrLoad(venuesByName, name, delegate::findByName)
+                .map(CachingVenueRepositoryAdapter::copyOf);
+    }
+
+    @Override
+    public boolean existsByName(String name) {
+        if (name == null) {
+            return delegate.existsByName(null);
+        }
+        return findByName(name).isPresent();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+        cacheOnCommit(id, null, () -> venuesByName.synchronous().invalidateAll());
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        if (id != null && venuesById.synchronous().getIfPresent(id) != null) {
+            return true;
+        }
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public Venue update(Long id, Venue venue) {
+        Venue updatedVenue;
+        try {
+            updatedVenue = delegate.update(id, venue);
+        } catch (RuntimeException e) {
+            venuesById.synchronous().invalidate(id);
+            venuesByName.synchronous().invalidateAll();
+            throw e;
+        }
+        cacheOnCommit(id, copyOf(updatedVenue), () -> venuesByName.synchronous().invalidateAll());
+        return updatedVenue;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, venuesById, "venuesById");
+        CaffeineCacheMetrics.monitor(registry, venuesByName, "venuesByName");
+    }
+
+    public CacheStats idCacheStats() {
+        return venuesById.synchronous().stats();
+    }
+
+    public CacheStats nameCacheStats() {
+        return venuesByName.synchronous().stats();
+    }
+
+    // Until the write commits, other readers still see the old row (and may cache it again), and a rollback undoes
+    // it. The entries are dropped now and again once the transaction completes; the written venue is only cached
+    // if it committed.
+    private void cacheOnCommit(Long id, Venue written, Runnable invalidateNames) {
+        invalidateNames.run();
+        venuesById.synchronous().invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidateNames.run();
+                    cache(id, status == STATUS_COMMITTED ? written : null);
+                }
+            });
+            return;
+        }
+        cache(id, written);
+    }
+
+    private void cache(Long id, Venue venue) {
+        if (venue != null) {
+            venuesById.synchronous().put(id, venue);
+        } else {
+            venuesById.synchronous().invalidate(id);
+        }
+    }
+
+    // Cache.get(key, loader) would run the loader inside a ConcurrentHashMap bin lock (synchronized),
+    // pinning a virtual thread for the whole JDBC round trip. Only an empty future is installed under
+    // the lock; the winning caller then loads and completes it, and concurrent callers wait on it.
+    private static <K, V> V getOrLoad(AsyncCache<K, V> cache, K key, Function<K, V> loader) {
+        CompletableFuture<V> placeholder = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> placeholder);
+        if (future == placeholder) {
+            try {
+                placeholder.complete(loader.apply(key));
+            } catch (RuntimeException e) {
+                placeholder.completeExceptionally(e);
+                throw e;
+            }
+        }
+        return join(future);
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static List<Long> toList(Iterable<? extends Long> ids) {
+        List<Long> list = new ArrayList<>();
+        ids.forEach(list::add);
+        return list;
+    }
+
+    // Venue is mutable, so callers never get the cached instance itself
+    private static Venue copyOf(Venue venue) {
+        return Venue.builder()
+                .id(venue.getId())
+                .name(venue.getName())
+                .country(venue.getCountry())
+                .address(venue.getAddress())
+                .city(venue.getCity())
+                .state(venue.getState())
+                .zipCode(venue.getZipCode())
+                .version(venue.getVersion())
+                .updatedAt(venue.getUpdatedAt())
+                .build();
+    }
+}
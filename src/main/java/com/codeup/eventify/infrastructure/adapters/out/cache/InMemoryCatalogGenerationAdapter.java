@@ -0,0 +1,79 @@
+package com.codeup.eventify.infrastructure.adapters.out.cache;
+
+import com.codeup.eventify.domain.ports.out.CatalogGenerationPort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generation counters kept in this process, all starting at 0. They only see writes made
+ * through this instance, so caches keyed on them also need a TTL when several instances
+ * share a database.
+ * <p>
+ * A change made inside a transaction is counted when it commits: a reader that picked up
+ * the new generation before that could otherwise cache what it read from the old data
+ * under it.
+ */
+public class InMemoryCatalogGenerationAdapter implements CatalogGenerationPort {
+
+    private final AtomicLong events = new AtomicLong();
+    private final AtomicLong venues = new AtomicLong();
+    // Only venues written to get an entry, so looking up unknown ids cannot grow the map
+    private final ConcurrentMap<Long, AtomicLong> venueEvents = new ConcurrentHashMap<>();
+
+    @Override
+    public void eventsChanged(Collection<Long> venueIds) {
+        List<Long> ids = List.copyOf(venueIds);
+        afterCommit(() -> {
+            ids.forEach(this::bumpVenueEvents);
+            events.incrementAndGet();
+        });
+    }
+
+    @Override
+    public void venueChanged(Long venueId) {
+        afterCommit(() -> {
+            bumpVenueEvents(venueId);
+            events.incrementAndGet();
+            venues.incrementAndGet();
+        });
+    }
+
+    @Override
+    public long eventsGeneration() {
+        return events.get();
+    }
+
+    @Override
+    public long venueEventsGeneration(Long venueId) {
+        AtomicLong generation = venueEvents.get(venueId);
+        return generation != null ? generation.get() : 0;
+    }
+
+    @Override
+    public long venuesGeneration() {
+        return venues.get();
+    }
+
+    private void bumpVenueEvents(Long venueId) {
+        venueEvents.computeIfAbsent(venueId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    private static void afterCommit(Runnable bump) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump.run();
+                }
+            });
+            return;
+        }
+        bump.run();
+    }
+}
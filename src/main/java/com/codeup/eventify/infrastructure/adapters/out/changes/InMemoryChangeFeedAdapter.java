@@ -0,0 +1,118 @@
+package com.codeup.eventify.infrastructure.adapters.out.changes;
+
+import com.codeup.eventify.domain.model.ChangePage;
+import com.codeup.eventify.domain.model.ChangeRecord;
+import com.codeup.eventify.domain.model.ChangeResource;
+import com.codeup.eventify.domain.model.ChangeType;
+import com.codeup.eventify.domain.ports.out.ChangeFeedPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Change feed kept in a fixed-size ring buffer: the newest {@code capacity} changes are
+ * retained and older ones are overwritten. Sequence numbers start at 1 and are local to
+ * this process, so they restart (and readers see a gap) after a restart.
+ * <p>
+ * A change published inside a transaction is appended when it commits and dropped if it
+ * rolls back.
+ */
+@Slf4j
+public class InMemoryChangeFeedAdapter implements ChangeFeedPort {
+
+    private final ChangeRecord[] ring;
+    private final Clock clock;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+    private long latest;
+
+    public InMemoryChangeFeedAdapter(int capacity) {
+        this(capacity, Clock.systemUTC());
+    }
+
+    InMemoryChangeFeedAdapter(int capacity, Clock clock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Change feed capacity must be positive");
+        }
+        this.ring = new ChangeRecord[capacity];
+        this.clock = clock;
+    }
+
+    @Override
+    public void publish(ChangeResource resource, ChangeType type, Long resourceId, Long version) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Subscribers must not see a change that is rolled back, or read before it is visible
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    append(resource, type, resourceId, version);
+                }
+            });
+            return;
+        }
+        append(resource, type, resourceId, version);
+    }
+
+    @Override
+    public ChangePage readAfter(long sequence, int limit) {
+        lock.readLock().lock();
+        try {
+            long oldest = Math.max(1, latest - ring.length + 1);
+            // A number ahead of the feed was issued before a restart
+            boolean gap = sequence + 1 < oldest || sequence > latest;
+            long from = gap ? oldest : sequence + 1;
+            long to = Math.min(latest, from + limit - 1);
+            List<ChangeRecord> changes = new ArrayList<>((int) Math.max(0, to - from + 1));
+            for (long next = from; next <= to; next++) {
+                changes.add(ring[slot(next)]);
+            }
+            return new ChangePage(changes, gap, latest);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long latestSequence() {
+        lock.readLock().lock();
+        try {
+            return latest;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Runnable subscribe(Runnable listener) {
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    private void append(ChangeResource resource, ChangeType type, Long resourceId, Long version) {
+        lock.writeLock().lock();
+        try {
+            ChangeRecord change = new ChangeRecord(latest + 1, resource, type, resourceId, version, clock.instant());
+            ring[slot(change.getSequence())] = change;
+            latest = change.getSequence();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        for (Runnable listener : listeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                log.warn("Change feed listener failed", e);
+            }
+        }
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % ring.length);
+    }
+}
@@ -0,0 +1,161 @@
+package com.codeup.eventify.infrastructure.adapters.out.ingestion;
+
+import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.model.IngestionTicket;
+import com.codeup.eventify.domain.model.Venue;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only file of JSON lines recording every event the ingestion queue accepted and
+ * how each one ended. Replaying it after a restart gives back the events that were
+ * accepted but never written. The file is emptied whenever the queue runs dry, so it
+ * only ever holds the current backlog.
+ * <p>
+ * Not thread-safe; the owning adapter serializes access.
+ */
+@Slf4j
+class EventIngestionJournal implements Closeable {
+
+    static final String ACCEPTED = "ACCEPTED";
+    static final String CREATED = "CREATED";
+    static final String FAILED = "FAILED";
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final Path path;
+    private final boolean sync;
+    private FileChannel channel;
+
+    EventIngestionJournal(Path path, boolean sync) {
+        this.path = path;
+        this.sync = sync;
+    }
+
+    /**
+     * Reads every entry written so far and opens the file for appending. A torn last line
+     * (a crash mid-write) is skipped.
+     */
+    List<Entry> open() {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            List<Entry> entries = new ArrayList<>();
+            if (Files.exists(path)) {
+                for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        entries.add(MAPPER.readValue(line, Entry.class));
+                    } catch (JsonProcessingException e) {
+                        log.warn("Skipping unreadable ingestion journal entry in {}: {}", path, e.getOriginalMessage());
+                    }
+                }
+            }
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            return entries;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open ingestion journal " + path, e);
+        }
+    }
+
+    void append(List<Entry> entries) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try {
+            for (Entry entry : entries) {
+                buffer.write(MAPPER.writeValueAsBytes(entry));
+                buffer.write('\n');
+            }
+            ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            if (sync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write ingestion journal " + path, e);
+        }
+    }
+
+    void clear() {
+        try {
+            channel.truncate(0);
+            if (sync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot truncate ingestion journal " + path, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to close ingestion journal {}", path, e);
+        }
+    }
+
+    record Entry(String type, String trackingId, String title, String description, Long venueId, LocalDate date,
+            LocalTime hour, Double price, String hostedBy, Long eventId, String error) {
+
+        static Entry accepted(String trackingId, Event event) {
+            Long venueId = event.getVenue() == null ? null : event.getVenue().getId();
+            return new Entry(ACCEPTED, trackingId, event.getTitle(), event.getDescription(), venueId,
+                    event.getDate(), event.getHour(), event.getPrice(), event.getHostedBy(), null, null);
+        }
+
+        static Entry completed(IngestionTicket ticket) {
+            String type = ticket.getEventId() != null ? CREATED : FAILED;
+            return new Entry(type, ticket.getTrackingId(), null, null, null, null, null, null, null,
+                    ticket.getEventId(), ticket.getError());
+        }
+
+        Event toEvent() {
+            return Event.builder()
+                    .title(title)
+                    .description(description)
+                    .date(date)
+                    .venue(venueId == null ? null : Venue.builder().id(venueId).build())
+                    .hour(hour)
+                    .price(price)
+                    .hostedBy(hostedBy)
+                    .build();
+        }
+
+        IngestionTicket toTicket() {
+            return CREATED.equals(type)
+                    ? IngestionTicket.created(trackingId, eventId)
+                    : IngestionTicket.failed(trackingId, error);
+        }
+    }
+}
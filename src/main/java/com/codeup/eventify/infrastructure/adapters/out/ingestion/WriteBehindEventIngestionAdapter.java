@@ -0,0 +1,336 @@
+package com.codeup.eventify.infrastructure.adapters.out.ingestion;
+
+import com.codeup.eventify.domain.exception.DuplicateEventTitleException;
+import com.codeup.eventify.domain.exception.IngestionQueueFullException;
+import com.codeup.eventify.domain.model.ChangeResource;
+import com.codeup.eventify.domain.model.ChangeType;
+import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.model.IngestionTicket;
+import com.codeup.eventify.domain.model.Venue;
+import com.codeup.eventify.domain.ports.out.CatalogGenerationPort;
+import com.codeup.eventify.domain.ports.out.ChangeFeedPort;
+import com.codeup.eventify.domain.ports.out.EventIngestionQueuePort;
+import com.codeup.eventify.domain.ports.out.EventRepositoryPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind queue in front of an {@link EventRepositoryPort}. {@link #enqueue} appends
+ * the event to the {@link EventIngestionJournal} and returns at once; a single writer
+ * thread drains the queue in batches of up to {@code batchSize} and stores each batch with
+ * one {@code saveAll}, so inserts are JDBC-batched and only the writer holds a database
+ * connection.
+ * <p>
+ * A batch rejected as a whole (e.g. one title already taken) is retried one event at a
+ * time so only the offending events fail. If the store is unavailable the remaining
+ * events are kept and retried after a pause. Events still queued at shutdown are written
+ * after a restart, as the journal is replayed on construction; a replayed event whose
+ * title is taken by an identical event was stored just before the process stopped, and
+ * counts as created. Ticket statuses are kept
+ * in memory for {@code ticketTtl}. Created events are published to the change feed, as
+ * the synchronous create use case does.
+ */
+@Slf4j
+// The journal reads and writes its entries with Jackson, which a native image must allow
+@RegisterReflectionForBinding(EventIngestionJournal.Entry.class)
+public class WriteBehindEventIngestionAdapter implements EventIngestionQueuePort, SmartLifecycle, MeterBinder {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(200);
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final EventRepositoryPort eventRepository;
+    private final ChangeFeedPort changeFeed;
+    private final CatalogGenerationPort catalogGenerations;
+    private final EventIngestionJournal journal;
+    private final int capacity;
+    private final int batchSize;
+    // Unbounded so a replayed backlog always fits; enqueue enforces the capacity
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final Cache<String, IngestionTicket> tickets;
+    // Orders journal appends against the writer emptying the journal; a lock rather than
+    // synchronized so virtual request threads are not pinned while the journal is forced
+    private final ReentrantLock journalLock = new ReentrantLock();
+    private volatile boolean running;
+    private Thread writer;
+
+    public WriteBehindEventIngestionAdapter(EventRepositoryPort eventRepository, ChangeFeedPort changeFeed,
+            CatalogGenerationPort catalogGenerations, Path journalPath, boolean syncJournal, int capacity, int batchSize, Duration ticketTtl) {
+        if (capacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("Ingestion queue capacity and batch size must be positive");
+        }
+        this.eventRepository = eventRepository;
+        this.changeFeed = changeFeed;
+        this.catalogGenerations = catalogGenerations;
+        this.journal = new EventIngestionJournal(journalPath, syncJournal);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.tickets = Caffeine.newBuilder()
+                .expireAfterWrite(ticketTtl)
+                .build();
+        replay(journal.open());
+    }
+
+    @Override
+    public IngestionTicket enqueue(Event event) {
+        journalLock.lock();
+        try {
+            if (queue.size() >= capacity) {
+                throw new IngestionQueueFullException(capacity);
+            }
+            Pending pending = new Pending(UUID.randomUUID().toString(), event, false);
+            journal.append(List.of(EventIngestionJournal.Entry.accepted(pending.trackingId(), event)));
+            IngestionTicket ticket = IngestionTicket.queued(pending.trackingId());
+            tickets.put(pending.trackingId(), ticket);
+            queue.add(pending);
+            return ticket;
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<IngestionTicket> findTicket(String trackingId) {
+        return Optional.ofNullable(tickets.getIfPresent(trackingId));
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = new Thread(this::drain, "event-ingestion-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writer != null) {
+            try {
+                writer.join(SHUTDOWN_TIMEOUT.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        journal.close();
+        if (!queue.isEmpty()) {
+            log.info("Stopped event ingestion with {} events left in the journal", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stop after the web server (so nothing is enqueued mid-shutdown), start before it
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("eventify.ingestion.queue.size", queue, BlockingQueue::size)
+                .description("Events accepted for asynchronous creation and not yet written")
+                .register(registry);
+    }
+
+    private void replay(List<EventIngestionJournal.Entry> entries) {
+        Map<String, Pending> pending = new LinkedHashMap<>();
+        for (EventIngestionJournal.Entry entry : entries) {
+            if (EventIngestionJournal.ACCEPTED.equals(entry.type())) {
+                pending.put(entry.trackingId(), new Pending(entry.trackingId(), entry.toEvent(), true));
+                tickets.put(entry.trackingId(), IngestionTicket.queued(entry.trackingId()));
+            } else {
+                pending.remove(entry.trackingId());
+                tickets.put(entry.trackingId(), entry.toTicket());
+            }
+        }
+        queue.addAll(pending.values());
+        if (!pending.isEmpty()) {
+            log.info("Replaying {} queued events from the ingestion journal", pending.size());
+        }
+    }
+
+    private void drain() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                if (batch.isEmpty()) {
+                    Pending first = queue.poll(POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                }
+                List<IngestionTicket> results = write(batch);
+                complete(results, batch.size() == results.size());
+                batch = new ArrayList<>(batch.subList(results.size(), batch.size()));
+                if (!batch.isEmpty()) {
+                    Thread.sleep(RETRY_BACKOFF.toMillis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // Journal failures and the like: keep the batch and try again rather than lose it
+                log.error("Event ingestion writer failed, retrying {} events", batch.size(), e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    /**
+     * Stores the batch and returns one ticket per event in order. Stops early, leaving the
+     * rest of the batch unwritten, if the store becomes unavailable.
+     */
+    private List<IngestionTicket> write(List<Pending> batch) {
+        try {
+            List<Event> saved = eventRepository.saveAll(batch.stream().map(Pending::event).toList());
+            List<IngestionTicket> results = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                results.add(IngestionTicket.created(batch.get(i).trackingId(), published(saved.get(i))));
+            }
+            return results;
+        } catch (RuntimeException e) {
+            if (isTransient(e)) {
+                log.warn("Event store unavailable, retrying {} queued events: {}", batch.size(), e.getMessage());
+                return List.of();
+            }
+            log.debug("Batch of {} events rejected ({}), writing them one at a time", batch.size(), e.getMessage());
+        }
+
+        List<IngestionTicket> results = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            try {
+                results.add(IngestionTicket.created(pending.trackingId(), published(eventRepository.save(pending.event()))));
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    log.warn("Event store unavailable, retrying {} queued events: {}",
+                            batch.size() - results.size(), e.getMessage());
+                    break;
+                }
+                Optional<Event> stored;
+                try {
+                    stored = storedBeforeRestart(pending, e);
+                } catch (RuntimeException lookupFailure) {
+                    log.warn("Cannot check whether replayed event {} was stored, retrying: {}", pending.trackingId(),
+                            lookupFailure.getMessage());
+                    break;
+                }
+                results.add(stored.isPresent()
+                        ? IngestionTicket.created(pending.trackingId(), stored.get().getId())
+                        : IngestionTicket.failed(pending.trackingId(), failureMessage(pending, e)));
+            }
+        }
+        return results;
+    }
+
+    // The process can stop after a batch commits but before its CREATED entries reach the journal; the replayed
+    // insert then collides with the event it stored itself
+    private Optional<Event> storedBeforeRestart(Pending pending, RuntimeException failure) {
+        if (!pending.replayed() || !(failure instanceof DuplicateEventTitleException)) {
+            return Optional.empty();
+        }
+        Event event = pending.event();
+        return eventRepository.findByTitle(event.getTitle()).stream()
+                .filter(stored -> Objects.equals(stored.getDescription(), event.getDescription())
+                        && Objects.equals(stored.getDate(), event.getDate())
+                        && Objects.equals(stored.getHour(), event.getHour())
+                        && Objects.equals(stored.getPrice(), event.getPrice())
+                        && Objects.equals(stored.getHostedBy(), event.getHostedBy())
+                        && Objects.equals(venueId(stored), venueId(event)))
+                .findFirst();
+    }
+
+    private static Long venueId(Event event) {
+        return event.getVenue() == null ? null : event.getVenue().getId();
+    }
+
+    // Store exceptions carry SQL and constraint details, so clients get a fixed message per known cause
+    private static String failureMessage(Pending pending, RuntimeException e) {
+        if (e instanceof DuplicateEventTitleException) {
+            return e.getMessage();
+        }
+        Venue venue = pending.event().getVenue();
+        if (e instanceof DataIntegrityViolationException && venue != null && venue.getId() != null) {
+            // The title is the one unique column and the rest is validated before queueing, which leaves the venue key
+            return "Venue not found with ID: " + venue.getId();
+        }
+        log.warn("Failed to create queued event {}", pending.trackingId(), e);
+        return "Event could not be created";
+    }
+
+    private Long published(Event saved) {
+        changeFeed.publish(ChangeResource.EVENT, ChangeType.CREATED, saved.getId(), saved.getVersion());
+        catalogGenerations.eventsChanged(List.of(saved.getVenue().getId()));
+        return saved.getId();
+    }
+
+    private void complete(List<IngestionTicket> results, boolean batchDone) {
+        if (results.isEmpty()) {
+            return;
+        }
+        journalLock.lock();
+        try {
+            if (batchDone && queue.isEmpty()) {
+                // Everything accepted so far has been written
+                journal.clear();
+            } else {
+                journal.append(results.stream().map(EventIngestionJournal.Entry::completed).toList());
+            }
+            results.forEach(ticket -> tickets.put(ticket.getTrackingId(), ticket));
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    private static void sleepQuietly() {
+        try {
+            Thread.sleep(RETRY_BACKOFF.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Pending(String trackingId, Event event, boolean replayed) {
+    }
+}
@@ -1,30 +1,74 @@
 package com.codeup.eventify.infrastructure.adapters.out.jpa;
 
+import com.codeup.eventify.domain.exception.DuplicateEventTitleException;
+import com.codeup.eventify.domain.exception.StaleVersionException;
 import com.codeup.eventify.domain.model.Event;
 import com.codeup.eventify.domain.ports.out.EventRepositoryPort;
 import com.codeup.eventify.infrastructure.adapters.out.jpa.entity.EventEntity;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.entity.VenueEntity;
 import com.codeup.eventify.infrastructure.adapters.out.jpa.mapper.EventMapper;
 import com.codeup.eventify.infrastructure.adapters.out.jpa.repository.SpringEventRepository;
+import com.codeup.eventify.infrastructure.config.InMemoryPersistenceConfig;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
+@Profile("!" + InMemoryPersistenceConfig.PROFILE)
 @RequiredArgsConstructor
 public class EventJpaAdapter implements EventRepositoryPort {
 
     private final SpringEventRepository springEventRepository;
     private final EventMapper eventMapper;
+    private final EntityManager entityManager;
 
     @Override
     public Event save(Event event) {
-        EventEntity eventEntity = eventMapper.toEntity(event);
-        EventEntity savedEvent = springEventRepository.save(eventEntity);
-        return eventMapper.toDomain(savedEvent);
+        EventEntity savedEvent;
+        try {
+            // Flushed here so a uk_events_title violation surfaces from this call, whatever transaction it joins
+            savedEvent = springEventRepository.saveAndFlush(toEntity(event));
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e, event.getTitle());
+        } catch (OptimisticLockingFailureException e) {
+            throw new StaleVersionException("Event " + event.getId() + " was modified by another request");
+        }
+        return withSaved(event, savedEvent);
+    }
+
+    @Override
+    public List<Event> saveAll(List<Event> events) {
+        List<EventEntity> eventEntities = events.stream()
+                .map(this::toEntity)
+                .collect(Collectors.toList());
+        List<EventEntity> savedEvents;
+        try {
+            // New entities take ids from the pooled sequence, so Hibernate can group the INSERTs into JDBC batches
+            savedEvents = springEventRepository.saveAllAndFlush(eventEntities);
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e, null);
+        }
+        List<Event> result = new ArrayList<>(savedEvents.size());
+        for (int i = 0; i < savedEvents.size(); i++) {
+            result.add(withSaved(events.get(i), savedEvents.get(i)));
+        }
+        return result;
     }
 
     @Override
@@ -41,6 +85,18 @@ public class EventJpaAdapter implements EventRepositoryPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Event> action) {
+        try (Stream<EventEntity> entities = springEventRepository.streamAll()) {
+            entities.forEach(entity -> {
+                action.accept(eventMapper.toDomain(entity));
+                // Detach as we go so the persistence context does not grow with the table
+                entityManager.detach(entity);
+            });
+        }
+    }
+
     @Override
     public List<Event> findByTitle(String title) {
         return springEventRepository.findByTitle(title)
@@ -70,6 +126,14 @@ public class EventJpaAdapter implements EventRepositoryPort {
         return springEventRepository.existsByTitle(title);
     }
 
+    @Override
+    public Set<String> findExistingTitles(Collection<String> titles) {
+        if (titles.isEmpty()) {
+            return Set.of();
+        }
+        return springEventRepository.findTitlesIn(titles);
+    }
+
     @Override
     public void deleteById(Long id) {
         springEventRepository.deleteById(id);
@@ -79,4 +143,41 @@ public class EventJpaAdapter implements EventRepositoryPort {
     public boolean existsById(Long id) {
         return springEventRepository.existsById(id);
     }
+
+    // The venue is attached by reference: the insert only needs its id for the foreign key, so it is never loaded
+    private EventEntity toEntity(Event event) {
+        EventEntity eventEntity = eventMapper.toEntity(event);
+        if (event.getVenue() != null && event.getVenue().getId() != null) {
+            eventEntity.setVenue(entityManager.getReference(VenueEntity.class, event.getVenue().getId()));
+        }
+        return eventEntity;
+    }
+
+    // Mapping the saved entity would initialize the venue reference (a SELECT), so the result is built from
+    // what was written, with the caller's venue
+    private static Event withSaved(Event event, EventEntity savedEvent) {
+        return Event.builder()
+                .id(savedEvent.getId())
+                .title(event.getTitle())
+                .description(event.getDescription())
+                .date(event.getDate())
+                .venue(event.getVenue())
+                .hour(event.getHour())
+                .price(event.getPrice())
+                .hostedBy(event.getHostedBy())
+                .version(savedEvent.getVersion())
+                .updatedAt(savedEvent.getUpdatedAt())
+                .build();
+    }
+
+    private static RuntimeException translate(DataIntegrityViolationException e, String title) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(EventEntity.UNIQUE_TITLE)) {
+                return new DuplicateEventTitleException(title);
+            }
+        }
+        return e;
+    }
 }
@@ -0,0 +1,82 @@
+package com.codeup.eventify.infrastructure.adapters.out.jpa;
+
+import com.codeup.eventify.domain.model.DateRange;
+import com.codeup.eventify.domain.model.EventSort;
+import com.codeup.eventify.domain.model.EventView;
+import com.codeup.eventify.domain.model.PageCursor;
+import com.codeup.eventify.domain.model.ResourceVersion;
+import com.codeup.eventify.domain.ports.out.EventReadModelPort;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.repository.SpringEventViewRepository;
+import com.codeup.eventify.infrastructure.config.InMemoryPersistenceConfig;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@Profile("!" + InMemoryPersistenceConfig.PROFILE)
+@RequiredArgsConstructor
+public class EventReadModelJpaAdapter implements EventReadModelPort {
+
+    // Stand-ins for open range bounds, within what both PostgreSQL and H2 DATE columns accept
+    private static final LocalDate EARLIEST = LocalDate.of(1, 1, 1);
+    private static final LocalDate LATEST = LocalDate.of(9999, 12, 31);
+
+    private final SpringEventViewRepository springEventViewRepository;
+
+    @Override
+    public Optional<EventView> findById(Long id) {
+        return springEventViewRepository.findViewById(id);
+    }
+
+    @Override
+    public Optional<ResourceVersion> findVersionById(Long id) {
+        return springEventViewRepository.findVersionById(id).map(row -> {
+            ResourceVersion version = ResourceVersion.of(row.getVersion(), row.getUpdatedAt());
+            return row.getVenueVersion() == null
+                    ? version
+                    : version.including(row.getVenueVersion(), row.getVenueUpdatedAt());
+        });
+    }
+
+    @Override
+    public List<EventView> findAll() {
+        return springEventViewRepository.findAllViews();
+    }
+
+    @Override
+    public List<EventView> findPage(EventSort sort, PageCursor after, DateRange range, int limit) {
+        if (sort == EventSort.DATE) {
+            LocalDate from = range.getFrom() == null ? EARLIEST : range.getFrom();
+            LocalDate to = range.getTo() == null ? LATEST : range.getTo();
+            if (after == null) {
+                return springEventViewRepository.findDatePage(from, to, Limit.of(limit));
+            }
+            LocalDateTime start = LocalDateTime.parse(after.getSortValue());
+            return springEventViewRepository.findDatePageAfter(from, to, start.toLocalDate(), start.toLocalTime(),
+                    after.getId(), Limit.of(limit));
+        }
+        if (range.isBounded()) {
+            throw new IllegalArgumentException("Date range filters require sort: " + EventSort.DATE);
+        }
+        if (sort == EventSort.TITLE) {
+            return after == null
+                    ? springEventViewRepository.findTitlePage(Limit.of(limit))
+                    : springEventViewRepository.findTitlePageAfter(after.getSortValue(), after.getId(), Limit.of(limit));
+        }
+        return after == null
+                ? springEventViewRepository.findIdPage(Limit.of(limit))
+                : springEventViewRepository.findIdPageAfter(after.getId(), Limit.of(limit));
+    }
+
+    @Override
+    public List<EventView> findByVenueId(Long venueId) {
+        return springEventViewRepository.findViewsByVenueId(venueId);
+    }
+}
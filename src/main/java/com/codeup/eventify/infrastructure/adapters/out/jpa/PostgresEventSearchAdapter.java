@@ -0,0 +1,34 @@
+package com.codeup.eventify.infrastructure.adapters.out.jpa;
+
+import com.codeup.eventify.domain.model.EventSearchHit;
+import com.codeup.eventify.domain.model.EventView;
+import com.codeup.eventify.domain.ports.out.EventSearchPort;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.repository.SpringEventSearchRepository;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.repository.SpringEventSearchRepository.SearchRow;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class PostgresEventSearchAdapter implements EventSearchPort {
+
+    private final SpringEventSearchRepository springEventSearchRepository;
+
+    @Override
+    public List<EventSearchHit> search(String query, int limit, int offset) {
+        return springEventSearchRepository.search(query, limit, offset)
+                .stream()
+                .map(PostgresEventSearchAdapter::toHit)
+                .collect(Collectors.toList());
+    }
+
+    private static EventSearchHit toHit(SearchRow row) {
+        EventView event = new EventView(row.getId(), row.getTitle(), row.getDescription(), row.getEventDate(),
+                row.getEventHour(), row.getPrice(), row.getHostedBy(), row.getVenueId(), row.getVenueName(),
+                row.getVenueCountry(), row.getVenueAddress(), row.getVenueCity(), row.getVenueState(),
+                row.getVenueZipCode());
+        return new EventSearchHit(event, row.getRank(), row.getTitleHighlight(), row.getDescriptionHighlight());
+    }
+}
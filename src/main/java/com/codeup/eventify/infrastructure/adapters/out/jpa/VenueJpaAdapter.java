@@ -1,24 +1,41 @@
 package com.codeup.eventify.infrastructure.adapters.out.jpa;
 
+import com.codeup.eventify.domain.exception.StaleVersionException;
+import com.codeup.eventify.domain.model.PageCursor;
+import com.codeup.eventify.domain.model.ResourceVersion;
 import com.codeup.eventify.domain.model.Venue;
+import com.codeup.eventify.domain.model.VenueSort;
 import com.codeup.eventify.domain.ports.out.VenueRepositoryPort;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.entity.EventEntity;
 import com.codeup.eventify.infrastructure.adapters.out.jpa.entity.VenueEntity;
 import com.codeup.eventify.infrastructure.adapters.out.jpa.mapper.VenueMapper;
 import com.codeup.eventify.infrastructure.adapters.out.jpa.repository.SpringVenueRepository;
+import com.codeup.eventify.infrastructure.config.InMemoryPersistenceConfig;
 
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Component
+@Profile("!" + InMemoryPersistenceConfig.PROFILE)
 @RequiredArgsConstructor
 public class VenueJpaAdapter implements VenueRepositoryPort {
 
     private final SpringVenueRepository springVenueRepository;
     private final VenueMapper venueMapper;
+    private final EntityManagerFactory entityManagerFactory;
 
     @Override
     public Venue save(Venue venue) {
@@ -33,6 +50,25 @@ public class VenueJpaAdapter implements VenueRepositoryPort {
                 .map(venueMapper::toDomain);
     }
 
+    @Override
+    public Optional<ResourceVersion> findVersionById(Long id) {
+        return springVenueRepository.findVersionById(id)
+                .map(row -> ResourceVersion.of(row.getVersion(), row.getUpdatedAt()));
+    }
+
+    @Override
+    public Optional<ResourceVersion> findCurrentVersionById(Long id) {
+        return findVersionById(id);
+    }
+
+    @Override
+    public List<Venue> findAllById(Collection<Long> ids) {
+        return springVenueRepository.findAllById(ids)
+                .stream()
+                .map(venueMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Venue> findAll() {
         return springVenueRepository.findAll()
@@ -41,6 +77,23 @@ public class VenueJpaAdapter implements VenueRepositoryPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Venue> findPage(VenueSort sort, PageCursor after, int limit) {
+        List<VenueEntity> entities;
+        if (sort == VenueSort.NAME) {
+            entities = after == null
+                    ? springVenueRepository.findAllByOrderByNameAscIdAsc(Limit.of(limit))
+                    : springVenueRepository.findNamePageAfter(after.getSortValue(), after.getId(), Limit.of(limit));
+        } else {
+            entities = after == null
+                    ? springVenueRepository.findAllByOrderByIdAsc(Limit.of(limit))
+                    : springVenueRepository.findByIdGreaterThanOrderByIdAsc(after.getId(), Limit.of(limit));
+        }
+        return entities.stream()
+                .map(venueMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Venue> findByName(String name) {
         return springVenueRepository.findByName(name)
@@ -55,6 +108,18 @@ public class VenueJpaAdapter implements VenueRepositoryPort {
     @Override
     public void deleteById(Long id) {
         springVenueRepository.deleteById(id);
+        // The database deletes the venue's events by cascade, so Hibernate never learns they are gone. Evict them
+        // once the delete is visible, or a read in between could cache them again.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictCachedEvents();
+                }
+            });
+            return;
+        }
+        evictCachedEvents();
     }
 
     @Override
@@ -64,15 +129,28 @@ public class VenueJpaAdapter implements VenueRepositoryPort {
 
     @Override
     public Venue update(Long id, Venue venue) {
-        // Verify venue exists before updating
-        if (!springVenueRepository.existsById(id)) {
-            throw new RuntimeException("Venue not found with id: " + id);
-        }
+        // Verify venue exists before updating; an unconditional update writes against the current version
+        Long currentVersion = springVenueRepository.findVersionById(id)
+                .orElseThrow(() -> new RuntimeException("Venue not found with id: " + id))
+                .getVersion();
 
         VenueEntity venueEntity = venueMapper.toEntity(venue);
         venueEntity.setId(id);
+        if (venueEntity.getVersion() == null) {
+            venueEntity.setVersion(currentVersion);
+        }
+
+        try {
+            VenueEntity updatedVenue = springVenueRepository.saveAndFlush(venueEntity);
+            return venueMapper.toDomain(updatedVenue);
+        } catch (OptimisticLockingFailureException e) {
+            throw new StaleVersionException("Venue " + id + " was modified by another request");
+        }
+    }
 
-        VenueEntity updatedVenue = springVenueRepository.save(venueEntity);
-        return venueMapper.toDomain(updatedVenue);
+    private void evictCachedEvents() {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(EventEntity.class);
+        cache.evictQueryRegion(EventEntity.BY_VENUE_CACHE_REGION);
     }
 }
@@ -2,20 +2,33 @@ package com.codeup.eventify.infrastructure.adapters.out.jpa.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Data
 @Builder
 @Entity
-@Table(name = "events")
+@Table(name = "events", uniqueConstraints = @UniqueConstraint(name = EventEntity.UNIQUE_TITLE, columnNames = "event_title"))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EventEntity.CACHE_REGION)
 @AllArgsConstructor
 @NoArgsConstructor
 @ToString
 public class EventEntity {
 
+    public static final String UNIQUE_TITLE = "uk_events_title";
+
+    // Second-level cache regions, sized in hibernate-cache.conf
+    public static final String CACHE_REGION = "events";
+    public static final String BY_VENUE_CACHE_REGION = "events-by-venue";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_id_seq")
+    @SequenceGenerator(name = "events_id_seq", sequenceName = "events_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "event_title")
@@ -29,7 +42,7 @@ public class EventEntity {
     private VenueEntity venue;
 
     @Column(name = "date")
-    private String date;
+    private LocalDate date;
 
     @Column(name = "event_hour")
     private LocalTime hour;
@@ -39,4 +52,12 @@ public class EventEntity {
 
     @Column(name = "hoster")
     private String hostedBy;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Instant updatedAt;
 }
\ No newline at end of file
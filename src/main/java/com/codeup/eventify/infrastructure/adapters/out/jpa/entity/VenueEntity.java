@@ -2,15 +2,25 @@ package com.codeup.eventify.infrastructure.adapters.out.jpa.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
 
 @Entity
 @Table(name = "venues")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = VenueEntity.CACHE_REGION)
 @Data
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 public class VenueEntity {
 
+    // Second-level cache regions, sized in hibernate-cache.conf
+    public static final String CACHE_REGION = "venues";
+    public static final String BY_NAME_CACHE_REGION = "venues-by-name";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -32,4 +42,12 @@ public class VenueEntity {
 
     @Column(name = "zip_code")
     private String zipCode;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Instant updatedAt;
 }
\ No newline at end of file
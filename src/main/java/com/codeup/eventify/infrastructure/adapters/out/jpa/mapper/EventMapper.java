@@ -34,6 +34,8 @@ public interface EventMapper {
                 .city(venueEntity.getCity())
                 .state(venueEntity.getState())
                 .zipCode(venueEntity.getZipCode())
+                .version(venueEntity.getVersion())
+                .updatedAt(venueEntity.getUpdatedAt())
                 .build();
     }
 
@@ -50,6 +52,8 @@ public interface EventMapper {
                 .city(venue.getCity())
                 .state(venue.getState())
                 .zipCode(venue.getZipCode())
+                .version(venue.getVersion())
+                .updatedAt(venue.getUpdatedAt())
                 .build();
     }
 }
@@ -1,19 +1,62 @@
 package com.codeup.eventify.infrastructure.adapters.out.jpa.repository;
 
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.codeup.eventify.infrastructure.adapters.out.jpa.entity.EventEntity;
 
+import jakarta.persistence.QueryHint;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+// Every query that returns event entities fetches the venue in the same SELECT (entity graph or JOIN FETCH);
+// without it Hibernate issues one extra SELECT per distinct venue. EventSqlStatementCountTest guards this.
 @Repository
 public interface SpringEventRepository extends JpaRepository<EventEntity, Long> {
+    @Override
+    @EntityGraph(attributePaths = "venue")
+    Optional<EventEntity> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = "venue")
+    List<EventEntity> findAll();
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    @EntityGraph(attributePaths = "venue")
     List<EventEntity> findByTitle(String title);
 
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = EventEntity.BY_VENUE_CACHE_REGION)
+    })
+    @EntityGraph(attributePaths = "venue")
     List<EventEntity> findByVenueId(Long venueId);
 
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    @EntityGraph(attributePaths = "venue")
     List<EventEntity> findByHostedBy(String hostedBy);
 
     boolean existsByTitle(String title);
+
+    @Query("SELECT e.title FROM EventEntity e WHERE e.title IN :titles")
+    Set<String> findTitlesIn(@Param("titles") Collection<String> titles);
+
+    // Server-side cursor: rows are pulled from the database in fetch-size chunks instead of
+    // being materialized as one list. Must be consumed inside a transaction.
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM EventEntity e JOIN FETCH e.venue ORDER BY e.id")
+    Stream<EventEntity> streamAll();
 }
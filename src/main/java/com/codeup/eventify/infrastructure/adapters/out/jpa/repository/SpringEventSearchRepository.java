@@ -0,0 +1,85 @@
+package com.codeup.eventify.infrastructure.adapters.out.jpa.repository;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import com.codeup.eventify.infrastructure.adapters.out.jpa.entity.EventEntity;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+// PostgreSQL only: relies on the generated events.search_vector column and its GIN index
+// (database/migrations/003_event_full_text_search.sql). The inner query ranks and pages using
+// the index; the outer one joins the venue and builds highlights for the returned page only,
+// since ts_headline re-parses the document and is the expensive part. Highlights are built from
+// the HTML-escaped text, so <mark> is the only markup in them; the parser reads the entities as
+// entities and never highlights them.
+public interface SpringEventSearchRepository extends Repository<EventEntity, Long> {
+
+    @Query(value = "SELECT e.id AS id, e.event_title AS title, e.description AS description, e.date AS eventDate, "
+            + "e.event_hour AS eventHour, e.price AS price, e.hoster AS hostedBy, "
+            + "v.id AS venueId, v.venue_name AS venueName, v.country AS venueCountry, v.address AS venueAddress, "
+            + "v.city AS venueCity, v.state AS venueState, v.zip_code AS venueZipCode, "
+            + "hits.rank AS rank, "
+            + "CASE WHEN to_tsvector('english', e.event_title) @@ hits.query "
+            + "THEN ts_headline('english', "
+            + "replace(replace(replace(replace(replace(e.event_title, '&', '&amp;'), '<', '&lt;'), '>', '&gt;'), "
+            + "'\"', '&quot;'), '''', '&#39;'), hits.query, "
+            + "'StartSel=<mark>, StopSel=</mark>, HighlightAll=true') "
+            + "END AS titleHighlight, "
+            + "CASE WHEN to_tsvector('english', coalesce(e.description, '')) @@ hits.query "
+            + "THEN ts_headline('english', "
+            + "replace(replace(replace(replace(replace(e.description, '&', '&amp;'), '<', '&lt;'), '>', '&gt;'), "
+            + "'\"', '&quot;'), '''', '&#39;'), hits.query, "
+            + "'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=30, MinWords=10') "
+            + "END AS descriptionHighlight "
+            + "FROM ("
+            + "SELECT s.id AS id, ts_rank(s.search_vector, query) AS rank, query "
+            + "FROM events s, websearch_to_tsquery('english', :query) query "
+            + "WHERE s.search_vector @@ query "
+            + "ORDER BY rank DESC, s.id "
+            + "LIMIT :limit OFFSET :offset"
+            + ") hits "
+            + "JOIN events e ON e.id = hits.id "
+            + "LEFT JOIN venues v ON v.id = e.venue_id "
+            + "ORDER BY hits.rank DESC, hits.id", nativeQuery = true)
+    List<SearchRow> search(@Param("query") String query, @Param("limit") int limit, @Param("offset") int offset);
+
+    interface SearchRow {
+        Long getId();
+
+        String getTitle();
+
+        String getDescription();
+
+        LocalDate getEventDate();
+
+        LocalTime getEventHour();
+
+        Double getPrice();
+
+        String getHostedBy();
+
+        Long getVenueId();
+
+        String getVenueName();
+
+        String getVenueCountry();
+
+        String getVenueAddress();
+
+        String getVenueCity();
+
+        String getVenueState();
+
+        String getVenueZipCode();
+
+        Double getRank();
+
+        String getTitleHighlight();
+
+        String getDescriptionHighlight();
+    }
+}
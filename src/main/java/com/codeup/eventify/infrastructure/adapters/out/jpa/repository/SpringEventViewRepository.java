@@ -0,0 +1,84 @@
+package com.codeup.eventify.infrastructure.adapters.out.jpa.repository;
+
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.Repository;
+
+import com.codeup.eventify.domain.model.EventView;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.entity.EventEntity;
+
+import jakarta.persistence.QueryHint;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+// Constructor-expression projections: each row becomes one EventView, with no managed entities,
+// no persistence-context snapshot and no dirty checking.
+public interface SpringEventViewRepository extends Repository<EventEntity, Long> {
+
+    String SELECT_VIEW = "SELECT new com.codeup.eventify.domain.model.EventView("
+            + "e.id, e.title, e.description, e.date, e.hour, e.price, e.hostedBy, "
+            + "v.id, v.name, v.country, v.address, v.city, v.state, v.zipCode, "
+            + "e.version, e.updatedAt, v.version, v.updatedAt) "
+            + "FROM EventEntity e LEFT JOIN e.venue v ";
+
+    @Query(SELECT_VIEW + "WHERE e.id = :id")
+    Optional<EventView> findViewById(@Param("id") Long id);
+
+    // Answers conditional GETs: four small columns by primary key, no descriptions or venue details
+    @Query("SELECT e.version AS version, e.updatedAt AS updatedAt, v.version AS venueVersion, "
+            + "v.updatedAt AS venueUpdatedAt FROM EventEntity e LEFT JOIN e.venue v WHERE e.id = :id")
+    Optional<VersionRow> findVersionById(@Param("id") Long id);
+
+    @Query(SELECT_VIEW + "ORDER BY e.id")
+    List<EventView> findAllViews();
+
+    // Cached: Hibernate drops the results whenever events or venues are written through it
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = EventEntity.BY_VENUE_CACHE_REGION)
+    })
+    @Query(SELECT_VIEW + "WHERE v.id = :venueId ORDER BY e.id")
+    List<EventView> findViewsByVenueId(@Param("venueId") Long venueId);
+
+    @Query(SELECT_VIEW + "ORDER BY e.id ASC")
+    List<EventView> findIdPage(Limit limit);
+
+    @Query(SELECT_VIEW + "WHERE e.id > :id ORDER BY e.id ASC")
+    List<EventView> findIdPageAfter(@Param("id") Long id, Limit limit);
+
+    @Query(SELECT_VIEW + "ORDER BY e.title ASC, e.id ASC")
+    List<EventView> findTitlePage(Limit limit);
+
+    // Cursors compare as a row value, which the database can use as the start of the index scan; the equivalent
+    // "title > :title OR (title = :title AND id > :id)" is only a filter, so page N would read every earlier row
+    @Query(SELECT_VIEW + "WHERE (e.title, e.id) > (:title, :id) ORDER BY e.title ASC, e.id ASC")
+    List<EventView> findTitlePageAfter(@Param("title") String title, @Param("id") Long id, Limit limit);
+
+    // Chronological pages are a range scan on idx_events_date_hour_id, starting at the cursor on later pages
+    @Query(SELECT_VIEW + "WHERE e.date BETWEEN :from AND :to "
+            + "ORDER BY e.date ASC, e.hour ASC, e.id ASC")
+    List<EventView> findDatePage(@Param("from") LocalDate from, @Param("to") LocalDate to, Limit limit);
+
+    @Query(SELECT_VIEW + "WHERE e.date BETWEEN :from AND :to "
+            + "AND (e.date, e.hour, e.id) > (:date, :hour, :id) "
+            + "ORDER BY e.date ASC, e.hour ASC, e.id ASC")
+    List<EventView> findDatePageAfter(@Param("from") LocalDate from, @Param("to") LocalDate to,
+            @Param("date") LocalDate date, @Param("hour") LocalTime hour, @Param("id") Long id, Limit limit);
+
+    interface VersionRow {
+        Long getVersion();
+
+        Instant getUpdatedAt();
+
+        Long getVenueVersion();
+
+        Instant getVenueUpdatedAt();
+    }
+}
@@ -1,15 +1,54 @@
 package com.codeup.eventify.infrastructure.adapters.out.jpa.repository;
 
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.codeup.eventify.infrastructure.adapters.out.jpa.entity.VenueEntity;
 
+import jakarta.persistence.QueryHint;
+
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
+// Reads that only feed responses load read-only entities: no snapshot is kept and they are never dirty-checked
 @Repository
 public interface SpringVenueRepository extends JpaRepository<VenueEntity, Long> {
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = VenueEntity.BY_NAME_CACHE_REGION)
+    })
     Optional<VenueEntity> findByName(String name);
 
     boolean existsByName(String name);
+
+    @Query("SELECT v.version AS version, v.updatedAt AS updatedAt FROM VenueEntity v WHERE v.id = :id")
+    Optional<VersionRow> findVersionById(@Param("id") Long id);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    List<VenueEntity> findAllByOrderByIdAsc(Limit limit);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    List<VenueEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    List<VenueEntity> findAllByOrderByNameAscIdAsc(Limit limit);
+
+    // A row-value cursor, so the scan on idx_venues_name_id starts at the cursor (see SpringEventViewRepository)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT v FROM VenueEntity v WHERE (v.name, v.id) > (:name, :id) "
+            + "ORDER BY v.name ASC, v.id ASC")
+    List<VenueEntity> findNamePageAfter(@Param("name") String name, @Param("id") Long id, Limit limit);
+
+    interface VersionRow {
+        Long getVersion();
+
+        Instant getUpdatedAt();
+    }
 }
@@ -0,0 +1,48 @@
+package com.codeup.eventify.infrastructure.adapters.out.memory;
+
+import com.codeup.eventify.domain.model.DateRange;
+import com.codeup.eventify.domain.model.EventSort;
+import com.codeup.eventify.domain.model.EventView;
+import com.codeup.eventify.domain.model.PageCursor;
+import com.codeup.eventify.domain.model.ResourceVersion;
+import com.codeup.eventify.domain.ports.out.EventReadModelPort;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link EventReadModelPort} served from the same records as {@link InMemoryEventRepositoryAdapter}.
+ */
+public class InMemoryEventReadModelAdapter implements EventReadModelPort {
+
+    private final InMemoryEventRepositoryAdapter events;
+
+    public InMemoryEventReadModelAdapter(InMemoryEventRepositoryAdapter events) {
+        this.events = events;
+    }
+
+    @Override
+    public Optional<EventView> findById(Long id) {
+        return events.findViewById(id);
+    }
+
+    @Override
+    public Optional<ResourceVersion> findVersionById(Long id) {
+        return events.findVersionById(id);
+    }
+
+    @Override
+    public List<EventView> findAll() {
+        return events.findAllViews();
+    }
+
+    @Override
+    public List<EventView> findPage(EventSort sort, PageCursor after, DateRange range, int limit) {
+        return events.findViewPage(sort, after, range, limit);
+    }
+
+    @Override
+    public List<EventView> findByVenueId(Long venueId) {
+        return events.findViewsByVenueId(venueId);
+    }
+}
@@ -0,0 +1,522 @@
+package com.codeup.eventify.infrastructure.adapters.out.memory;
+
+import com.codeup.eventify.domain.exception.DuplicateEventTitleException;
+import com.codeup.eventify.domain.exception.StaleVersionException;
+import com.codeup.eventify.domain.model.DateRange;
+import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.model.EventSort;
+import com.codeup.eventify.domain.model.EventView;
+import com.codeup.eventify.domain.model.PageCursor;
+import com.codeup.eventify.domain.model.ResourceVersion;
+import com.codeup.eventify.domain.model.Venue;
+import com.codeup.eventify.domain.ports.out.EventRepositoryPort;
+import com.codeup.eventify.infrastructure.adapters.out.memory.InMemoryVenueRepositoryAdapter.VenueRecord;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * {@link EventRepositoryPort} held entirely in memory
+ * (profile {@code in-memory}). Events are stored as immutable records keyed by a
+ * primitive id, split into lock-striped segments; each segment indexes its events by
+ * title, venue id, host and (in a sorted map) date, so every lookup the ports offer is
+ * a map probe or range walk per segment rather than a scan. Titles are unique, like the
+ * {@code uk_events_title} constraint. Venues are joined from the {@link InMemoryVenueRepositoryAdapter}
+ * at read time, and deleting a venue deletes its events like the database cascade.
+ */
+public class InMemoryEventRepositoryAdapter implements EventRepositoryPort {
+
+    private static final int SEGMENTS = 16;
+    private static final long NO_VENUE = 0L;
+    private static final Comparator<EventRecord> BY_ID = Comparator.comparingLong(EventRecord::id);
+    private static final Comparator<EventRecord> BY_TITLE = Comparator
+            .comparing(EventRecord::title, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingLong(EventRecord::id);
+    private static final Comparator<EventRecord> BY_DATE = Comparator
+            .comparing(EventRecord::date, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(EventRecord::hour, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingLong(EventRecord::id);
+
+    private final InMemoryVenueRepositoryAdapter venues;
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentMap<String, Long> titleOwners = new ConcurrentHashMap<>();
+
+    public InMemoryEventRepositoryAdapter(InMemoryVenueRepositoryAdapter venues) {
+        this.venues = venues;
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+        venues.onDelete(this::deleteByVenueId);
+    }
+
+    @Override
+    public Event save(Event event) {
+        long id = event.getId() == null ? sequence.incrementAndGet() : reserve(event.getId());
+        boolean claimed = claimTitle(event.getTitle(), id);
+        Segment segment = segmentFor(id);
+        EventRecord saved;
+        EventRecord replaced;
+        segment.lock.writeLock().lock();
+        try {
+            saved = toRecord(id, event, nextVersion(segment.byId.get(id), event));
+            replaced = segment.put(saved);
+        } catch (RuntimeException e) {
+            if (claimed) {
+                titleOwners.remove(event.getTitle(), id);
+            }
+            throw e;
+        } finally {
+            segment.lock.writeLock().unlock();
+        }
+        if (replaced != null && !Objects.equals(replaced.title(), saved.title())) {
+            releaseTitle(replaced);
+        }
+        return toEvent(saved);
+    }
+
+    @Override
+    public List<Event> saveAll(List<Event> events) {
+        List<Event> savedEvents = new ArrayList<>(events.size());
+        try {
+            for (Event event : events) {
+                savedEvents.add(save(event));
+            }
+        } catch (RuntimeException e) {
+            // All or nothing, like the JPA adapter's transaction: undo the inserts made so far
+            for (int i = 0; i < savedEvents.size(); i++) {
+                if (events.get(i).getId() == null) {
+                    deleteById(savedEvents.get(i).getId());
+                }
+            }
+            throw e;
+        }
+        return savedEvents;
+    }
+
+    @Override
+    public Optional<Event> findById(Long id) {
+        return Optional.ofNullable(findRecord(requireId(id))).map(this::toEvent);
+    }
+
+    @Override
+    public List<Event> findAll() {
+        return map(allSortedById(), this::toEvent);
+    }
+
+    @Override
+    public void streamAll(Consumer<Event> action) {
+        allSortedById().forEach(event -> action.accept(toEvent(event)));
+    }
+
+    @Override
+    public List<Event> findByTitle(String title) {
+        return map(collect(segment -> segment.byTitle.get(title)), this::toEvent);
+    }
+
+    @Override
+    public List<Event> findByVenueId(Long venueId) {
+        return map(collect(segment -> segment.byVenue.get(requireId(venueId))), this::toEvent);
+    }
+
+    @Override
+    public List<Event> findByHostedBy(String hostedBy) {
+        return map(collect(segment -> segment.byHost.get(hostedBy)), this::toEvent);
+    }
+
+    @Override
+    public boolean existsByTitle(String title) {
+        for (Segment segment : segments) {
+            segment.lock.readLock().lock();
+            try {
+                if (segment.byTitle.containsKey(title)) {
+                    return true;
+                }
+            } finally {
+                segment.lock.readLock().unlock();
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Set<String> findExistingTitles(Collection<String> titles) {
+        Set<String> existing = new HashSet<>();
+        for (Segment segment : segments) {
+            segment.lock.readLock().lock();
+            try {
+                for (String title : titles) {
+                    if (segment.byTitle.containsKey(title)) {
+                        existing.add(title);
+                    }
+                }
+            } finally {
+                segment.lock.readLock().unlock();
+            }
+        }
+        return existing;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        long eventId = requireId(id);
+        Segment segment = segmentFor(eventId);
+        EventRecord removed;
+        segment.lock.writeLock().lock();
+        try {
+            removed = segment.remove(eventId);
+        } finally {
+            segment.lock.writeLock().unlock();
+        }
+        if (removed != null) {
+            releaseTitle(removed);
+        }
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return findRecord(requireId(id)) != null;
+    }
+
+    // Read-model queries, exposed through InMemoryEventReadModelAdapter
+
+    Optional<EventView> findViewById(Long id) {
+        return Optional.ofNullable(findRecord(requireId(id))).map(this::toView);
+    }
+
+    Optional<ResourceVersion> findVersionById(Long id) {
+        return Optional.ofNullable(findRecord(requireId(id))).map(event -> {
+            ResourceVersion version = ResourceVersion.of(event.version(), event.updatedAt());
+            VenueRecord venue = event.venueId() == NO_VENUE ? null : venues.findRecord(event.venueId());
+            return venue == null ? version : version.including(venue.version(), venue.updatedAt());
+        });
+    }
+
+    List<EventView> findAllViews() {
+        return map(allSortedById(), this::toView);
+    }
+
+    List<EventView> findViewPage(EventSort sort, PageCursor after, DateRange range, int limit) {
+        if (sort == EventSort.DATE) {
+            return map(findDatePage(after, range, limit), this::toView);
+        }
+        if (range.isBounded()) {
+            throw new IllegalArgumentException("Date range filters require sort: " + EventSort.DATE);
+        }
+        TopK<EventRecord> page;
+        if (sort == EventSort.TITLE) {
+            page = new TopK<>(BY_TITLE, limit);
+            EventRecord cursor = after == null ? null
+                    : new EventRecord(after.getId(), after.getSortValue(), null, null, NO_VENUE, null, null, null, 0L,
+                            null);
+            forEachRecord(event -> {
+                if (cursor == null || BY_TITLE.compare(event, cursor) > 0) {
+                    page.offer(event);
+                }
+            });
+        } else {
+            page = new TopK<>(BY_ID, limit);
+            long afterId = after == null ? Long.MIN_VALUE : after.getId();
+            forEachRecord(event -> {
+                if (event.id() > afterId) {
+                    page.offer(event);
+                }
+            });
+        }
+        return map(page.sorted(), this::toView);
+    }
+
+    // Walks each segment's date index from the lower bound and stops once a segment has supplied a full page
+    private List<EventRecord> findDatePage(PageCursor after, DateRange range, int limit) {
+        EventRecord cursor = after == null ? null : dateCursor(after);
+        LocalDate lower = range.getFrom();
+        if (cursor != null && (lower == null || lower.isBefore(cursor.date()))) {
+            lower = cursor.date();
+        }
+        TopK<EventRecord> page = new TopK<>(BY_DATE, limit);
+        for (Segment segment : segments) {
+            segment.lock.readLock().lock();
+            try {
+                NavigableMap<LocalDate, LongObjectMap<EventRecord>> dates = segment.byDate;
+                if (lower != null) {
+                    dates = dates.tailMap(lower, true);
+                }
+                if (range.getTo() != null) {
+                    dates = dates.headMap(range.getTo(), true);
+                }
+                int[] taken = { 0 };
+                for (LongObjectMap<EventRecord> sameDay : dates.values()) {
+                    sameDay.forEachValue(event -> {
+                        if (cursor == null || BY_DATE.compare(event, cursor) > 0) {
+                            page.offer(event);
+                            taken[0]++;
+                        }
+                    });
+                    if (taken[0] >= limit) {
+                        break;
+                    }
+                }
+            } finally {
+                segment.lock.readLock().unlock();
+            }
+        }
+        return page.sorted();
+    }
+
+    private static EventRecord dateCursor(PageCursor after) {
+        LocalDateTime start = LocalDateTime.parse(after.getSortValue());
+        return new EventRecord(after.getId(), null, null, start.toLocalDate(), NO_VENUE, start.toLocalTime(), null,
+                null, 0L, null);
+    }
+
+    List<EventView> findViewsByVenueId(Long venueId) {
+        return map(collect(segment -> segment.byVenue.get(requireId(venueId))), this::toView);
+    }
+
+    private void deleteByVenueId(long venueId) {
+        for (Segment segment : segments) {
+            segment.lock.writeLock().lock();
+            try {
+                LongObjectMap<EventRecord> atVenue = segment.byVenue.get(venueId);
+                if (atVenue != null) {
+                    List<EventRecord> removed = new ArrayList<>(atVenue.size());
+                    atVenue.forEachValue(removed::add);
+                    removed.forEach(event -> {
+                        segment.remove(event.id());
+                        releaseTitle(event);
+                    });
+                }
+            } finally {
+                segment.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    // Titles are unique across segments, so they are claimed in one shared map before the event is stored.
+    // Returns whether this call took the claim (false if the event already held the title).
+    private boolean claimTitle(String title, long id) {
+        if (title == null) {
+            return false;
+        }
+        Long owner = titleOwners.putIfAbsent(title, id);
+        if (owner != null && owner != id) {
+            throw new DuplicateEventTitleException(title);
+        }
+        return owner == null;
+    }
+
+    private void releaseTitle(EventRecord event) {
+        if (event.title() != null) {
+            titleOwners.remove(event.title(), event.id());
+        }
+    }
+
+    private EventRecord findRecord(long id) {
+        Segment segment = segmentFor(id);
+        segment.lock.readLock().lock();
+        try {
+            return segment.byId.get(id);
+        } finally {
+            segment.lock.readLock().unlock();
+        }
+    }
+
+    // Gathers one index bucket from every segment, in id order
+    private List<EventRecord> collect(Function<Segment, LongObjectMap<EventRecord>> bucket) {
+        List<EventRecord> events = new ArrayList<>();
+        for (Segment segment : segments) {
+            segment.lock.readLock().lock();
+            try {
+                LongObjectMap<EventRecord> matches = bucket.apply(segment);
+                if (matches != null) {
+                    matches.forEachValue(events::add);
+                }
+            } finally {
+                segment.lock.readLock().unlock();
+            }
+        }
+        events.sort(BY_ID);
+        return events;
+    }
+
+    private List<EventRecord> allSortedById() {
+        List<EventRecord> events = new ArrayList<>();
+        forEachRecord(events::add);
+        events.sort(BY_ID);
+        return events;
+    }
+
+    private void forEachRecord(Consumer<EventRecord> action) {
+        for (Segment segment : segments) {
+            segment.lock.readLock().lock();
+            try {
+                segment.byId.forEachValue(action);
+            } finally {
+                segment.lock.readLock().unlock();
+            }
+        }
+    }
+
+    // Explicit ids move the sequence past them so generated ids never collide
+    private long reserve(long id) {
+        sequence.accumulateAndGet(id, Math::max);
+        return id;
+    }
+
+    // Same optimistic check as the JPA @Version column: a write carrying a version must match the stored one
+    private static long nextVersion(EventRecord current, Event event) {
+        if (current == null) {
+            return 0L;
+        }
+        if (event.getVersion() != null && event.getVersion() != current.version()) {
+            throw new StaleVersionException("Event " + current.id() + " was modified by another request");
+        }
+        return current.version() + 1;
+    }
+
+    private static EventRecord toRecord(long id, Event event, long version) {
+        long venueId = event.getVenue() == null || event.getVenue().getId() == null
+                ? NO_VENUE
+                : event.getVenue().getId();
+        return new EventRecord(id, event.getTitle(), event.getDescription(), event.getDate(), venueId,
+                event.getHour(), event.getPrice(), event.getHostedBy(), version, Instant.now());
+    }
+
+    private Event toEvent(EventRecord event) {
+        return Event.builder()
+                .id(event.id())
+                .title(event.title())
+                .description(event.description())
+                .date(event.date())
+                .venue(venueOf(event))
+                .hour(event.hour())
+                .price(event.price())
+                .hostedBy(event.hostedBy())
+                .version(event.version())
+                .updatedAt(event.updatedAt())
+                .build();
+    }
+
+    private EventView toView(EventRecord event) {
+        return EventView.builder()
+                .id(event.id())
+                .title(event.title())
+                .description(event.description())
+                .date(event.date())
+                .venue(venueOf(event))
+                .hour(event.hour())
+                .price(event.price())
+                .hostedBy(event.hostedBy())
+                .version(event.version())
+                .updatedAt(event.updatedAt())
+                .build();
+    }
+
+    private Venue venueOf(EventRecord event) {
+        if (event.venueId() == NO_VENUE) {
+            return null;
+        }
+        VenueRecord venue = venues.findRecord(event.venueId());
+        return venue == null ? null : InMemoryVenueRepositoryAdapter.toDomain(venue);
+    }
+
+    private Segment segmentFor(long id) {
+        return segments[Long.hashCode(id) & (SEGMENTS - 1)];
+    }
+
+    private static long requireId(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("The given id must not be null");
+        }
+        return id;
+    }
+
+    private static <T> List<T> map(List<EventRecord> events, Function<EventRecord, T> mapper) {
+        List<T> result = new ArrayList<>(events.size());
+        for (EventRecord event : events) {
+            result.add(mapper.apply(event));
+        }
+        return result;
+    }
+
+    private record EventRecord(long id, String title, String description, LocalDate date, long venueId,
+            LocalTime hour, Double price, String hostedBy, long version, Instant updatedAt) {
+    }
+
+    private static final class Segment {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final LongObjectMap<EventRecord> byId = new LongObjectMap<>();
+        private final Map<String, LongObjectMap<EventRecord>> byTitle = new HashMap<>();
+        private final Map<String, LongObjectMap<EventRecord>> byHost = new HashMap<>();
+        private final LongObjectMap<LongObjectMap<EventRecord>> byVenue = new LongObjectMap<>();
+        private final NavigableMap<LocalDate, LongObjectMap<EventRecord>> byDate = new TreeMap<>();
+
+        private EventRecord put(EventRecord event) {
+            EventRecord replaced = remove(event.id());
+            byId.put(event.id(), event);
+            byTitle.computeIfAbsent(event.title(), title -> new LongObjectMap<>()).put(event.id(), event);
+            byHost.computeIfAbsent(event.hostedBy(), host -> new LongObjectMap<>()).put(event.id(), event);
+            LongObjectMap<EventRecord> atVenue = byVenue.get(event.venueId());
+            if (atVenue == null) {
+                atVenue = new LongObjectMap<>();
+                byVenue.put(event.venueId(), atVenue);
+            }
+            atVenue.put(event.id(), event);
+            if (event.date() != null) {
+                byDate.computeIfAbsent(event.date(), date -> new LongObjectMap<>()).put(event.id(), event);
+            }
+            return replaced;
+        }
+
+        private EventRecord remove(long id) {
+            EventRecord removed = byId.remove(id);
+            if (removed == null) {
+                return null;
+            }
+            unindex(byTitle, removed.title(), id);
+            unindex(byHost, removed.hostedBy(), id);
+            LongObjectMap<EventRecord> atVenue = byVenue.get(removed.venueId());
+            atVenue.remove(id);
+            if (atVenue.isEmpty()) {
+                byVenue.remove(removed.venueId());
+            }
+            if (removed.date() != null) {
+                LongObjectMap<EventRecord> sameDay = byDate.get(removed.date());
+                sameDay.remove(id);
+                if (sameDay.isEmpty()) {
+                    byDate.remove(removed.date());
+                }
+            }
+            return removed;
+        }
+
+        private static void unindex(Map<String, LongObjectMap<EventRecord>> index, String key, long id) {
+            LongObjectMap<EventRecord> bucket = index.get(key);
+            bucket.remove(id);
+            if (bucket.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.codeup.eventify.infrastructure.adapters.out.memory;
+
+import com.codeup.eventify.domain.exception.StaleVersionException;
+import com.codeup.eventify.domain.model.PageCursor;
+import com.codeup.eventify.domain.model.ResourceVersion;
+import com.codeup.eventify.domain.model.Venue;
+import com.codeup.eventify.domain.model.VenueSort;
+import com.codeup.eventify.domain.ports.out.VenueRepositoryPort;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * {@link VenueRepositoryPort} held entirely in memory (profile {@code in-memory}).
+ * Venues are stored as immutable records in primitive-keyed maps, split into
+ * lock-striped segments by id so writers to different venues do not contend; each
+ * segment also indexes its venues by name. Data lives only as long as the JVM.
+ */
+public class InMemoryVenueRepositoryAdapter implements VenueRepositoryPort {
+
+    private static final int SEGMENTS = 16;
+    private static final Comparator<VenueRecord> BY_ID = Comparator.comparingLong(VenueRecord::id);
+    private static final Comparator<VenueRecord> BY_NAME = Comparator
+            .comparing(VenueRecord::name, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingLong(VenueRecord::id);
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<LongConsumer> deleteListeners = new CopyOnWriteArrayList<>();
+
+    public InMemoryVenueRepositoryAdapter() {
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * Registers a callback run with the id of every deleted venue, so dependent
+     * stores can cascade the delete the way the database foreign key does.
+     */
+    public void onDelete(LongConsumer listener) {
+        deleteListeners.add(listener);
+    }
+
+    @Override
+    public Venue save(Venue venue) {
+        long id = venue.getId() == null ? sequence.incrementAndGet() : reserve(venue.getId());
+        Segment segment = segmentFor(id);
+        VenueRecord saved;
+        segment.lock.writeLock().lock();
+        try {
+            saved = toRecord(id, venue, nextVersion(segment.byId.get(id), venue));
+            segment.put(saved);
+        } finally {
+            segment.lock.writeLock().unlock();
+        }
+        return toDomain(saved);
+    }
+
+    @Override
+    public Optional<Venue> findById(Long id) {
+        return Optional.ofNullable(findRecord(requireId(id))).map(InMemoryVenueRepositoryAdapter::toDomain);
+    }
+
+    @Override
+    public Optional<ResourceVersion> findVersionById(Long id) {
+        return Optional.ofNullable(findRecord(requireId(id)))
+                .map(venue -> ResourceVersion.of(venue.version(), venue.updatedAt()));
+    }
+
+    @Override
+    public Optional<ResourceVersion> findCurrentVersionById(Long id) {
+        return findVersionById(id);
+    }
+
+    @Override
+    public List<Venue> findAllById(Collection<Long> ids) {
+        List<Venue> venues = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            VenueRecord venue = findRecord(requireId(id));
+            if (venue != null) {
+                venues.add(toDomain(venue));
+            }
+        }
+        return venues;
+    }
+
+    @Override
+    public List<Venue> findAll() {
+        List<VenueRecord> venues = new ArrayList<>();
+        forEachRecord(venues::add);
+        venues.sort(BY_ID);
+        return toDomain(venues);
+    }
+
+    @Override
+    public List<Venue> findPage(VenueSort sort, PageCursor after, int limit) {
+        if (sort == VenueSort.NAME) {
+            TopK<VenueRecord> page = new TopK<>(BY_NAME, limit);
+            VenueRecord cursor = after == null ? null
+                    : new VenueRecord(after.getId(), after.getSortValue(), null, null, null, null, null, 0L, null);
+            forEachRecord(venue -> {
+                if (cursor == null || BY_NAME.compare(venue, cursor) > 0) {
+                    page.offer(venue);
+                }
+            });
+            return toDomain(page.sorted());
+        }
+        TopK<VenueRecord> page = new TopK<>(BY_ID, limit);
+        long afterId = after == null ? Long.MIN_VALUE : after.getId();
+        forEachRecord(venue -> {
+            if (venue.id() > afterId) {
+                page.offer(venue);
+            }
+        });
+        return toDomain(page.sorted());
+    }
+
+    @Override
+    public Optional<Venue> findByName(String name) {
+        VenueRecord found = null;
+        for (Segment segment : segments) {
+            segment.lock.readLock().lock();
+            try {
+                LongObjectMap<VenueRecord> named = segment.byName.get(name);
+                if (named != null) {
+                    VenueRecord[] first = { found };
+                    named.forEachValue(venue -> {
+                        if (first[0] == null || venue.id() < first[0].id()) {
+                            first[0] = venue;
+                        }
+                    });
+                    found = first[0];
+                }
+            } finally {
+                segment.lock.readLock().unlock();
+            }
+        }
+        return Optional.ofNullable(found).map(InMemoryVenueRepositoryAdapter::toDomain);
+    }
+
+    @Override
+    public boolean existsByName(String name) {
+        for (Segment segment : segments) {
+            segment.lock.readLock().lock();
+            try {
+                if (segment.byName.containsKey(name)) {
+                    return true;
+                }
+            } finally {
+                segment.lock.readLock().unlock();
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        long venueId = requireId(id);
+        Segment segment = segmentFor(venueId);
+        VenueRecord removed;
+        segment.lock.writeLock().lock();
+        try {
+            removed = segment.remove(venueId);
+        } finally {
+            segment.lock.writeLock().unlock();
+        }
+        if (removed != null) {
+            deleteListeners.forEach(listener -> listener.accept(venueId));
+        }
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return findRecord(requireId(id)) != null;
+    }
+
+    @Override
+    public Venue update(Long id, Venue venue) {
+        long venueId = requireId(id);
+        Segment segment = segmentFor(venueId);
+        VenueRecord updated;
+        segment.lock.writeLock().lock();
+        try {
+            VenueRecord current = segment.byId.get(venueId);
+            if (current == null) {
+                throw new RuntimeException("Venue not found with id: " + id);
+            }
+            updated = toRecord(venueId, venue, nextVersion(current, venue));
+            segment.put(updated);
+        } finally {
+            segment.lock.writeLock().unlock();
+        }
+        return toDomain(updated);
+    }
+
+    VenueRecord findRecord(long id) {
+        Segment segment = segmentFor(id);
+        segment.lock.readLock().lock();
+        try {
+            return segment.byId.get(id);
+        } finally {
+            segment.lock.readLock().unlock();
+        }
+    }
+
+    private void forEachRecord(Consumer<VenueRecord> action) {
+        for (Segment segment : segments) {
+            segment.lock.readLock().lock();
+            try {
+                segment.byId.forEachValue(action);
+            } finally {
+                segment.lock.readLock().unlock();
+            }
+        }
+    }
+
+    // Explicit ids (imports, tests) move the sequence past them so generated ids never collide
+    private long reserve(long id) {
+        sequence.accumulateAndGet(id, Math::max);
+        return id;
+    }
+
+    private Segment segmentFor(long id) {
+        return segments[Long.hashCode(id) & (SEGMENTS - 1)];
+    }
+
+    private static long requireId(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("The given id must not be null");
+        }
+        return id;
+    }
+
+    // Same optimistic check as the JPA @Version column: a write carrying a version must match the stored one
+    private static long nextVersion(VenueRecord current, Venue venue) {
+        if (current == null) {
+            return 0L;
+        }
+        if (venue.getVersion() != null && venue.getVersion() != current.version()) {
+            throw new StaleVersionException("Venue " + current.id() + " was modified by another request");
+        }
+        return current.version() + 1;
+    }
+
+    private static VenueRecord toRecord(long id, Venue venue, long version) {
+        return new VenueRecord(id, venue.getName(), venue.getCountry(), venue.getAddress(), venue.getCity(),
+                venue.getState(), venue.getZipCode(), version, Instant.now());
+    }
+
+    static Venue toDomain(VenueRecord venue) {
+        return Venue.builder()
+                .id(venue.id())
+                .name(venue.name())
+                .country(venue.country())
+                .address(venue.address())
+                .city(venue.city())
+                .state(venue.state())
+                .zipCode(venue.zipCode())
+                .version(venue.version())
+                .updatedAt(venue.updatedAt())
+                .build();
+    }
+
+    private static List<Venue> toDomain(List<VenueRecord> venues) {
+        List<Venue> result = new ArrayList<>(venues.size());
+        for (VenueRecord venue : venues) {
+            result.add(toDomain(venue));
+        }
+        return result;
+    }
+
+    record VenueRecord(long id, String name, String country, String address, String city, String state,
+            String zipCode, long version, Instant updatedAt) {
+    }
+
+    private static final class Segment {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final LongObjectMap<VenueRecord> byId = new LongObjectMap<>();
+        private final Map<String, LongObjectMap<VenueRecord>> byName = new HashMap<>();
+
+        private void put(VenueRecord venue) {
+            remove(venue.id());
+            byId.put(venue.id(), venue);
+            byName.computeIfAbsent(venue.name(), name -> new LongObjectMap<>()).put(venue.id(), venue);
+        }
+
+        private VenueRecord remove(long id) {
+            VenueRecord removed = byId.remove(id);
+            if (removed != null) {
+                LongObjectMap<VenueRecord> named = byName.get(removed.name());
+                named.remove(id);
+                if (named.isEmpty()) {
+                    byName.remove(removed.name());
+                }
+            }
+            return removed;
+        }
+    }
+}
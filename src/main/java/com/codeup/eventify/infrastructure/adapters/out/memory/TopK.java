@@ -0,0 +1,38 @@
+package com.codeup.eventify.infrastructure.adapters.out.memory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the first {@code k} items in a given order while scanning, in O(n log k)
+ * instead of sorting everything to take a small page.
+ */
+final class TopK<T> {
+
+    private final Comparator<T> order;
+    private final int k;
+    private final PriorityQueue<T> heap;
+
+    TopK(Comparator<T> order, int k) {
+        this.order = order;
+        this.k = k;
+        this.heap = new PriorityQueue<>(Math.max(1, k), order.reversed());
+    }
+
+    void offer(T item) {
+        if (heap.size() < k) {
+            heap.offer(item);
+        } else if (k > 0 && order.compare(item, heap.peek()) < 0) {
+            heap.poll();
+            heap.offer(item);
+        }
+    }
+
+    List<T> sorted() {
+        List<T> items = new ArrayList<>(heap);
+        items.sort(order);
+        return items;
+    }
+}
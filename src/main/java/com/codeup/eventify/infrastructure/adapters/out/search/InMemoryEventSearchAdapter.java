@@ -0,0 +1,292 @@
+package com.codeup.eventify.infrastructure.adapters.out.search;
+
+import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.model.EventSearchHit;
+import com.codeup.eventify.domain.model.EventView;
+import com.codeup.eventify.domain.ports.out.EventRepositoryPort;
+import com.codeup.eventify.domain.ports.out.EventSearchPort;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index over event titles and descriptions, for profiles without PostgreSQL
+ * full-text search (H2, tests). It approximates {@code websearch_to_tsquery}: every word
+ * must match, {@code or} separates alternatives and {@code -word} excludes; phrases are
+ * matched as plain words. Ranking is TF-IDF with title terms weighted above description
+ * terms. The index lives in this JVM only: it is rebuilt from the repository at startup
+ * and kept current by {@link IndexingEventRepositoryAdapter}.
+ */
+@Slf4j
+public class InMemoryEventSearchAdapter implements EventSearchPort {
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final Pattern QUERY_TOKEN = Pattern.compile("-?\"[^\"]*\"?|\\S+");
+    private static final Set<String> STOP_WORDS = Set.of("a", "an", "and", "are", "as", "at", "be", "by", "for",
+            "from", "in", "is", "it", "of", "on", "the", "to", "with");
+    private static final int TITLE_WEIGHT = 4;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final EventRepositoryPort source;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // term -> (event id -> weighted term frequency)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, IndexedEvent> documents = new HashMap<>();
+
+    public InMemoryEventSearchAdapter(EventRepositoryPort source) {
+        this.source = source;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Event> events = new ArrayList<>();
+        source.streamAll(events::add);
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            events.forEach(this::indexLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("In-memory search index built with {} events", events.size());
+    }
+
+    public void index(Event event) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(event.getId());
+            indexLocked(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<EventSearchHit> search(String query, int limit, int offset) {
+        List<Clause> clauses = parse(query);
+        if (clauses.isEmpty()) {
+            return List.of();
+        }
+        Set<String> queryTerms = new HashSet<>();
+        clauses.forEach(clause -> queryTerms.addAll(clause.required()));
+
+        List<ScoredEvent> ranked;
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = new HashMap<>();
+            for (Clause clause : clauses) {
+                score(clause, scores);
+            }
+            ranked = top(scores, offset + limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<EventSearchHit> hits = new ArrayList<>(Math.max(0, ranked.size() - offset));
+        for (int i = offset; i < ranked.size(); i++) {
+            EventView event = ranked.get(i).event();
+            hits.add(new EventSearchHit(event, ranked.get(i).score(),
+                    highlight(event.getTitle(), queryTerms),
+                    highlight(event.getDescription(), queryTerms)));
+        }
+        return hits;
+    }
+
+    // Adds the score of every event matching all required and no excluded terms of the clause
+    private void score(Clause clause, Map<Long, Double> scores) {
+        if (clause.required().isEmpty()) {
+            return;
+        }
+        List<Map<Long, Integer>> lists = new ArrayList<>();
+        for (String term : clause.required()) {
+            Map<Long, Integer> list = postings.get(term);
+            if (list == null) {
+                return;
+            }
+            lists.add(list);
+        }
+        // Walk the rarest term's postings and probe the others
+        lists.sort(Comparator.comparingInt(Map::size));
+        int total = documents.size();
+        candidates: for (Long id : lists.get(0).keySet()) {
+            double score = 0;
+            for (Map<Long, Integer> list : lists) {
+                Integer frequency = list.get(id);
+                if (frequency == null) {
+                    continue candidates;
+                }
+                score += frequency * Math.log(1.0 + (double) total / list.size());
+            }
+            for (String excluded : clause.excluded()) {
+                Map<Long, Integer> list = postings.get(excluded);
+                if (list != null && list.containsKey(id)) {
+                    continue candidates;
+                }
+            }
+            scores.merge(id, score, Math::max);
+        }
+    }
+
+    // Best {@code count} matches by descending score then id, without sorting every match
+    private List<ScoredEvent> top(Map<Long, Double> scores, int count) {
+        Comparator<ScoredEvent> best = Comparator.comparingDouble(ScoredEvent::score).reversed()
+                .thenComparing(scored -> scored.event().getId());
+        PriorityQueue<ScoredEvent> heap = new PriorityQueue<>(best.reversed());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            heap.offer(new ScoredEvent(documents.get(entry.getKey()).view(), entry.getValue()));
+            if (heap.size() > count) {
+                heap.poll();
+            }
+        }
+        List<ScoredEvent> ranked = new ArrayList<>(heap);
+        ranked.sort(best);
+        return ranked;
+    }
+
+    private void indexLocked(Event event) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        addTerms(event.getTitle(), TITLE_WEIGHT, frequencies);
+        addTerms(event.getDescription(), DESCRIPTION_WEIGHT, frequencies);
+        frequencies.forEach((term, frequency) -> postings
+                .computeIfAbsent(term, key -> new HashMap<>())
+                .put(event.getId(), frequency));
+        documents.put(event.getId(), new IndexedEvent(toView(event), frequencies.keySet()));
+    }
+
+    private void removeLocked(Long id) {
+        IndexedEvent removed = documents.remove(id);
+        if (removed == null) {
+            return;
+        }
+        for (String term : removed.terms()) {
+            Map<Long, Integer> list = postings.get(term);
+            list.remove(id);
+            if (list.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static void addTerms(String text, int weight, Map<String, Integer> frequencies) {
+        if (text == null) {
+            return;
+        }
+        Matcher matcher = WORD.matcher(text);
+        while (matcher.find()) {
+            String term = normalize(matcher.group());
+            if (term != null) {
+                frequencies.merge(term, weight, Integer::sum);
+            }
+        }
+    }
+
+    private static List<Clause> parse(String query) {
+        List<Clause> clauses = new ArrayList<>();
+        Clause current = new Clause(new HashSet<>(), new HashSet<>());
+        Matcher tokens = QUERY_TOKEN.matcher(query);
+        while (tokens.find()) {
+            String token = tokens.group();
+            if (token.equalsIgnoreCase("or")) {
+                clauses.add(current);
+                current = new Clause(new HashSet<>(), new HashSet<>());
+                continue;
+            }
+            boolean excluded = token.startsWith("-");
+            Matcher words = WORD.matcher(token);
+            while (words.find()) {
+                String term = normalize(words.group());
+                if (term != null) {
+                    (excluded ? current.excluded() : current.required()).add(term);
+                }
+            }
+        }
+        clauses.add(current);
+        clauses.removeIf(clause -> clause.required().isEmpty());
+        return clauses;
+    }
+
+    // Lower-cases, drops stop words and strips a plural "s" so "concerts" finds "concert"
+    private static String normalize(String word) {
+        String term = word.toLowerCase(Locale.ROOT);
+        if (STOP_WORDS.contains(term)) {
+            return null;
+        }
+        if (term.length() > 3 && term.endsWith("s") && !term.endsWith("ss")) {
+            term = term.substring(0, term.length() - 1);
+        }
+        return term;
+    }
+
+    private static String highlight(String text, Set<String> terms) {
+        if (text == null) {
+            return null;
+        }
+        StringBuilder highlighted = new StringBuilder(text.length() + 16);
+        Matcher matcher = WORD.matcher(text);
+        int last = 0;
+        boolean matched = false;
+        while (matcher.find()) {
+            String term = normalize(matcher.group());
+            if (term != null && terms.contains(term)) {
+                highlighted.append(HtmlUtils.htmlEscape(text.substring(last, matcher.start())))
+                        .append(EventSearchHit.HIGHLIGHT_START)
+                        .append(HtmlUtils.htmlEscape(matcher.group()))
+                        .append(EventSearchHit.HIGHLIGHT_STOP);
+                last = matcher.end();
+                matched = true;
+            }
+        }
+        if (!matched) {
+            return null;
+        }
+        return highlighted.append(HtmlUtils.htmlEscape(text.substring(last))).toString();
+    }
+
+    private static EventView toView(Event event) {
+        return EventView.builder()
+                .id(event.getId())
+                .title(event.getTitle())
+                .description(event.getDescription())
+                .date(event.getDate())
+                .venue(event.getVenue())
+                .hour(event.getHour())
+                .price(event.getPrice())
+                .hostedBy(event.getHostedBy())
+                .build();
+    }
+
+    private record Clause(Set<String> required, Set<String> excluded) {
+    }
+
+    private record IndexedEvent(EventView view, Set<String> terms) {
+    }
+
+    private record ScoredEvent(EventView event, double score) {
+    }
+}
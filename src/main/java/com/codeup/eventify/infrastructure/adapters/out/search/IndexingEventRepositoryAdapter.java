@@ -0,0 +1,90 @@
+package com.codeup.eventify.infrastructure.adapters.out.search;
+
+import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.ports.out.EventRepositoryPort;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Keeps {@link InMemoryEventSearchAdapter} in step with every event write made through
+ * the delegate repository. Only wired when the in-memory search engine is selected.
+ */
+public class IndexingEventRepositoryAdapter implements EventRepositoryPort {
+
+    private final EventRepositoryPort delegate;
+    private final InMemoryEventSearchAdapter searchIndex;
+
+    public IndexingEventRepositoryAdapter(EventRepositoryPort delegate, InMemoryEventSearchAdapter searchIndex) {
+        this.delegate = delegate;
+        this.searchIndex = searchIndex;
+    }
+
+    @Override
+    public Event save(Event event) {
+        Event savedEvent = delegate.save(event);
+        searchIndex.index(savedEvent);
+        return savedEvent;
+    }
+
+    @Override
+    public List<Event> saveAll(List<Event> events) {
+        List<Event> savedEvents = delegate.saveAll(events);
+        savedEvents.forEach(searchIndex::index);
+        return savedEvents;
+    }
+
+    @Override
+    public Optional<Event> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Event> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void streamAll(Consumer<Event> action) {
+        delegate.streamAll(action);
+    }
+
+    @Override
+    public List<Event> findByTitle(String title) {
+        return delegate.findByTitle(title);
+    }
+
+    @Override
+    public List<Event> findByVenueId(Long venueId) {
+        return delegate.findByVenueId(venueId);
+    }
+
+    @Override
+    public List<Event> findByHostedBy(String hostedBy) {
+        return delegate.findByHostedBy(hostedBy);
+    }
+
+    @Override
+    public boolean existsByTitle(String title) {
+        return delegate.existsByTitle(title);
+    }
+
+    @Override
+    public Set<String> findExistingTitles(Collection<String> titles) {
+        return delegate.findExistingTitles(titles);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+        searchIndex.remove(id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return delegate.existsById(id);
+    }
+}
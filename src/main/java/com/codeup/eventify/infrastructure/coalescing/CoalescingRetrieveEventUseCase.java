@@ -0,0 +1,106 @@
+package com.codeup.eventify.infrastructure.coalescing;
+
+import com.codeup.eventify.domain.model.CursorPage;
+import com.codeup.eventify.domain.model.DateRange;
+import com.codeup.eventify.domain.model.EventSort;
+import com.codeup.eventify.domain.model.EventView;
+import com.codeup.eventify.domain.model.ResourceVersion;
+import com.codeup.eventify.domain.ports.in.events.RetrieveEventUseCase;
+import com.codeup.eventify.domain.ports.out.CatalogGenerationPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Single-flight in front of the event reads a popular event hammers: concurrent identical
+ * calls of an enabled query type share one call to the wrapped use case, and so one
+ * database query. Query types ({@value #EVENT_BY_ID}, {@value #EVENT_VERSION},
+ * {@value #EVENTS_BY_VENUE}) each coalesce on their own argument; the other reads pass
+ * straight through.
+ * <p>
+ * Flights are keyed on the catalog generation ({@link CatalogGenerationPort}) read when the
+ * caller arrives, as well as the argument. A write moves the generation when it commits, so
+ * a read that follows it never joins a flight that started before the commit and reads
+ * what it wrote; writes made through other instances are not seen by the generation.
+ * <p>
+ * Sits in front of the use case rather than its repository so that callers who join a
+ * flight never open a transaction, and never take a pooled connection while they wait.
+ */
+public class CoalescingRetrieveEventUseCase implements RetrieveEventUseCase, MeterBinder {
+
+    public static final String EVENT_BY_ID = "event-by-id";
+    public static final String EVENT_VERSION = "event-version";
+    public static final String EVENTS_BY_VENUE = "events-by-venue";
+    public static final Set<String> QUERIES = Set.of(EVENT_BY_ID, EVENT_VERSION, EVENTS_BY_VENUE);
+
+    private final RetrieveEventUseCase delegate;
+    private final CatalogGenerationPort catalogGenerations;
+    private final SingleFlight<Flight, EventView> eventsById;
+    private final SingleFlight<Flight, ResourceVersion> eventVersions;
+    private final SingleFlight<Flight, List<EventView>> eventsByVenue;
+
+    public CoalescingRetrieveEventUseCase(RetrieveEventUseCase delegate, CatalogGenerationPort catalogGenerations,
+            Collection<String> coalescedQueries) {
+        for (String query : coalescedQueries) {
+            if (!QUERIES.contains(query)) {
+                throw new IllegalArgumentException("Unknown coalesced query " + query + ", expected one of " + QUERIES);
+            }
+        }
+        this.delegate = delegate;
+        this.catalogGenerations = catalogGenerations;
+        this.eventsById = coalescedQueries.contains(EVENT_BY_ID) ? new SingleFlight<>(EVENT_BY_ID) : null;
+        this.eventVersions = coalescedQueries.contains(EVENT_VERSION) ? new SingleFlight<>(EVENT_VERSION) : null;
+        this.eventsByVenue = coalescedQueries.contains(EVENTS_BY_VENUE) ? new SingleFlight<>(EVENTS_BY_VENUE) : null;
+    }
+
+    @Override
+    public EventView getEventById(Long id) {
+        return coalesce(eventsById, id, catalogGenerations::eventsGeneration, () -> delegate.getEventById(id));
+    }
+
+    @Override
+    public ResourceVersion getEventVersion(Long id) {
+        return coalesce(eventVersions, id, catalogGenerations::eventsGeneration, () -> delegate.getEventVersion(id));
+    }
+
+    @Override
+    public List<EventView> getAllEvents() {
+        return delegate.getAllEvents();
+    }
+
+    @Override
+    public CursorPage<EventView> getEventsPage(int limit, String after, EventSort sort, DateRange range) {
+        return delegate.getEventsPage(limit, after, sort, range);
+    }
+
+    @Override
+    public List<EventView> getEventsByVenueId(Long venueId) {
+        // Every caller gets the same list, so it must not be one they can change
+        return coalesce(eventsByVenue, venueId, () -> catalogGenerations.venueEventsGeneration(venueId),
+                () -> List.copyOf(delegate.getEventsByVenueId(venueId)));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Stream.of(eventsById, eventVersions, eventsByVenue)
+                .filter(Objects::nonNull)
+                .forEach(flight -> flight.bindTo(registry));
+    }
+
+    private static <V> V coalesce(SingleFlight<Flight, V> flight, Long key, LongSupplier generation, Supplier<V> call) {
+        if (flight == null || key == null) {
+            return call.get();
+        }
+        return flight.execute(new Flight(key, generation.getAsLong()), call);
+    }
+
+    private record Flight(Long key, long generation) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.codeup.eventify.infrastructure.coalescing;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key (after Go's singleflight): the first caller
+ * runs the call, and callers arriving while it is in flight wait for it and get its result,
+ * or its exception, instead of running their own. Nothing is kept once the call completes,
+ * so a caller arriving afterwards runs a fresh call. A caller that joins does get the result
+ * of a call that started before it arrived, which can miss a write committed in between;
+ * callers that must see their own writes put something that moves with writes in the key.
+ * <p>
+ * Waiting is a {@link CompletableFuture#join()} outside any lock, so waiting virtual
+ * threads are never pinned.
+ */
+public class SingleFlight<K, V> implements MeterBinder {
+
+    public static final String CALLS_METRIC = "eventify.coalescing.calls";
+
+    private final String name;
+    private final ConcurrentMap<K, CompletableFuture<V>> inflight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public SingleFlight(String name) {
+        this.name = name;
+    }
+
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inflight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        executed.increment();
+        try {
+            V result = call.get();
+            // Leave the map before completing, so no one joins a flight that has already landed
+            inflight.remove(key, flight);
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            inflight.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getExecutedCount() {
+        return executed.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(CALLS_METRIC, executed, LongAdder::sum)
+                .description("Calls that ran themselves (executed) or shared a concurrent identical call (coalesced)")
+                .tags("query", name, "outcome", "executed")
+                .register(registry);
+        FunctionCounter.builder(CALLS_METRIC, coalesced, LongAdder::sum)
+                .description("Calls that ran themselves (executed) or shared a concurrent identical call (coalesced)")
+                .tags("query", name, "outcome", "coalesced")
+                .register(registry);
+        Gauge.builder("eventify.coalescing.inflight", inflight, ConcurrentMap::size)
+                .description("Distinct calls in flight")
+                .tag("query", name)
+                .register(registry);
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -1,8 +1,66 @@
 package com.codeup.eventify.infrastructure.config;
 
+import com.codeup.eventify.domain.ports.out.EventSearchPort;
+import com.codeup.eventify.infrastructure.adapters.out.cache.CachingVenueRepositoryAdapter;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.EventJpaAdapter;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.PostgresEventSearchAdapter;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.VenueJpaAdapter;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.entity.EventEntity;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.entity.VenueEntity;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.repository.SpringEventSearchRepository;
+import com.codeup.eventify.infrastructure.adapters.out.search.InMemoryEventSearchAdapter;
+import com.codeup.eventify.infrastructure.adapters.out.search.IndexingEventRepositoryAdapter;
+import com.codeup.eventify.infrastructure.metrics.SecondLevelCacheMetrics;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+import java.util.List;
 
 @Configuration
+@Profile("!" + InMemoryPersistenceConfig.PROFILE)
 public class ApplicationConfig {
 
+    @Bean
+    @Primary
+    public CachingVenueRepositoryAdapter cachingVenueRepository(VenueJpaAdapter venueJpaAdapter,
+            @Value("${eventify.cache.venues.maximum-size:10000}") long maximumSize,
+            @Value("${eventify.cache.venues.ttl:10m}") Duration ttl) {
+        return new CachingVenueRepositoryAdapter(venueJpaAdapter, maximumSize, ttl);
+    }
+
+    @Bean
+    public SecondLevelCacheMetrics secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return new SecondLevelCacheMetrics(entityManagerFactory,
+                List.of(VenueEntity.BY_NAME_CACHE_REGION, EventEntity.BY_VENUE_CACHE_REGION));
+    }
+
+    // Full-text search: PostgreSQL tsvector/GIN by default, an in-memory index for databases without it (H2)
+
+    @Bean
+    @ConditionalOnProperty(name = "eventify.search.engine", havingValue = "postgres", matchIfMissing = true)
+    public EventSearchPort postgresEventSearch(SpringEventSearchRepository springEventSearchRepository) {
+        return new PostgresEventSearchAdapter(springEventSearchRepository);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "eventify.search.engine", havingValue = "memory")
+    public InMemoryEventSearchAdapter inMemoryEventSearch(EventJpaAdapter eventJpaAdapter) {
+        return new InMemoryEventSearchAdapter(eventJpaAdapter);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "eventify.search.engine", havingValue = "memory")
+    public IndexingEventRepositoryAdapter indexingEventRepository(EventJpaAdapter eventJpaAdapter,
+            InMemoryEventSearchAdapter inMemoryEventSearch) {
+        return new IndexingEventRepositoryAdapter(eventJpaAdapter, inMemoryEventSearch);
+    }
 }
@@ -0,0 +1,49 @@
+package com.codeup.eventify.infrastructure.config;
+
+import com.codeup.eventify.domain.ports.in.changes.ReadChangesUseCase;
+import com.codeup.eventify.infrastructure.adapters.in.web.ChangeStreams;
+import com.codeup.eventify.infrastructure.adapters.out.changes.InMemoryChangeFeedAdapter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class ChangeFeedConfig {
+
+    @Bean
+    public InMemoryChangeFeedAdapter inMemoryChangeFeed(@Value("${eventify.changes.buffer-size:10000}") int bufferSize) {
+        return new InMemoryChangeFeedAdapter(bufferSize);
+    }
+
+    @Bean
+    public ChangeStreams changeStreams(ReadChangesUseCase readChangesUseCase, ThreadPoolTaskExecutor changeStreamSenders,
+            ThreadPoolTaskScheduler changeStreamHeartbeats,
+            @Value("${eventify.changes.stream.max-streams:1000}") int maxStreams) {
+        return new ChangeStreams(readChangesUseCase, changeStreamSenders, changeStreamHeartbeats, maxStreams);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor changeStreamSenders(
+            @Value("${eventify.changes.stream.sender-threads:16}") int senderThreads,
+            @Value("${eventify.changes.stream.max-streams:1000}") int maxStreams) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(senderThreads);
+        executor.setMaxPoolSize(senderThreads);
+        // A stream has at most one send task queued or running, so this queue never rejects
+        executor.setQueueCapacity(maxStreams);
+        executor.setThreadNamePrefix("change-stream-");
+        executor.setDaemon(true);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler changeStreamHeartbeats() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("change-stream-heartbeat-");
+        scheduler.setDaemon(true);
+        return scheduler;
+    }
+}
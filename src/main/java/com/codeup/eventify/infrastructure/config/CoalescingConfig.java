@@ -0,0 +1,31 @@
+package com.codeup.eventify.infrastructure.config;
+
+import com.codeup.eventify.application.usecase.events.RetrieveEventUseCaseImpl;
+import com.codeup.eventify.domain.ports.out.CatalogGenerationPort;
+import com.codeup.eventify.infrastructure.coalescing.CoalescingRetrieveEventUseCase;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.List;
+
+/**
+ * Request coalescing of concurrent identical event reads. On unless
+ * {@code eventify.coalescing.enabled=false}; {@code eventify.coalescing.queries} picks the
+ * query types.
+ */
+@Configuration
+@ConditionalOnProperty(name = "eventify.coalescing.enabled", havingValue = "true", matchIfMissing = true)
+public class CoalescingConfig {
+
+    @Bean
+    @Primary
+    public CoalescingRetrieveEventUseCase coalescingRetrieveEventUseCase(RetrieveEventUseCaseImpl retrieveEventUseCase,
+            CatalogGenerationPort catalogGenerations,
+            @Value("${eventify.coalescing.queries:event-by-id,event-version,events-by-venue}") List<String> queries) {
+        return new CoalescingRetrieveEventUseCase(retrieveEventUseCase, catalogGenerations, queries.stream().map(String::trim).toList());
+    }
+}
@@ -0,0 +1,49 @@
+package com.codeup.eventify.infrastructure.config;
+
+import com.codeup.eventify.infrastructure.adapters.in.web.ConcurrencyLimitFilter;
+import com.codeup.eventify.infrastructure.limit.AdaptiveConcurrencyLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Adaptive concurrency limits on the event and venue endpoints, separate for reads and
+ * writes. On unless {@code eventify.concurrency-limit.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "eventify.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter readConcurrencyLimiter(
+            @Value("${eventify.concurrency-limit.read.initial:40}") int initial,
+            @Value("${eventify.concurrency-limit.read.min:8}") int min,
+            @Value("${eventify.concurrency-limit.read.max:200}") int max) {
+        return new AdaptiveConcurrencyLimiter("read", initial, min, max);
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter writeConcurrencyLimiter(
+            @Value("${eventify.concurrency-limit.write.initial:20}") int initial,
+            @Value("${eventify.concurrency-limit.write.min:4}") int min,
+            @Value("${eventify.concurrency-limit.write.max:100}") int max) {
+        return new AdaptiveConcurrencyLimiter("write", initial, min, max);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            AdaptiveConcurrencyLimiter readConcurrencyLimiter, AdaptiveConcurrencyLimiter writeConcurrencyLimiter,
+            ObjectMapper objectMapper) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(readConcurrencyLimiter, writeConcurrencyLimiter, objectMapper));
+        registration.addUrlPatterns("/api/events", "/api/events/*", "/api/venues", "/api/venues/*");
+        // Ahead of everything but the rate limit, so a shed request costs as little as possible
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,50 @@
+package com.codeup.eventify.infrastructure.config;
+
+import com.codeup.eventify.infrastructure.adapters.out.memory.InMemoryEventReadModelAdapter;
+import com.codeup.eventify.infrastructure.adapters.out.memory.InMemoryEventRepositoryAdapter;
+import com.codeup.eventify.infrastructure.adapters.out.memory.InMemoryVenueRepositoryAdapter;
+import com.codeup.eventify.infrastructure.adapters.out.search.InMemoryEventSearchAdapter;
+import com.codeup.eventify.infrastructure.adapters.out.search.IndexingEventRepositoryAdapter;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Persistence without a database (profile {@code in-memory}): replaces the JPA adapters,
+ * and application-in-memory.properties switches off the DataSource and JPA auto-configuration.
+ */
+@Configuration
+@Profile(InMemoryPersistenceConfig.PROFILE)
+public class InMemoryPersistenceConfig {
+
+    public static final String PROFILE = "in-memory";
+
+    @Bean
+    public InMemoryVenueRepositoryAdapter inMemoryVenueRepository() {
+        return new InMemoryVenueRepositoryAdapter();
+    }
+
+    @Bean
+    public InMemoryEventRepositoryAdapter inMemoryEventRepository(InMemoryVenueRepositoryAdapter inMemoryVenueRepository) {
+        return new InMemoryEventRepositoryAdapter(inMemoryVenueRepository);
+    }
+
+    @Bean
+    public InMemoryEventReadModelAdapter inMemoryEventReadModel(InMemoryEventRepositoryAdapter inMemoryEventRepository) {
+        return new InMemoryEventReadModelAdapter(inMemoryEventRepository);
+    }
+
+    @Bean
+    public InMemoryEventSearchAdapter inMemoryEventSearch(InMemoryEventRepositoryAdapter inMemoryEventRepository) {
+        return new InMemoryEventSearchAdapter(inMemoryEventRepository);
+    }
+
+    @Bean
+    @Primary
+    public IndexingEventRepositoryAdapter indexingEventRepository(InMemoryEventRepositoryAdapter inMemoryEventRepository,
+            InMemoryEventSearchAdapter inMemoryEventSearch) {
+        return new IndexingEventRepositoryAdapter(inMemoryEventRepository, inMemoryEventSearch);
+    }
+}
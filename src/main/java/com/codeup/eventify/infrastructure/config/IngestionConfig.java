@@ -0,0 +1,35 @@
+package com.codeup.eventify.infrastructure.config;
+
+import com.codeup.eventify.domain.ports.out.CatalogGenerationPort;
+import com.codeup.eventify.domain.ports.out.ChangeFeedPort;
+import com.codeup.eventify.domain.ports.out.EventRepositoryPort;
+import com.codeup.eventify.infrastructure.adapters.out.ingestion.WriteBehindEventIngestionAdapter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Asynchronous event creation ({@code eventify.ingestion.mode=async}): {@code POST /api/events}
+ * answers 202 and a background writer stores the events in batches.
+ */
+@Configuration
+@ConditionalOnProperty(name = "eventify.ingestion.mode", havingValue = "async")
+public class IngestionConfig {
+
+    @Bean
+    public WriteBehindEventIngestionAdapter writeBehindEventIngestion(EventRepositoryPort eventRepository, ChangeFeedPort changeFeed,
+            CatalogGenerationPort catalogGenerations,
+            @Value("${eventify.ingestion.journal:data/event-ingestion.journal}") Path journal,
+            @Value("${eventify.ingestion.journal-sync:true}") boolean syncJournal,
+            @Value("${eventify.ingestion.queue-capacity:10000}") int capacity,
+            @Value("${eventify.ingestion.batch-size:50}") int batchSize,
+            @Value("${eventify.ingestion.ticket-ttl:1h}") Duration ticketTtl) {
+        return new WriteBehindEventIngestionAdapter(eventRepository, changeFeed, catalogGenerations, journal, syncJournal, capacity, batchSize,
+                ticketTtl);
+    }
+}
@@ -0,0 +1,16 @@
+package com.codeup.eventify.infrastructure.config;
+
+import com.codeup.eventify.infrastructure.metrics.PortMetricsAspect;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public PortMetricsAspect portMetricsAspect(MeterRegistry meterRegistry) {
+        return new PortMetricsAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,52 @@
+package com.codeup.eventify.infrastructure.config;
+
+import com.codeup.eventify.infrastructure.adapters.in.web.RateLimitFilter;
+import com.codeup.eventify.infrastructure.limit.TokenBucketStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Per-client token-bucket rate limiting of the event and venue reads. On unless
+ * {@code eventify.rate-limit.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "eventify.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    public TokenBucketStore rateLimitBuckets(
+            @Value("${eventify.rate-limit.capacity:100}") long capacity,
+            @Value("${eventify.rate-limit.refill-per-second:20}") double refillPerSecond,
+            @Value("${eventify.rate-limit.max-clients:100000}") long maxClients,
+            @Value("${eventify.rate-limit.idle-timeout:10m}") Duration idleTimeout) {
+        return new TokenBucketStore(capacity, refillPerSecond, maxClients, idleTimeout);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(TokenBucketStore rateLimitBuckets,
+            @Value("${eventify.rate-limit.api-key-header:X-API-Key}") String apiKeyHeader,
+            @Value("${eventify.rate-limit.api-keys:}") List<String> apiKeys,
+            @Value("${eventify.rate-limit.cost.item:1}") int itemCost,
+            @Value("${eventify.rate-limit.cost.list:10}") int listCost,
+            @Value("${eventify.rate-limit.cost.search:5}") int searchCost,
+            ObjectMapper objectMapper) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+                new RateLimitFilter(rateLimitBuckets, apiKeyHeader,
+                        apiKeys.stream().map(String::trim).filter(key -> !key.isEmpty()).collect(Collectors.toSet()),
+                        itemCost, listCost, searchCost, objectMapper));
+        registration.addUrlPatterns("/api/events", "/api/events/*", "/api/venues", "/api/venues/*");
+        // Before the concurrency limit, so a throttled client never takes one of its slots
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+}
@@ -0,0 +1,76 @@
+package com.codeup.eventify.infrastructure.config;
+
+import com.codeup.eventify.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas ({@code eventify.datasource.replica-urls}): read-only transactions are sent
+ * to a healthy replica and everything else to {@code spring.datasource.url}. Replaces
+ * Spring Boot's single DataSource.
+ */
+@Configuration
+@ConditionalOnProperty(name = "eventify.datasource.replica-urls")
+public class ReadReplicaConfig {
+
+    // Postgres standby: seconds since the last replayed transaction, 0 once it has replayed all it received
+    static final String POSTGRES_LAG_QUERY = "SELECT CASE WHEN NOT pg_is_in_recovery() "
+            + "OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private static final Duration REPLICA_CONNECTION_TIMEOUT = Duration.ofSeconds(2);
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            @Value("${eventify.datasource.replica-urls}") List<String> urls,
+            @Value("${eventify.datasource.replica-username:${spring.datasource.username:}}") String username,
+            @Value("${eventify.datasource.replica-password:${spring.datasource.password:}}") String password,
+            @Value("${eventify.datasource.replica-lag-query:" + POSTGRES_LAG_QUERY + "}") String lagQuery,
+            @Value("${eventify.datasource.replica-max-lag:5s}") Duration maxLag,
+            @Value("${eventify.datasource.replica-health-check-interval:5s}") Duration healthCheckInterval) {
+        List<DataSource> replicas = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(urls.get(i).trim())
+                    .username(username)
+                    .password(password)
+                    .build();
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setReadOnly(true);
+            // A replica that is down should fail fast so reads move to the primary, and must not stop startup
+            replica.setConnectionTimeout(REPLICA_CONNECTION_TIMEOUT.toMillis());
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, lagQuery, maxLag, healthCheckInterval);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,34 @@
+package com.codeup.eventify.infrastructure.config;
+
+import com.codeup.eventify.infrastructure.adapters.in.web.ResponseBodyCache;
+import com.codeup.eventify.infrastructure.adapters.out.cache.InMemoryCatalogGenerationAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Catalog generations, bumped by every write, and the cache of whole list responses keyed
+ * on them. Generations are always counted; {@code eventify.response-cache.enabled=false}
+ * only stops responses from being cached.
+ */
+@Configuration
+public class ResponseCacheConfig {
+
+    @Bean
+    public InMemoryCatalogGenerationAdapter catalogGenerations() {
+        return new InMemoryCatalogGenerationAdapter();
+    }
+
+    @Bean
+    public ResponseBodyCache responseBodyCache(ObjectMapper objectMapper,
+            @Value("${eventify.response-cache.enabled:true}") boolean enabled,
+            @Value("${eventify.response-cache.maximum-size:64MB}") DataSize maximumSize,
+            @Value("${eventify.response-cache.ttl:10m}") Duration ttl) {
+        return new ResponseBodyCache(objectMapper, enabled, maximumSize.toBytes(), ttl);
+    }
+}
@@ -0,0 +1,53 @@
+package com.codeup.eventify.infrastructure.config;
+
+import com.codeup.eventify.infrastructure.metrics.PortMetricsAspect;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.List;
+
+/**
+ * Reflection a native image needs beyond what Spring's AOT processing derives itself
+ * (entities, repositories, controller payloads and the MapStruct and Lombok-generated
+ * types, which are plain beans and classes). {@link PortMetricsAspect} looks up the port
+ * interface declaring each intercepted method, so every port's public methods must stay
+ * introspectable. The second-level cache reads its regions from {@code hibernate-cache.conf}.
+ */
+@Configuration
+@ImportRuntimeHints(RuntimeHintsConfig.EventifyRuntimeHints.class)
+public class RuntimeHintsConfig {
+
+    static final List<String> PORT_PACKAGES = List.of(
+            "com.codeup.eventify.domain.ports.in",
+            "com.codeup.eventify.domain.ports.out");
+
+    static class EventifyRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Runs at build time, so the ports are found by scanning rather than listed by hand
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+                @Override
+                protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                    return beanDefinition.getMetadata().isInterface();
+                }
+            };
+            scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+            for (String packageName : PORT_PACKAGES) {
+                for (BeanDefinition port : scanner.findCandidateComponents(packageName)) {
+                    hints.reflection().registerType(TypeReference.of(port.getBeanClassName()),
+                            MemberCategory.INTROSPECT_PUBLIC_METHODS);
+                }
+            }
+            hints.resources().registerPattern("hibernate-cache.conf");
+        }
+    }
+}
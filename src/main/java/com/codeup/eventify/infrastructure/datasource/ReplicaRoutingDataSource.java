@@ -0,0 +1,245 @@
+package com.codeup.eventify.infrastructure.datasource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Sends connections for read-only transactions ({@code @Transactional(readOnly = true)}) to
+ * a read replica, round robin, and every other connection to the primary.
+ * <p>
+ * Every {@code healthCheckInterval} each replica runs {@code lagQuery}, which returns how
+ * many seconds it is behind the primary. A replica that fails the query or lags more than
+ * {@code maxLag} is skipped until a later check passes, and so is one that refuses a
+ * connection; with no replica left, reads go to the primary. Replicas start out skipped
+ * until the first check, which runs on {@link #start()}.
+ * <p>
+ * The transaction's read-only flag is only set once it has begun, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which defers
+ * the choice to the first statement.
+ * <p>
+ * Code run through {@link #onPrimary(Supplier)} reads from the primary even in read-only
+ * transactions, for results that must include the latest commit.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements SmartLifecycle, MeterBinder, AutoCloseable {
+
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final Duration healthCheckInterval;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicLong primaryConnections = new AtomicLong();
+    private ScheduledExecutorService healthChecks;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, String lagQuery, Duration maxLag,
+            Duration healthCheckInterval) {
+        this.primary = primary;
+        this.replicas = IntStream.range(0, replicas.size())
+                .mapToObj(i -> new Replica("replica-" + (i + 1), replicas.get(i)))
+                .toList();
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        this.healthCheckInterval = healthCheckInterval;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && PRIMARY_ONLY.get() == null) {
+            Connection connection = replicaConnection();
+            if (connection != null) {
+                return connection;
+            }
+        }
+        primaryConnections.incrementAndGet();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // Explicit credentials belong to the primary; replicas are only reached with their own
+        primaryConnections.incrementAndGet();
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Runs {@code action} with every connection it opens on this thread taken from the
+     * primary. Has no effect when no replicas are configured.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        if (PRIMARY_ONLY.get() != null) {
+            return action.get();
+        }
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_ONLY.remove();
+        }
+    }
+
+    /**
+     * Checks every replica now. Runs on the health check thread; public for tests.
+     */
+    public void checkReplicas() {
+        replicas.forEach(this::check);
+    }
+
+    public int healthyReplicas() {
+        return (int) replicas.stream().filter(Replica::isHealthy).count();
+    }
+
+    @Override
+    public void start() {
+        checkReplicas();
+        healthChecks = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = healthCheckInterval.toMillis();
+        healthChecks.scheduleWithFixedDelay(this::checkReplicas, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (healthChecks != null) {
+            healthChecks.shutdownNow();
+            healthChecks = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return healthChecks != null;
+    }
+
+    @Override
+    public void close() throws Exception {
+        stop();
+        for (Replica replica : replicas) {
+            closeQuietly(replica.dataSource);
+        }
+        closeQuietly(primary);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("eventify.datasource.replicas.healthy", this, ReplicaRoutingDataSource::healthyReplicas)
+                .description("Read replicas currently receiving read-only transactions")
+                .register(registry);
+        FunctionCounter.builder("eventify.datasource.connections", primaryConnections, AtomicLong::get)
+                .description("Connections handed out, by the database they came from")
+                .tag("target", "primary")
+                .register(registry);
+        for (Replica replica : replicas) {
+            FunctionCounter.builder("eventify.datasource.connections", replica.connections, AtomicLong::get)
+                    .description("Connections handed out, by the database they came from")
+                    .tag("target", replica.name)
+                    .register(registry);
+        }
+    }
+
+    private Connection replicaConnection() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.isHealthy()) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replica.connections.incrementAndGet();
+                return connection;
+            } catch (SQLException e) {
+                replica.markDown("connection refused: " + e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    private void check(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout((int) Math.max(1, healthCheckInterval.toSeconds()));
+            try (ResultSet result = statement.executeQuery(lagQuery)) {
+                double lagSeconds = result.next() ? result.getDouble(1) : 0;
+                if (lagSeconds * 1000 > maxLag.toMillis()) {
+                    replica.markDown("lagging " + lagSeconds + "s behind the primary");
+                } else {
+                    replica.markUp();
+                }
+            }
+        } catch (SQLException | RuntimeException e) {
+            replica.markDown("health check failed: " + e.getMessage());
+        }
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Failed to close data source {}", dataSource, e);
+            }
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final AtomicLong connections = new AtomicLong();
+        private volatile boolean healthy;
+        private volatile boolean checked;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private boolean isHealthy() {
+            return healthy;
+        }
+
+        private void markUp() {
+            if (!healthy) {
+                checked = true;
+                log.info("Read replica {} is healthy, routing read-only transactions to it", name);
+            }
+            healthy = true;
+        }
+
+        private void markDown(String reason) {
+            if (healthy || !checked) {
+                checked = true;
+                log.warn("Read replica {} skipped, reads fall back to other replicas or the primary: {}", name, reason);
+            }
+            healthy = false;
+        }
+    }
+}
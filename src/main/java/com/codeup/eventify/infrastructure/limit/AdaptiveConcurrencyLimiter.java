@@ -0,0 +1,181 @@
+package com.codeup.eventify.infrastructure.limit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Caps how many requests run at once, with a cap that follows latency (a gradient limit,
+ * after Netflix's concurrency-limits). Completed requests are averaged per sample window
+ * and compared with a long-term average: while latency stays near the long-term average
+ * and the limit is actually used, the limit grows by about its square root; when latency
+ * rises beyond {@value #RTT_TOLERANCE}x, the limit shrinks in proportion, down to
+ * {@code minLimit}. Requests over the limit are rejected at once instead of queueing.
+ * <p>
+ * Thread-safe: acquiring is a CAS on the in-flight count, and only window updates lock.
+ */
+public class AdaptiveConcurrencyLimiter implements MeterBinder {
+
+    // Latency up to this multiple of the long-term average still counts as healthy
+    static final double RTT_TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final int LONG_WINDOW = 100;
+    private static final int WARMUP_WINDOWS = 10;
+    private static final int MIN_WINDOW_SAMPLES = 10;
+    private static final long MIN_WINDOW_NANOS = Duration.ofMillis(100).toNanos();
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile int limit;
+
+    // Guarded by this
+    private double estimatedLimit;
+    private double longRtt;
+    private int windows;
+    private long windowStart;
+    private int windowSamples;
+    private long windowRttSum;
+    private int windowMaxInflight;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit) {
+        this(name, initialLimit, minLimit, maxLimit, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, LongSupplier nanoClock) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= initial <= max, got "
+                    + minLimit + " <= " + initialLimit + " <= " + maxLimit + " for " + name);
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.nanoClock = nanoClock;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+        this.windowStart = nanoClock.getAsLong();
+    }
+
+    /**
+     * Takes a slot, or returns empty if {@link #getLimit()} requests are already running.
+     * The permit must be released when the request completes.
+     */
+    public Optional<Permit> tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return Optional.empty();
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Permit(nanoClock.getAsLong(), current + 1));
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("eventify.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Requests allowed to run at once")
+                .tag("limiter", name)
+                .register(registry);
+        Gauge.builder("eventify.concurrency.inflight", this, AdaptiveConcurrencyLimiter::getInflight)
+                .description("Requests running now")
+                .tag("limiter", name)
+                .register(registry);
+        FunctionCounter.builder("eventify.concurrency.rejected", rejected, LongAdder::sum)
+                .description("Requests rejected because the concurrency limit was reached")
+                .tag("limiter", name)
+                .register(registry);
+    }
+
+    private synchronized void sample(long rttNanos, int inflightAtStart, long now) {
+        windowSamples++;
+        windowRttSum += rttNanos;
+        windowMaxInflight = Math.max(windowMaxInflight, inflightAtStart);
+        if (windowSamples < MIN_WINDOW_SAMPLES || now - windowStart < MIN_WINDOW_NANOS) {
+            return;
+        }
+        update(Math.max(1.0, (double) windowRttSum / windowSamples), windowMaxInflight);
+        windowStart = now;
+        windowSamples = 0;
+        windowRttSum = 0;
+        windowMaxInflight = 0;
+    }
+
+    private void update(double shortRtt, int maxInflight) {
+        windows++;
+        if (windows <= WARMUP_WINDOWS) {
+            longRtt += (shortRtt - longRtt) / windows;
+        } else {
+            longRtt += (shortRtt - longRtt) * 2 / (LONG_WINDOW + 1);
+        }
+        // After a sustained slowdown ends, let the long-term average come back down quickly
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRtt / shortRtt));
+        // Only grow a limit that is being used; an idle service says nothing about its capacity
+        if (gradient >= 1.0 && maxInflight < estimatedLimit / 2) {
+            return;
+        }
+        double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit,
+                estimatedLimit * (1 - SMOOTHING) + target * SMOOTHING));
+        limit = (int) estimatedLimit;
+    }
+
+    /**
+     * A running request's slot.
+     */
+    public final class Permit {
+
+        private final long startNanos;
+        private final int inflightAtStart;
+        private boolean released;
+
+        private Permit(long startNanos, int inflightAtStart) {
+            this.startNanos = startNanos;
+            this.inflightAtStart = inflightAtStart;
+        }
+
+        /**
+         * Frees the slot and records the request's latency. Only the first call counts.
+         */
+        public void release() {
+            if (released) {
+                return;
+            }
+            released = true;
+            long now = nanoClock.getAsLong();
+            inflight.decrementAndGet();
+            sample(now - startNanos, inflightAtStart, now);
+        }
+    }
+}
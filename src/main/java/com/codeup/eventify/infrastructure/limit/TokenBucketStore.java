@@ -0,0 +1,104 @@
+package com.codeup.eventify.infrastructure.limit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * One token bucket per client: a bucket holds up to {@code capacity} tokens, refills at
+ * {@code refillPerSecond} and each request takes its cost from it. Buckets live in a
+ * Caffeine cache bounded to {@code maxClients}; a client idle for {@code idleTimeout} is
+ * dropped, which loses nothing as its bucket would have refilled anyway.
+ * <p>
+ * Lock-free: a bucket's state is one immutable value swapped with compare-and-set, and a
+ * rejected request writes nothing.
+ */
+public class TokenBucketStore implements MeterBinder {
+
+    private final long capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+    private final Cache<String, AtomicReference<BucketState>> buckets;
+    private final LongAdder rejected = new LongAdder();
+
+    public TokenBucketStore(long capacity, double refillPerSecond, long maxClients, Duration idleTimeout) {
+        this(capacity, refillPerSecond, maxClients, idleTimeout, System::nanoTime);
+    }
+
+    TokenBucketStore(long capacity, double refillPerSecond, long maxClients, Duration idleTimeout,
+            LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate limit capacity and refill rate must be positive");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    /**
+     * Takes {@code cost} tokens from the client's bucket if it holds that many.
+     */
+    public Decision tryConsume(String clientId, int cost) {
+        if (cost > capacity) {
+            throw new IllegalArgumentException("Cost " + cost + " exceeds the bucket capacity of " + capacity);
+        }
+        long now = nanoClock.getAsLong();
+        AtomicReference<BucketState> bucket = buckets.get(clientId,
+                id -> new AtomicReference<>(new BucketState(capacity, now)));
+        while (true) {
+            BucketState current = bucket.get();
+            double tokens = Math.min(capacity, current.tokens() + Math.max(0, now - current.updatedNanos()) * tokensPerNano);
+            if (tokens < cost) {
+                rejected.increment();
+                return decision(false, tokens, cost);
+            }
+            BucketState next = new BucketState(tokens - cost, Math.max(now, current.updatedNanos()));
+            if (bucket.compareAndSet(current, next)) {
+                return decision(true, next.tokens(), cost);
+            }
+        }
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("eventify.ratelimit.clients", buckets, Cache::estimatedSize)
+                .description("Clients with a rate limit bucket in memory")
+                .register(registry);
+        FunctionCounter.builder("eventify.ratelimit.rejected", rejected, LongAdder::sum)
+                .description("Requests rejected because the client's bucket was empty")
+                .register(registry);
+    }
+
+    private Decision decision(boolean allowed, double tokens, int cost) {
+        // Time until the request could go through, and until the bucket is full again
+        Duration retryAfter = allowed ? Duration.ZERO : untilTokens(cost - tokens);
+        return new Decision(allowed, capacity, (long) Math.floor(tokens), retryAfter, untilTokens(capacity - tokens));
+    }
+
+    private Duration untilTokens(double missing) {
+        return missing <= 0 ? Duration.ZERO : Duration.ofNanos((long) Math.ceil(missing / tokensPerNano));
+    }
+
+    private record BucketState(double tokens, long updatedNanos) {
+    }
+
+    public record Decision(boolean allowed, long limit, long remaining, Duration retryAfter, Duration resetAfter) {
+    }
+}
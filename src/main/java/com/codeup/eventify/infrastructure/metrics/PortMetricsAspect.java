@@ -0,0 +1,106 @@
+package com.codeup.eventify.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every call through a use case ({@code domain.ports.in}) or an outbound port
+ * ({@code domain.ports.out}). Calls land in the {@value #USE_CASE_METRIC} or
+ * {@value #PORT_METRIC} timer, tagged with the port interface, method, implementing
+ * adapter and outcome. Timers publish histogram buckets rather than client-side
+ * percentiles, so p50/p95/p99 can be aggregated across instances with
+ * {@code histogram_quantile}.
+ * Decorating adapters (e.g. the venue cache) and the adapter they wrap are timed
+ * separately, so cache hits and database calls can be told apart.
+ */
+@Aspect
+public class PortMetricsAspect {
+
+    public static final String USE_CASE_METRIC = "eventify.usecase";
+    public static final String PORT_METRIC = "eventify.port";
+
+    private static final String PORTS_IN_PACKAGE = "com.codeup.eventify.domain.ports.in";
+    private static final String PORTS_OUT_PACKAGE = "com.codeup.eventify.domain.ports.out";
+
+    private final MeterRegistry registry;
+    // Resolving tags and registering a timer costs reflection and map lookups; do it once per method
+    private final Map<MethodKey, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    public PortMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * com.codeup.eventify.domain.ports.in..*.*(..)) "
+            + "|| execution(public * com.codeup.eventify.domain.ports.out..*.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?> targetClass = AopUtils.getTargetClass(joinPoint.getTarget());
+        MethodMeters methodMeters = meters.computeIfAbsent(new MethodKey(targetClass, method), this::createMeters);
+
+        Timer.Sample sample = Timer.start(registry);
+        try {
+            Object result = joinPoint.proceed();
+            sample.stop(methodMeters.success());
+            return result;
+        } catch (Throwable e) {
+            sample.stop(timer(methodMeters.name(), methodMeters.tags()
+                    .and("outcome", "error", "exception", e.getClass().getSimpleName())));
+            throw e;
+        }
+    }
+
+    private MethodMeters createMeters(MethodKey key) {
+        Class<?> port = findPort(key.targetClass(), key.method());
+        String name = port != null && port.getPackageName().startsWith(PORTS_IN_PACKAGE)
+                ? USE_CASE_METRIC
+                : PORT_METRIC;
+        Tags tags = Tags.of(
+                "port", port != null ? port.getSimpleName() : key.targetClass().getSimpleName(),
+                "method", key.method().getName(),
+                "adapter", key.targetClass().getSimpleName());
+        return new MethodMeters(name, tags, timer(name, tags.and("outcome", "success", "exception", "none")));
+    }
+
+    private Timer timer(String name, Tags tags) {
+        return Timer.builder(name)
+                .description("Latency of use case and port calls")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    // The ports.in/ports.out interface that declares the intercepted method
+    private static Class<?> findPort(Class<?> type, Method method) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Class<?> candidate : current.getInterfaces()) {
+                String packageName = candidate.getPackageName();
+                if (!packageName.startsWith(PORTS_IN_PACKAGE) && !packageName.startsWith(PORTS_OUT_PACKAGE)) {
+                    continue;
+                }
+                try {
+                    candidate.getMethod(method.getName(), method.getParameterTypes());
+                    return candidate;
+                } catch (NoSuchMethodException e) {
+                    // Not declared by this port, keep looking
+                }
+            }
+        }
+        return null;
+    }
+
+    private record MethodKey(Class<?> targetClass, Method method) {
+    }
+
+    private record MethodMeters(String name, Tags tags, Timer success) {
+    }
+}
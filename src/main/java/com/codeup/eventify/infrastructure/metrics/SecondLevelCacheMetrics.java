@@ -0,0 +1,49 @@
+package com.codeup.eventify.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import javax.cache.CacheManager;
+import java.util.Collection;
+
+/**
+ * Caffeine meters ({@code cache.size}, {@code cache.gets}, {@code cache.evictions}, ...)
+ * for every Hibernate second-level cache region, tagged with the region name. Hibernate's
+ * own statistics count hits, misses and puts per region but not how full a region is or
+ * what it evicts, which is what sizing one takes.
+ * <p>
+ * Hibernate creates entity regions at startup but named query regions on first use, so
+ * those are passed in as {@code queryRegions} and created here.
+ */
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final Collection<String> queryRegions;
+
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory, Collection<String> queryRegions) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.queryRegions = queryRegions;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CacheImplementor cache = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache();
+        RegionFactory regionFactory = cache.getRegionFactory();
+        if (!(regionFactory instanceof JCacheRegionFactory jCacheRegionFactory)) {
+            return;
+        }
+        queryRegions.forEach(cache::getQueryResultsCache);
+        CacheManager cacheManager = jCacheRegionFactory.getCacheManager();
+        for (String region : cacheManager.getCacheNames()) {
+            com.github.benmanes.caffeine.cache.Cache<?, ?> regionCache = cacheManager.getCache(region)
+                    .unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+            CaffeineCacheMetrics.monitor(registry, regionCache, region);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+-- Eventify schema as of database/migrations/006, the last change made by hand before Flyway.
+-- Databases that already have it are baselined at this version (spring.flyway.baseline-on-migrate) and skip it.
+-- Supabase row level security policies and sample data are not part of the schema: see database/supabase_setup.sql.
+
+CREATE TABLE venues (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    venue_name VARCHAR(255) NOT NULL,
+    country VARCHAR(100),
+    address VARCHAR(500),
+    city VARCHAR(100),
+    state VARCHAR(100),
+    zip_code VARCHAR(20),
+    -- Optimistic-lock counter behind ETag / If-Match; the application bumps it and updated_at on every write
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMPTZ DEFAULT NOW(),
+    updated_at TIMESTAMPTZ DEFAULT NOW()
+);
+
+-- The id sequence increments by 50 to match the pooled allocation Hibernate uses to batch inserts
+CREATE TABLE events (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY (INCREMENT BY 50) PRIMARY KEY,
+    event_title VARCHAR(255) NOT NULL,
+    description TEXT,
+    venue_id BIGINT NOT NULL,
+    date DATE,
+    event_hour TIME NOT NULL,
+    price DECIMAL(10,2),
+    hoster VARCHAR(255),
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMPTZ DEFAULT NOW(),
+    updated_at TIMESTAMPTZ DEFAULT NOW(),
+    -- Full-text search document: title terms weighted above description terms
+    search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(event_title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) STORED,
+
+    CONSTRAINT fk_venue
+        FOREIGN KEY(venue_id)
+        REFERENCES venues(id)
+        ON DELETE CASCADE
+        ON UPDATE CASCADE,
+
+    -- Titles are unique; inserts rely on this instead of checking first
+    CONSTRAINT uk_events_title UNIQUE (event_title)
+);
+
+CREATE INDEX idx_events_venue_id ON events(venue_id);
+-- Date-range and chronological pages walk (date, hour, id) in index order
+CREATE INDEX idx_events_date_hour_id ON events(date, event_hour, id);
+CREATE INDEX idx_venues_name ON venues(venue_name);
+CREATE INDEX idx_venues_city ON venues(city);
+
+-- Composite indexes backing keyset pagination (sort key, id)
+CREATE INDEX idx_events_title_id ON events(event_title, id);
+CREATE INDEX idx_venues_name_id ON venues(venue_name, id);
+
+-- Inverted index backing GET /api/events/search
+CREATE INDEX idx_events_search_vector ON events USING GIN (search_vector);
@@ -0,0 +1,46 @@
+-- Flyway callback, run before a database created before Flyway is baselined (spring.flyway.baseline-on-migrate).
+-- Baselining records the database as version 1 without running V1, so it is refused unless the hand-run scripts in
+-- database/migrations have brought the schema up to V1; the error names the scripts still to apply.
+
+DO $$
+DECLARE
+    missing TEXT := '';
+BEGIN
+    IF to_regclass('events') IS NULL OR to_regclass('venues') IS NULL THEN
+        RAISE EXCEPTION 'Cannot baseline at version 1: the schema has no events and venues tables';
+    END IF;
+
+    IF to_regclass('idx_events_title_id') IS NULL OR to_regclass('idx_venues_name_id') IS NULL THEN
+        missing := missing || ' 001_keyset_pagination_indexes.sql';
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = current_schema() AND table_name = 'events' AND column_name = 'id'
+                     AND identity_increment = '50') THEN
+        missing := missing || ' 002_events_pooled_id_sequence.sql';
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = current_schema() AND table_name = 'events' AND column_name = 'search_vector')
+       OR to_regclass('idx_events_search_vector') IS NULL THEN
+        missing := missing || ' 003_event_full_text_search.sql';
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = current_schema() AND table_name = 'events' AND column_name = 'date'
+                     AND data_type = 'date')
+       OR to_regclass('idx_events_date_hour_id') IS NULL THEN
+        missing := missing || ' 004_event_date_type.sql';
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint
+                   WHERE conrelid = to_regclass('events') AND conname = 'uk_events_title') THEN
+        missing := missing || ' 005_unique_event_title.sql';
+    END IF;
+    IF (SELECT count(*) FROM information_schema.columns
+        WHERE table_schema = current_schema() AND table_name IN ('events', 'venues') AND column_name = 'version') < 2 THEN
+        missing := missing || ' 006_entity_versions.sql';
+    END IF;
+
+    IF missing <> '' THEN
+        RAISE EXCEPTION 'Cannot baseline at version 1: apply % from database/migrations first',
+            replace(trim(missing), ' ', ', ');
+    END IF;
+END
+$$;
@@ -2,6 +2,7 @@ package com.codeup.eventify.domain.model;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -24,7 +25,7 @@ class EventTest {
                 .id(1L)
                 .title("Rock Concert 2025")
                 .description("Amazing rock concert with live bands")
-                .date("2025-12-15")
+                .date(LocalDate.of(2025, 12, 15))
                 .venue(venue)
                 .hour(LocalTime.of(20, 0))
                 .price(550.00)
@@ -34,7 +35,7 @@ class EventTest {
         assertEquals(1L, event.getId());
         assertEquals("Rock Concert 2025", event.getTitle());
         assertEquals("Amazing rock concert with live bands", event.getDescription());
-        assertEquals("2025-12-15", event.getDate());
+        assertEquals(LocalDate.of(2025, 12, 15), event.getDate());
         assertEquals(venue, event.getVenue());
         assertEquals(LocalTime.of(20, 0), event.getHour());
         assertEquals(550.00, event.getPrice());
@@ -52,7 +53,7 @@ class EventTest {
         event.setId(2L);
         event.setTitle("Jazz Night");
         event.setDescription("Smooth jazz evening");
-        event.setDate("2025-12-20");
+        event.setDate(LocalDate.of(2025, 12, 20));
         event.setVenue(venue);
         event.setHour(LocalTime.of(19, 0));
         event.setPrice(75.00);
@@ -61,7 +62,7 @@ class EventTest {
         assertEquals(2L, event.getId());
         assertEquals("Jazz Night", event.getTitle());
         assertEquals("Smooth jazz evening", event.getDescription());
-        assertEquals("2025-12-20", event.getDate());
+        assertEquals(LocalDate.of(2025, 12, 20), event.getDate());
         assertEquals(venue, event.getVenue());
         assertEquals(LocalTime.of(19, 0), event.getHour());
         assertEquals(75.00, event.getPrice());
@@ -79,7 +80,7 @@ class EventTest {
                 .id(1L)
                 .title("Rock Concert 2025")
                 .description("Amazing rock concert with live bands")
-                .date("2025-12-15")
+                .date(LocalDate.of(2025, 12, 15))
                 .venue(venue)
                 .hour(LocalTime.of(20, 0))
                 .price(550.00)
@@ -90,7 +91,7 @@ class EventTest {
                 .id(1L)
                 .title("Rock Concert 2025")
                 .description("Amazing rock concert with live bands")
-                .date("2025-12-15")
+                .date(LocalDate.of(2025, 12, 15))
                 .venue(venue)
                 .hour(LocalTime.of(20, 0))
                 .price(550.00)
@@ -112,7 +113,7 @@ class EventTest {
                 .id(1L)
                 .title("Rock Concert 2025")
                 .description("Amazing rock concert with live bands")
-                .date("2025-12-15")
+                .date(LocalDate.of(2025, 12, 15))
                 .venue(venue)
                 .hour(LocalTime.of(20, 0))
                 .price(550.00)
@@ -123,7 +124,7 @@ class EventTest {
                 .id(2L)
                 .title("Jazz Night")
                 .description("Smooth jazz evening")
-                .date("2025-12-20")
+                .date(LocalDate.of(2025, 12, 20))
                 .venue(venue)
                 .hour(LocalTime.of(19, 0))
                 .price(75.00)
@@ -144,7 +145,7 @@ class EventTest {
                 .id(1L)
                 .title("Rock Concert 2025")
                 .description("Amazing rock concert")
-                .date("2025-12-15")
+                .date(LocalDate.of(2025, 12, 15))
                 .venue(venue)
                 .hour(LocalTime.of(20, 0))
                 .price(550.00)
@@ -156,7 +157,7 @@ class EventTest {
         assertTrue(toString.contains("id=1"));
         assertTrue(toString.contains("title='Rock Concert 2025'"));
         assertTrue(toString.contains("description='Amazing rock concert'"));
-        assertTrue(toString.contains("date='2025-12-15'"));
+        assertTrue(toString.contains("date=2025-12-15"));
         assertTrue(toString.contains("hour=20:00"));
         assertTrue(toString.contains("price=550.0"));
         assertTrue(toString.contains("hostedBy='Live Nation'"));
@@ -0,0 +1,43 @@
+package com.codeup.eventify.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageCursorTest {
+
+    @Test
+    void encodeAndDecode_ShouldRoundTrip() {
+        PageCursor cursor = new PageCursor("TITLE", 42L, "Jazz: Night");
+
+        PageCursor decoded = PageCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+        assertEquals("TITLE", decoded.getSort());
+        assertEquals(42L, decoded.getId());
+        assertEquals("Jazz: Night", decoded.getSortValue());
+    }
+
+    @Test
+    void encodeAndDecode_ShouldKeepNullSortValue() {
+        PageCursor cursor = new PageCursor("ID", 7L, null);
+
+        PageCursor decoded = PageCursor.decode(cursor.encode());
+
+        assertEquals(7L, decoded.getId());
+        assertNull(decoded.getSortValue());
+    }
+
+    @Test
+    void encode_ShouldBeUrlSafe() {
+        String encoded = new PageCursor("TITLE", 1L, "??>>//++").encode();
+
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void decode_ShouldRejectMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("not a cursor!"));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("Zm9v"));
+    }
+}
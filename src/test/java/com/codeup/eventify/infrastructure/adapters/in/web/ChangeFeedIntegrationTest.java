@@ -0,0 +1,113 @@
+package com.codeup.eventify.infrastructure.adapters.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static com.codeup.eventify.support.ApiFixtures.create;
+import static com.codeup.eventify.support.ApiFixtures.eventRequest;
+import static com.codeup.eventify.support.ApiFixtures.venueRequest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Writes through the REST API show up in the change feed, both as a page
+ * ({@code GET /api/changes}) and on an open SSE stream.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ChangeFeedIntegrationTest {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Test
+        void writes_ShouldBeReadableFromTheFeedAndStreamed() throws Exception {
+                long start = objectMapper.readTree(mockMvc.perform(get("/api/changes").param("after", "0"))
+                                .andReturn().getResponse().getContentAsString())
+                                .get("latestSequence").asLong();
+                MockHttpServletResponse stream = mockMvc.perform(get("/api/changes/stream")
+                                .header("Last-Event-ID", start)
+                                .accept(MediaType.TEXT_EVENT_STREAM))
+                                .andExpect(request().asyncStarted())
+                                .andReturn().getResponse();
+
+                long venueId = createVenue("Feed Hall");
+                long eventId = create(mockMvc, objectMapper, "/api/events", eventRequest("Feed Launch", venueId).build());
+                mockMvc.perform(delete("/api/events/" + eventId)).andExpect(status().isNoContent());
+
+                mockMvc.perform(get("/api/changes").param("after", Long.toString(start)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.gap").value(false))
+                                .andExpect(jsonPath("$.changes.length()").value(3))
+                                .andExpect(jsonPath("$.changes[0].resource").value("VENUE"))
+                                .andExpect(jsonPath("$.changes[0].type").value("CREATED"))
+                                .andExpect(jsonPath("$.changes[0].id").value(venueId))
+                                .andExpect(jsonPath("$.changes[1].resource").value("EVENT"))
+                                .andExpect(jsonPath("$.changes[1].id").value(eventId))
+                                .andExpect(jsonPath("$.changes[2].type").value("DELETED"))
+                                .andExpect(jsonPath("$.latestSequence").value(start + 3));
+
+                String body = awaitStream(stream, "id:" + (start + 3));
+                assertTrue(body.contains("id:" + (start + 1) + "\nevent:change\n"), body);
+                assertTrue(body.contains("\"type\":\"DELETED\""), body);
+        }
+
+        @Test
+        void stream_ShouldSendOneResetForASequenceThisInstanceNeverIssued() throws Exception {
+                long latest = objectMapper.readTree(mockMvc.perform(get("/api/changes"))
+                                .andReturn().getResponse().getContentAsString())
+                                .get("latestSequence").asLong();
+                // As a client reconnecting after a restart, with an id from the previous run
+                MockHttpServletResponse stream = mockMvc.perform(get("/api/changes/stream")
+                                .header("Last-Event-ID", latest + 1000)
+                                .accept(MediaType.TEXT_EVENT_STREAM))
+                                .andExpect(request().asyncStarted())
+                                .andReturn().getResponse();
+                awaitStream(stream, "event:reset");
+
+                long first = createVenue("Restart Hall");
+                long second = createVenue("Restart Annex");
+
+                String body = awaitStream(stream, "\"id\":" + second + ",");
+                assertTrue(body.contains("\"id\":" + first + ","), body);
+                assertEquals(1, body.split("event:reset", -1).length - 1, body);
+        }
+
+        @Test
+        void getChanges_ShouldRejectLimitOutOfRange() throws Exception {
+                mockMvc.perform(get("/api/changes").param("limit", "0"))
+                                .andExpect(status().isBadRequest());
+        }
+
+        private long createVenue(String name) throws Exception {
+                return create(mockMvc, objectMapper, "/api/venues", venueRequest(name).build());
+        }
+
+        private static String awaitStream(MockHttpServletResponse stream, String expected) throws Exception {
+                long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+                String body = stream.getContentAsString();
+                while (!body.contains(expected) && System.nanoTime() < deadline) {
+                        Thread.sleep(20);
+                        body = stream.getContentAsString();
+                }
+                return body;
+        }
+}
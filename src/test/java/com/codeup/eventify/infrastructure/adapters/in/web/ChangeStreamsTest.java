@@ -0,0 +1,48 @@
+package com.codeup.eventify.infrastructure.adapters.in.web;
+
+import com.codeup.eventify.domain.model.ChangePage;
+import com.codeup.eventify.domain.ports.in.changes.ReadChangesUseCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChangeStreamsTest {
+
+        private final ThreadPoolTaskScheduler heartbeats = new ThreadPoolTaskScheduler();
+        private ReadChangesUseCase changes;
+
+        @BeforeEach
+        void setUp() {
+                heartbeats.initialize();
+                changes = mock(ReadChangesUseCase.class);
+                when(changes.subscribe(any())).thenReturn(() -> {
+                });
+                when(changes.getChangesAfter(anyLong(), anyInt())).thenReturn(new ChangePage(List.of(), false, 0));
+        }
+
+        @AfterEach
+        void tearDown() {
+                heartbeats.shutdown();
+        }
+
+        @Test
+        void open_ShouldRefuseStreamsOverTheLimit() {
+                ChangeStreams streams = new ChangeStreams(changes, Runnable::run, heartbeats, 2);
+
+                assertTrue(streams.open(0).isPresent());
+                assertTrue(streams.open(0).isPresent());
+                assertTrue(streams.open(0).isEmpty());
+                assertEquals(2, streams.getOpenStreams());
+        }
+}
@@ -0,0 +1,84 @@
+package com.codeup.eventify.infrastructure.adapters.in.web;
+
+import com.codeup.eventify.infrastructure.limit.AdaptiveConcurrencyLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrencyLimitFilterTest {
+
+        private final AdaptiveConcurrencyLimiter readLimiter = new AdaptiveConcurrencyLimiter("read", 1, 1, 10);
+        private final AdaptiveConcurrencyLimiter writeLimiter = new AdaptiveConcurrencyLimiter("write", 1, 1, 10);
+        private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(readLimiter, writeLimiter,
+                        new ObjectMapper());
+
+        @Test
+        void doFilter_ShouldShedRequestsOverTheLimitWithServiceUnavailable() throws Exception {
+                AdaptiveConcurrencyLimiter.Permit busy = readLimiter.tryAcquire().orElseThrow();
+
+                MockHttpServletResponse response = perform("GET", "/api/events/1");
+
+                assertEquals(503, response.getStatus());
+                assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+                assertTrue(response.getContentAsString().contains("\"status\":503"), response.getContentAsString());
+                assertEquals(1, readLimiter.getRejected());
+
+                busy.release();
+                assertEquals(200, perform("GET", "/api/events/1").getStatus());
+                assertEquals(0, readLimiter.getInflight());
+        }
+
+        @Test
+        void doFilter_ShouldLimitReadsAndWritesSeparately() throws Exception {
+                AdaptiveConcurrencyLimiter.Permit busy = readLimiter.tryAcquire().orElseThrow();
+
+                assertEquals(200, perform("POST", "/api/events").getStatus());
+                assertEquals(200, perform("DELETE", "/api/venues/3").getStatus());
+                assertEquals(503, perform("HEAD", "/api/venues/3").getStatus());
+                assertEquals(0, writeLimiter.getRejected());
+                busy.release();
+        }
+
+        @Test
+        void doFilter_ShouldNotLimitTheExport() throws Exception {
+                AdaptiveConcurrencyLimiter.Permit busy = readLimiter.tryAcquire().orElseThrow();
+
+                MockFilterChain chain = new MockFilterChain();
+                MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events/export");
+                filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+                assertNotNull(chain.getRequest());
+                busy.release();
+        }
+
+        @Test
+        void doFilter_ShouldReleaseThePermitWhenTheRequestFails() {
+                MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/events/1");
+
+                assertThrows(IllegalStateException.class, () -> filter.doFilter(request, new MockHttpServletResponse(),
+                                (req, res) -> {
+                                        throw new IllegalStateException("Database unavailable");
+                                }));
+
+                assertEquals(0, writeLimiter.getInflight());
+        }
+
+        private MockHttpServletResponse perform(String method, String uri) throws Exception {
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                MockFilterChain chain = new MockFilterChain();
+                filter.doFilter(new MockHttpServletRequest(method, uri), response, chain);
+                if (response.getStatus() == 503) {
+                        assertNull(chain.getRequest());
+                }
+                return response;
+        }
+}
@@ -0,0 +1,166 @@
+package com.codeup.eventify.infrastructure.adapters.in.web;
+
+import com.codeup.eventify.infrastructure.adapters.in.web.dto.request.VenueRequestDTO;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.entity.VenueEntity;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.repository.SpringEventRepository;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.repository.SpringVenueRepository;
+import com.codeup.eventify.support.SqlStatementCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static com.codeup.eventify.support.ApiFixtures.eventRequest;
+import static com.codeup.eventify.support.ApiFixtures.venueRequest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ETag / If-None-Match / If-Match round trips against a real (H2) database: revalidation
+ * reads only the version columns, and writes against an old ETag are refused.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConditionalRequestIntegrationTest {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Autowired
+        private SpringEventRepository springEventRepository;
+
+        @Autowired
+        private SpringVenueRepository springVenueRepository;
+
+        private Long venueId;
+        private Long eventId;
+
+        @BeforeEach
+        void setUp() throws Exception {
+                springEventRepository.deleteAll();
+                venueId = springVenueRepository.save(VenueEntity.builder()
+                                .name("Validator Hall")
+                                .country("USA")
+                                .address("304 Cache Street")
+                                .city("Portland")
+                                .state("OR")
+                                .zipCode("97201")
+                                .build())
+                                .getId();
+                MvcResult created = mockMvc.perform(post("/api/events")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(eventRequest("Conditional Show", venueId).build())))
+                                .andExpect(status().isCreated())
+                                .andExpect(header().exists(HttpHeaders.ETAG))
+                                .andReturn();
+                eventId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+        }
+
+        @Test
+        void getEvent_ShouldReturnNotModifiedFromVersionQuery() throws Exception {
+                String etag = eventEtag();
+
+                SqlStatementCounter.reset();
+                mockMvc.perform(get("/api/events/" + eventId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+                List<String> statements = SqlStatementCounter.statements();
+                assertEquals(1, statements.size(), () -> "Unexpected SQL statements: " + statements);
+                assertFalse(statements.get(0).toLowerCase().contains("description"),
+                                () -> "Revalidation hydrated the event: " + statements.get(0));
+        }
+
+        @Test
+        void updateEvent_ShouldRequireCurrentETag() throws Exception {
+                String etag = eventEtag();
+
+                MvcResult updated = mockMvc.perform(put("/api/events/" + eventId)
+                                .header(HttpHeaders.IF_MATCH, etag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(eventRequest("Conditional Show Revised", venueId).build())))
+                                .andExpect(status().isOk())
+                                .andReturn();
+                String newEtag = updated.getResponse().getHeader(HttpHeaders.ETAG);
+                assertNotNull(newEtag);
+                assertNotEquals(etag, newEtag);
+                assertEquals(newEtag, eventEtag());
+
+                mockMvc.perform(put("/api/events/" + eventId)
+                                .header(HttpHeaders.IF_MATCH, etag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(eventRequest("Lost Update", venueId).build())))
+                                .andExpect(status().isPreconditionFailed());
+                mockMvc.perform(get("/api/events/" + eventId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                                .andExpect(status().isOk());
+        }
+
+        @Test
+        void updateVenue_ShouldChangeVenueAndEventETags() throws Exception {
+                String eventEtag = eventEtag();
+                String venueEtag = mockMvc.perform(get("/api/venues/" + venueId))
+                                .andExpect(status().isOk())
+                                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+                mockMvc.perform(get("/api/venues/" + venueId).header(HttpHeaders.IF_NONE_MATCH, venueEtag))
+                                .andExpect(status().isNotModified());
+
+                VenueRequestDTO venue = venueRequest("Validator Hall").address("412 Precondition Ave").build();
+                mockMvc.perform(put("/api/venues/" + venueId)
+                                .header(HttpHeaders.IF_MATCH, venueEtag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(venue)))
+                                .andExpect(status().isOk());
+
+                mockMvc.perform(get("/api/venues/" + venueId).header(HttpHeaders.IF_NONE_MATCH, venueEtag))
+                                .andExpect(status().isOk());
+                mockMvc.perform(get("/api/events/" + eventId).header(HttpHeaders.IF_NONE_MATCH, eventEtag))
+                                .andExpect(status().isOk());
+                mockMvc.perform(put("/api/venues/" + venueId)
+                                .header(HttpHeaders.IF_MATCH, venueEtag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(venue)))
+                                .andExpect(status().isPreconditionFailed());
+        }
+
+        @Test
+        void updateVenue_ShouldCheckIfMatchAgainstTheDatabaseRatherThanTheVenueCache() throws Exception {
+                mockMvc.perform(get("/api/venues/" + venueId)).andExpect(status().isOk());
+                // A write from another instance: the venue cache here still holds the previous version
+                VenueEntity entity = springVenueRepository.findById(venueId).orElseThrow();
+                entity.setAddress("500 Elsewhere Road");
+                long currentVersion = springVenueRepository.saveAndFlush(entity).getVersion();
+
+                mockMvc.perform(put("/api/venues/" + venueId)
+                                .header(HttpHeaders.IF_MATCH, "\"" + currentVersion + "\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(venueRequest("Validator Hall").address("412 Precondition Ave").build())))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string(HttpHeaders.ETAG, "\"" + (currentVersion + 1) + "\""));
+        }
+
+        private String eventEtag() throws Exception {
+                return mockMvc.perform(get("/api/events/" + eventId))
+                                .andExpect(status().isOk())
+                                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        }
+}
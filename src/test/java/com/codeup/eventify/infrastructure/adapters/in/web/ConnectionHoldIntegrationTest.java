@@ -0,0 +1,138 @@
+package com.codeup.eventify.infrastructure.adapters.in.web;
+
+import com.codeup.eventify.infrastructure.adapters.in.web.dto.request.EventRequestDTO;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.entity.VenueEntity;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.repository.SpringEventRepository;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.repository.SpringVenueRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * With open-in-view off, the connection goes back to the pool when the use case's
+ * transaction ends, so none is checked out while the response is serialized.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConnectionHoldIntegrationTest {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Autowired
+        private ConnectionProbe connectionProbe;
+
+        @Autowired
+        private SpringEventRepository springEventRepository;
+
+        @Autowired
+        private SpringVenueRepository springVenueRepository;
+
+        private Long venueId;
+
+        @BeforeEach
+        void setUp() {
+                springEventRepository.deleteAll();
+                venueId = springVenueRepository.save(VenueEntity.builder()
+                                .name("Pool Hall")
+                                .country("USA")
+                                .address("5 Release Road")
+                                .city("Chicago")
+                                .state("IL")
+                                .zipCode("60601")
+                                .build())
+                                .getId();
+                connectionProbe.activeAtSerialization.clear();
+        }
+
+        @Test
+        void responses_ShouldBeWrittenWithNoConnectionCheckedOut() throws Exception {
+                String created = mockMvc.perform(post("/api/events")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(EventRequestDTO.builder()
+                                                .title("Released Early")
+                                                .description("Serialized after commit")
+                                                .venueId(venueId)
+                                                .date(LocalDate.of(2025, 12, 15))
+                                                .hour(LocalTime.of(20, 0))
+                                                .price(12.0)
+                                                .hostedBy("Pool Promotions")
+                                                .build())))
+                                .andExpect(status().isCreated())
+                                .andReturn().getResponse().getContentAsString();
+                long eventId = objectMapper.readTree(created).get("id").asLong();
+
+                mockMvc.perform(get("/api/events/" + eventId)).andExpect(status().isOk());
+                mockMvc.perform(get("/api/events/venue/" + venueId)).andExpect(status().isOk());
+                mockMvc.perform(get("/api/venues/page")).andExpect(status().isOk());
+
+                assertEquals(List.of(0, 0, 0, 0), connectionProbe.activeAtSerialization);
+        }
+
+        @TestConfiguration
+        static class ProbeConfig {
+
+                @Bean
+                ConnectionProbe connectionProbe(DataSource dataSource) throws Exception {
+                        return new ConnectionProbe(dataSource.unwrap(HikariDataSource.class));
+                }
+        }
+
+        /**
+         * Records how many pooled connections are checked out when a response body is about
+         * to be written.
+         */
+        @ControllerAdvice
+        static class ConnectionProbe implements ResponseBodyAdvice<Object> {
+
+                private final HikariDataSource dataSource;
+                private final List<Integer> activeAtSerialization = new CopyOnWriteArrayList<>();
+
+                ConnectionProbe(HikariDataSource dataSource) {
+                        this.dataSource = dataSource;
+                }
+
+                @Override
+                public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+                        return true;
+                }
+
+                @Override
+                public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+                                ServerHttpResponse response) {
+                        activeAtSerialization.add(dataSource.getHikariPoolMXBean().getActiveConnections());
+                        return body;
+                }
+        }
+}
@@ -0,0 +1,144 @@
+package com.codeup.eventify.infrastructure.adapters.in.web;
+
+import com.codeup.eventify.infrastructure.adapters.in.web.dto.request.EventRequestDTO;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.entity.VenueEntity;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.repository.SpringEventRepository;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.repository.SpringVenueRepository;
+import com.codeup.eventify.support.SqlStatementCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Creates events against a real (H2) database: title uniqueness comes from the
+ * {@code uk_events_title} constraint, so a create is a single INSERT and concurrent
+ * duplicates get exactly one 201.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EventCreationIntegrationTest {
+
+        private static final int CONCURRENT_REQUESTS = 8;
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Autowired
+        private SpringEventRepository springEventRepository;
+
+        @Autowired
+        private SpringVenueRepository springVenueRepository;
+
+        private Long venueId;
+
+        @BeforeEach
+        void setUp() {
+                springEventRepository.deleteAll();
+                venueId = springVenueRepository.save(VenueEntity.builder()
+                                .name("Conflict Arena")
+                                .country("USA")
+                                .address("9 Unique Way")
+                                .city("Denver")
+                                .state("CO")
+                                .zipCode("80202")
+                                .build())
+                                .getId();
+        }
+
+        @Test
+        void createEvent_ShouldIssueSingleInsert() throws Exception {
+                // The first create loads the venue into the cache; the second is measured
+                create("Warm Up").andExpect(status().isCreated());
+                SqlStatementCounter.reset();
+
+                create("Opening Night")
+                                .andExpect(status().isCreated())
+                                .andExpect(jsonPath("$.venue.name").value("Conflict Arena"));
+
+                // Ignore the occasional id block fetched from the pooled sequence
+                List<String> statements = SqlStatementCounter.statements()
+                                .stream()
+                                .filter(sql -> !sql.toLowerCase().contains("events_id_seq"))
+                                .toList();
+                assertEquals(1, statements.size(), () -> "Unexpected SQL statements: " + statements);
+                assertTrue(statements.get(0).toLowerCase().startsWith("insert into events"));
+        }
+
+        @Test
+        void createEvent_ShouldReturnConflict_WhenTitleIsTaken() throws Exception {
+                create("Opening Night").andExpect(status().isCreated());
+
+                create("Opening Night")
+                                .andExpect(status().isConflict())
+                                .andExpect(jsonPath("$.message").value("An event with title 'Opening Night' already exists"));
+        }
+
+        @Test
+        void concurrentDuplicateCreates_ShouldCreateExactlyOne() throws Exception {
+                CountDownLatch start = new CountDownLatch(1);
+                ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+                List<Integer> statuses = new ArrayList<>();
+                try {
+                        List<Future<Integer>> requests = new ArrayList<>();
+                        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                                requests.add(executor.submit(() -> {
+                                        start.await(5, TimeUnit.SECONDS);
+                                        return create("Sold Out Show").andReturn().getResponse().getStatus();
+                                }));
+                        }
+                        start.countDown();
+                        for (Future<Integer> request : requests) {
+                                statuses.add(request.get(30, TimeUnit.SECONDS));
+                        }
+                } finally {
+                        executor.shutdownNow();
+                }
+
+                assertEquals(1, statuses.stream().filter(status -> status == 201).count(), statuses::toString);
+                assertEquals(CONCURRENT_REQUESTS - 1, statuses.stream().filter(status -> status == 409).count(),
+                                statuses::toString);
+                assertEquals(1, springEventRepository.findByTitle("Sold Out Show").size());
+        }
+
+        private ResultActions create(String title) throws Exception {
+                EventRequestDTO request = EventRequestDTO.builder()
+                                .title(title)
+                                .description("Unique titles only")
+                                .venueId(venueId)
+                                .date(LocalDate.of(2025, 12, 15))
+                                .hour(LocalTime.of(20, 0))
+                                .price(40.0)
+                                .hostedBy("Conflict Promotions")
+                                .build();
+                return mockMvc.perform(post("/api/events")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)));
+        }
+}
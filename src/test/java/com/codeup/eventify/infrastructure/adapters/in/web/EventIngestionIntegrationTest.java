@@ -0,0 +1,145 @@
+package com.codeup.eventify.infrastructure.adapters.in.web;
+
+import com.codeup.eventify.infrastructure.adapters.in.web.dto.request.EventRequestDTO;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.entity.VenueEntity;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.repository.SpringEventRepository;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.repository.SpringVenueRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@code POST /api/events} with {@code eventify.ingestion.mode=async}: the request is
+ * answered with 202 and a tracking id, and the event is written by the background writer.
+ */
+@SpringBootTest(properties = {
+                "eventify.ingestion.mode=async",
+                "eventify.ingestion.journal=target/ingestion/${random.uuid}.journal"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EventIngestionIntegrationTest {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Autowired
+        private SpringEventRepository springEventRepository;
+
+        @Autowired
+        private SpringVenueRepository springVenueRepository;
+
+        private Long venueId;
+
+        @BeforeEach
+        void setUp() {
+                springEventRepository.deleteAll();
+                venueId = springVenueRepository.save(VenueEntity.builder()
+                                .name("Launch Arena")
+                                .country("USA")
+                                .address("202 Accepted Blvd")
+                                .city("Austin")
+                                .state("TX")
+                                .zipCode("73301")
+                                .build())
+                                .getId();
+        }
+
+        @Test
+        void createEvent_ShouldQueueAndReportTheCreatedEvent() throws Exception {
+                MvcResult accepted = mockMvc.perform(post("/api/events")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(eventRequest("Launch Day"))))
+                                .andExpect(status().isAccepted())
+                                .andExpect(header().exists(HttpHeaders.LOCATION))
+                                .andExpect(jsonPath("$.status").value("QUEUED"))
+                                .andReturn();
+                String location = accepted.getResponse().getHeader(HttpHeaders.LOCATION);
+
+                JsonNode ticket = awaitCompletion(location);
+
+                assertEquals("CREATED", ticket.get("status").asText());
+                mockMvc.perform(get("/api/events/" + ticket.get("eventId").asLong()))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.title").value("Launch Day"));
+        }
+
+        @Test
+        void createEvent_ShouldReportTakenTitleOnTheTicket() throws Exception {
+                String first = submit("Encore Night");
+                assertEquals("CREATED", awaitCompletion(first).get("status").asText());
+
+                JsonNode duplicate = awaitCompletion(submit("Encore Night"));
+
+                assertEquals("FAILED", duplicate.get("status").asText());
+                assertEquals("An event with title 'Encore Night' already exists", duplicate.get("error").asText());
+        }
+
+        @Test
+        void createEvent_ShouldStillValidateBeforeQueueing() throws Exception {
+                EventRequestDTO request = eventRequest("No Description");
+                request.setDescription("");
+
+                mockMvc.perform(post("/api/events")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isBadRequest());
+        }
+
+        private String submit(String title) throws Exception {
+                return mockMvc.perform(post("/api/events")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(eventRequest(title))))
+                                .andExpect(status().isAccepted())
+                                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+        }
+
+        private JsonNode awaitCompletion(String location) throws Exception {
+                long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+                while (true) {
+                        String body = mockMvc.perform(get(location))
+                                        .andExpect(status().isOk())
+                                        .andReturn().getResponse().getContentAsString();
+                        JsonNode ticket = objectMapper.readTree(body);
+                        if (!"QUEUED".equals(ticket.get("status").asText()) || System.nanoTime() > deadline) {
+                                return ticket;
+                        }
+                        Thread.sleep(20);
+                }
+        }
+
+        private EventRequestDTO eventRequest(String title) {
+                return EventRequestDTO.builder()
+                                .title(title)
+                                .description("Queued, then written in a batch")
+                                .venueId(venueId)
+                                .date(LocalDate.of(2025, 12, 15))
+                                .hour(LocalTime.of(20, 0))
+                                .price(25.0)
+                                .hostedBy("Launch Promotions")
+                                .build();
+        }
+}
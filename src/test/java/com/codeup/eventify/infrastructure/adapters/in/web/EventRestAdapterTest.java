@@ -1,27 +1,48 @@
 package com.codeup.eventify.infrastructure.adapters.in.web;
 
+import com.codeup.eventify.domain.exception.DuplicateEventTitleException;
+import com.codeup.eventify.domain.exception.StaleVersionException;
+import com.codeup.eventify.domain.model.CursorPage;
+import com.codeup.eventify.domain.model.DateRange;
 import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.model.EventCreationResult;
+import com.codeup.eventify.domain.model.EventSearchHit;
+import com.codeup.eventify.domain.model.EventSort;
+import com.codeup.eventify.domain.model.EventView;
+import com.codeup.eventify.domain.model.OffsetPage;
+import com.codeup.eventify.domain.model.ResourceVersion;
 import com.codeup.eventify.domain.model.Venue;
 import com.codeup.eventify.domain.ports.in.events.CreateEventUseCase;
+import com.codeup.eventify.domain.ports.in.events.CreateEventsUseCase;
 import com.codeup.eventify.domain.ports.in.events.DeleteEventUseCase;
+import com.codeup.eventify.domain.ports.in.events.ExportEventsUseCase;
 import com.codeup.eventify.domain.ports.in.events.RetrieveEventUseCase;
+import com.codeup.eventify.domain.ports.in.events.SearchEventsUseCase;
 import com.codeup.eventify.domain.ports.in.events.UpdateEventUseCase;
 import com.codeup.eventify.domain.ports.out.VenueRepositoryPort;
 import com.codeup.eventify.infrastructure.adapters.in.web.dto.request.EventRequestDTO;
+import com.codeup.eventify.infrastructure.config.ResponseCacheConfig;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -31,6 +52,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 // In future versions, consider migrating to @MockitoBean or other mocking strategies
 
 @WebMvcTest(EventRestAdapter.class)
+@Import(ResponseCacheConfig.class)
 class EventRestAdapterTest {
 
         @Autowired
@@ -42,6 +64,9 @@ class EventRestAdapterTest {
         @MockBean
         private CreateEventUseCase createEventUseCase;
 
+        @MockBean
+        private CreateEventsUseCase createEventsUseCase;
+
         @MockBean
         private RetrieveEventUseCase retrieveEventUseCase;
 
@@ -51,10 +76,17 @@ class EventRestAdapterTest {
         @MockBean
         private DeleteEventUseCase deleteEventUseCase;
 
+        @MockBean
+        private ExportEventsUseCase exportEventsUseCase;
+
+        @MockBean
+        private SearchEventsUseCase searchEventsUseCase;
+
         @MockBean
         private VenueRepositoryPort venueRepository;
 
         private Event testEvent;
+        private EventView testEventView;
         private Venue testVenue;
         private EventRequestDTO eventRequestDTO;
 
@@ -74,7 +106,18 @@ class EventRestAdapterTest {
                                 .id(1L)
                                 .title("Rock Concert 2025")
                                 .description("Amazing rock concert with live bands")
-                                .date("2025-12-15")
+                                .date(LocalDate.of(2025, 12, 15))
+                                .venue(testVenue)
+                                .hour(LocalTime.of(20, 0))
+                                .price(550.00)
+                                .hostedBy("Live Nation")
+                                .build();
+
+                testEventView = EventView.builder()
+                                .id(1L)
+                                .title("Rock Concert 2025")
+                                .description("Amazing rock concert with live bands")
+                                .date(LocalDate.of(2025, 12, 15))
                                 .venue(testVenue)
                                 .hour(LocalTime.of(20, 0))
                                 .price(550.00)
@@ -85,7 +128,7 @@ class EventRestAdapterTest {
                                 .title("Rock Concert 2025")
                                 .description("Amazing rock concert with live bands")
                                 .venueId(1L)
-                                .date("2025-12-15")
+                                .date(LocalDate.of(2025, 12, 15))
                                 .hour(LocalTime.of(20, 0))
                                 .price(550.00)
                                 .hostedBy("Live Nation")
@@ -116,13 +159,26 @@ class EventRestAdapterTest {
                 verify(createEventUseCase, times(1)).createEvent(any(Event.class));
         }
 
+        @Test
+        void createEvent_ShouldReturnConflict_WhenTitleIsTaken() throws Exception {
+                when(createEventUseCase.createEvent(any(Event.class)))
+                                .thenThrow(new DuplicateEventTitleException("Rock Concert 2025"));
+
+                mockMvc.perform(post("/api/events")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(eventRequestDTO)))
+                                .andExpect(status().isConflict())
+                                .andExpect(jsonPath("$.status").value(409))
+                                .andExpect(jsonPath("$.message").value("An event with title 'Rock Concert 2025' already exists"));
+        }
+
         @Test
         void createEvent_ShouldReturnBadRequest_WhenInvalidData() throws Exception {
                 EventRequestDTO invalidRequest = EventRequestDTO.builder()
                                 .title("")
                                 .description("")
                                 .venueId(null)
-                                .date("")
+                                .date(null)
                                 .hour(null)
                                 .price(null)
                                 .hostedBy("")
@@ -136,9 +192,84 @@ class EventRestAdapterTest {
                 verify(createEventUseCase, never()).createEvent(any(Event.class));
         }
 
+        @Test
+        void createEvents_ShouldReturnCreated_WhenEveryItemSucceeds() throws Exception {
+                when(createEventsUseCase.createEvents(anyList()))
+                                .thenReturn(List.of(EventCreationResult.success(0, testEvent)));
+
+                mockMvc.perform(post("/api/events/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(List.of(eventRequestDTO))))
+                                .andExpect(status().isCreated())
+                                .andExpect(jsonPath("$.created").value(1))
+                                .andExpect(jsonPath("$.failed").value(0))
+                                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                                .andExpect(jsonPath("$.results[0].event.id").value(1));
+
+                // Venues are resolved by the use case in one query, not per item by the adapter
+                verify(venueRepository, never()).findById(any());
+        }
+
+        @Test
+        void createEvents_ShouldReturnMultiStatus_WhenSomeItemsFail() throws Exception {
+                when(createEventsUseCase.createEvents(anyList())).thenReturn(List.of(
+                                EventCreationResult.success(0, testEvent),
+                                EventCreationResult.failure(1, "Venue not found with ID: 99")));
+
+                EventRequestDTO unknownVenue = EventRequestDTO.builder()
+                                .title("Jazz Night")
+                                .description("Smooth jazz evening")
+                                .venueId(99L)
+                                .date(LocalDate.of(2025, 12, 20))
+                                .hour(LocalTime.of(19, 0))
+                                .price(75.00)
+                                .hostedBy("Jazz Club")
+                                .build();
+
+                mockMvc.perform(post("/api/events/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(List.of(eventRequestDTO, unknownVenue))))
+                                .andExpect(status().isMultiStatus())
+                                .andExpect(jsonPath("$.created").value(1))
+                                .andExpect(jsonPath("$.failed").value(1))
+                                .andExpect(jsonPath("$.results[1].index").value(1))
+                                .andExpect(jsonPath("$.results[1].status").value("FAILED"))
+                                .andExpect(jsonPath("$.results[1].error").value("Venue not found with ID: 99"));
+        }
+
+        @Test
+        void createEvents_ShouldFailNullAndInvalidItemsWithoutPassingThemOn() throws Exception {
+                when(createEventsUseCase.createEvents(anyList()))
+                                .thenReturn(List.of(EventCreationResult.success(0, testEvent)));
+                EventRequestDTO untitled = EventRequestDTO.builder()
+                                .description("No title or price")
+                                .venueId(1L)
+                                .date(LocalDate.of(2025, 12, 20))
+                                .hour(LocalTime.of(19, 0))
+                                .hostedBy("Jazz Club")
+                                .build();
+
+                mockMvc.perform(post("/api/events/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("[null, " + objectMapper.writeValueAsString(untitled) + ", "
+                                                + objectMapper.writeValueAsString(eventRequestDTO) + "]"))
+                                .andExpect(status().isMultiStatus())
+                                .andExpect(jsonPath("$.created").value(1))
+                                .andExpect(jsonPath("$.failed").value(2))
+                                .andExpect(jsonPath("$.results[0].status").value("FAILED"))
+                                .andExpect(jsonPath("$.results[0].error").value("Event cannot be null"))
+                                .andExpect(jsonPath("$.results[1].index").value(1))
+                                .andExpect(jsonPath("$.results[1].error").value("Price is required; Title is required"))
+                                .andExpect(jsonPath("$.results[2].index").value(2))
+                                .andExpect(jsonPath("$.results[2].status").value("CREATED"));
+
+                verify(createEventsUseCase).createEvents(argThat(events -> events.size() == 1
+                                && events.get(0).getTitle().equals(eventRequestDTO.getTitle())));
+        }
+
         @Test
         void getEventById_ShouldReturnEvent() throws Exception {
-                when(retrieveEventUseCase.getEventById(1L)).thenReturn(testEvent);
+                when(retrieveEventUseCase.getEventById(1L)).thenReturn(testEventView);
 
                 mockMvc.perform(get("/api/events/1"))
                                 .andExpect(status().isOk())
@@ -149,20 +280,31 @@ class EventRestAdapterTest {
                 verify(retrieveEventUseCase, times(1)).getEventById(1L);
         }
 
+        @Test
+        void getEventById_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+                when(retrieveEventUseCase.getEventVersion(1L)).thenReturn(ResourceVersion.of(3L, null).including(7L, null));
+
+                mockMvc.perform(get("/api/events/1").header("If-None-Match", "\"3.7\""))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string("ETag", "\"3.7\""));
+
+                verify(retrieveEventUseCase, never()).getEventById(any());
+        }
+
         @Test
         void getAllEvents_ShouldReturnListOfEvents() throws Exception {
-                Event event2 = Event.builder()
+                EventView event2 = EventView.builder()
                                 .id(2L)
                                 .title("Jazz Night")
                                 .description("Smooth jazz evening")
-                                .date("2025-12-20")
+                                .date(LocalDate.of(2025, 12, 20))
                                 .venue(testVenue)
                                 .hour(LocalTime.of(19, 0))
                                 .price(75.00)
                                 .hostedBy("Jazz Club")
                                 .build();
 
-                List<Event> events = Arrays.asList(testEvent, event2);
+                List<EventView> events = Arrays.asList(testEventView, event2);
                 when(retrieveEventUseCase.getAllEvents()).thenReturn(events);
 
                 mockMvc.perform(get("/api/events"))
@@ -176,9 +318,148 @@ class EventRestAdapterTest {
                 verify(retrieveEventUseCase, times(1)).getAllEvents();
         }
 
+        @Test
+        void getEventsPage_ShouldReturnItemsAndNextCursor() throws Exception {
+                when(retrieveEventUseCase.getEventsPage(1, null, EventSort.TITLE, DateRange.UNBOUNDED))
+                                .thenReturn(new CursorPage<>(List.of(testEventView), "VElUTEU6MTpSb2Nr"));
+
+                mockMvc.perform(get("/api/events/page")
+                                .param("limit", "1")
+                                .param("sort", "title"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.items").isArray())
+                                .andExpect(jsonPath("$.items[0].id").value(1))
+                                .andExpect(jsonPath("$.items[0].venue.id").value(1))
+                                .andExpect(jsonPath("$.nextCursor").value("VElUTEU6MTpSb2Nr"))
+                                .andExpect(jsonPath("$.hasMore").value(true));
+
+                verify(retrieveEventUseCase, times(1)).getEventsPage(1, null, EventSort.TITLE, DateRange.UNBOUNDED);
+        }
+
+        @Test
+        void getEventsPage_ShouldSortByDate_WhenDateRangeIsGiven() throws Exception {
+                DateRange december = new DateRange(LocalDate.of(2025, 12, 1), LocalDate.of(2025, 12, 31));
+                when(retrieveEventUseCase.getEventsPage(20, null, EventSort.DATE, december))
+                                .thenReturn(new CursorPage<>(List.of(testEventView), null));
+
+                mockMvc.perform(get("/api/events/page")
+                                .param("from", "2025-12-01")
+                                .param("to", "2025-12-31"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.items[0].date").value("2025-12-15"))
+                                .andExpect(jsonPath("$.hasMore").value(false));
+
+                verify(retrieveEventUseCase, times(1)).getEventsPage(20, null, EventSort.DATE, december);
+        }
+
+        @Test
+        void getEventsPage_ShouldReturnBadRequest_WhenDateIsInvalid() throws Exception {
+                mockMvc.perform(get("/api/events/page")
+                                .param("from", "15/12/2025"))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.message").value("Invalid 'from' date: 15/12/2025 (expected YYYY-MM-DD)"));
+
+                verifyNoInteractions(retrieveEventUseCase);
+        }
+
+        @Test
+        void getEventsPage_ShouldReturnBadRequest_WhenSortIsUnknown() throws Exception {
+                mockMvc.perform(get("/api/events/page")
+                                .param("sort", "price"))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.message").value("Unsupported event sort: price"));
+
+                verifyNoInteractions(retrieveEventUseCase);
+        }
+
+        @Test
+        void searchEvents_ShouldReturnRankedHitsWithHighlights() throws Exception {
+                EventSearchHit hit = new EventSearchHit(testEventView, 0.75, "<mark>Rock</mark> Concert 2025", null);
+                when(searchEventsUseCase.searchEvents("rock", 10, 0))
+                                .thenReturn(new OffsetPage<>(List.of(hit), 0, 10, false));
+
+                mockMvc.perform(get("/api/events/search")
+                                .param("q", "rock")
+                                .param("limit", "10"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.items[0].event.id").value(1))
+                                .andExpect(jsonPath("$.items[0].rank").value(0.75))
+                                .andExpect(jsonPath("$.items[0].titleHighlight").value("<mark>Rock</mark> Concert 2025"))
+                                .andExpect(jsonPath("$.items[0].descriptionHighlight").doesNotExist())
+                                .andExpect(jsonPath("$.offset").value(0))
+                                .andExpect(jsonPath("$.hasMore").value(false));
+
+                verify(searchEventsUseCase, times(1)).searchEvents("rock", 10, 0);
+        }
+
+        @Test
+        void searchEvents_ShouldReturnBadRequest_WhenQueryIsBlank() throws Exception {
+                when(searchEventsUseCase.searchEvents(eq(" "), anyInt(), anyInt()))
+                                .thenThrow(new IllegalArgumentException("Search query cannot be null or empty"));
+
+                mockMvc.perform(get("/api/events/search")
+                                .param("q", " "))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.message").value("Search query cannot be null or empty"));
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void exportEvents_ShouldStreamOneEventPerLine_WhenNdjson() throws Exception {
+                doAnswer(invocation -> {
+                        Consumer<Event> consumer = invocation.getArgument(0);
+                        consumer.accept(testEvent);
+                        consumer.accept(testEvent);
+                        return 2L;
+                }).when(exportEventsUseCase).exportEvents(any(Consumer.class));
+
+                MvcResult result = mockMvc.perform(get("/api/events/export"))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                String body = mockMvc.perform(asyncDispatch(result))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                                .andReturn().getResponse().getContentAsString();
+
+                String[] lines = body.split("\n");
+                assertEquals(2, lines.length);
+                assertEquals("Rock Concert 2025",
+                                objectMapper.readTree(lines[0]).get("title").asText());
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void exportEvents_ShouldStreamJsonArray_WhenJson() throws Exception {
+                doAnswer(invocation -> {
+                        Consumer<Event> consumer = invocation.getArgument(0);
+                        consumer.accept(testEvent);
+                        return 1L;
+                }).when(exportEventsUseCase).exportEvents(any(Consumer.class));
+
+                MvcResult result = mockMvc.perform(get("/api/events/export").param("format", "json"))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                mockMvc.perform(asyncDispatch(result))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                                .andExpect(jsonPath("$").isArray())
+                                .andExpect(jsonPath("$[0].id").value(1))
+                                .andExpect(jsonPath("$[0].venue.name").value("Madison Square Garden"));
+        }
+
+        @Test
+        void exportEvents_ShouldReturnBadRequest_WhenFormatIsUnknown() throws Exception {
+                mockMvc.perform(get("/api/events/export").param("format", "csv"))
+                                .andExpect(status().isBadRequest());
+
+                verifyNoInteractions(exportEventsUseCase);
+        }
+
         @Test
         void getEventsByVenueId_ShouldReturnEventsForVenue() throws Exception {
-                List<Event> events = Arrays.asList(testEvent);
+                List<EventView> events = Arrays.asList(testEventView);
                 when(retrieveEventUseCase.getEventsByVenueId(1L)).thenReturn(events);
 
                 mockMvc.perform(get("/api/events/venue/1"))
@@ -197,20 +478,20 @@ class EventRestAdapterTest {
                                 .id(1L)
                                 .title("Updated Rock Concert 2025")
                                 .description("Updated amazing rock concert")
-                                .date("2025-12-16")
+                                .date(LocalDate.of(2025, 12, 16))
                                 .venue(testVenue)
                                 .hour(LocalTime.of(21, 0))
                                 .price(600.00)
                                 .hostedBy("Updated Live Nation")
                                 .build();
 
-                when(updateEventUseCase.updateEvent(eq(1L), any(Event.class))).thenReturn(updatedEvent);
+                when(updateEventUseCase.updateEvent(eq(1L), any(Event.class), isNull())).thenReturn(updatedEvent);
 
                 EventRequestDTO updateRequest = EventRequestDTO.builder()
                                 .title("Updated Rock Concert 2025")
                                 .description("Updated amazing rock concert")
                                 .venueId(1L)
-                                .date("2025-12-16")
+                                .date(LocalDate.of(2025, 12, 16))
                                 .hour(LocalTime.of(21, 0))
                                 .price(600.00)
                                 .hostedBy("Updated Live Nation")
@@ -224,7 +505,19 @@ class EventRestAdapterTest {
                                 .andExpect(jsonPath("$.title").value("Updated Rock Concert 2025"))
                                 .andExpect(jsonPath("$.price").value(600.00));
 
-                verify(updateEventUseCase, times(1)).updateEvent(eq(1L), any(Event.class));
+                verify(updateEventUseCase, times(1)).updateEvent(eq(1L), any(Event.class), isNull());
+        }
+
+        @Test
+        void updateEvent_ShouldReturnPreconditionFailed_WhenIfMatchIsStale() throws Exception {
+                when(updateEventUseCase.updateEvent(eq(1L), any(Event.class), eq("2")))
+                                .thenThrow(new StaleVersionException("Event 1 is at version 3.0, not 2"));
+
+                mockMvc.perform(put("/api/events/1")
+                                .header("If-Match", "\"2\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(eventRequestDTO)))
+                                .andExpect(status().isPreconditionFailed());
         }
 
         @Test
@@ -0,0 +1,83 @@
+package com.codeup.eventify.infrastructure.adapters.in.web;
+
+import com.codeup.eventify.infrastructure.adapters.out.jpa.entity.VenueEntity;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.repository.SpringVenueRepository;
+import com.codeup.eventify.infrastructure.adapters.in.web.dto.request.EventRequestDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs search end to end on the in-memory engine (the test profile), checking that writes made
+ * through the API reach the index.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EventSearchIntegrationTest {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Autowired
+        private SpringVenueRepository springVenueRepository;
+
+        @Test
+        void searchEvents_ShouldFindCreatedEventsUntilDeleted() throws Exception {
+                VenueEntity venue = springVenueRepository.save(VenueEntity.builder()
+                                .name("Search Hall")
+                                .country("USA")
+                                .address("1 Index Ave")
+                                .city("Austin")
+                                .state("TX")
+                                .zipCode("73301")
+                                .build());
+                EventRequestDTO request = EventRequestDTO.builder()
+                                .title("Xylophone Workshop")
+                                .description("Hands-on percussion session")
+                                .venueId(venue.getId())
+                                .date(LocalDate.of(2025, 12, 15))
+                                .hour(LocalTime.of(18, 0))
+                                .price(25.0)
+                                .hostedBy("Music School")
+                                .build();
+
+                MvcResult created = mockMvc.perform(post("/api/events")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isCreated())
+                                .andReturn();
+                long id = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+                mockMvc.perform(get("/api/events/search").param("q", "xylophone percussion"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.items.length()").value(1))
+                                .andExpect(jsonPath("$.items[0].event.id").value(id))
+                                .andExpect(jsonPath("$.items[0].event.venue.name").value("Search Hall"))
+                                .andExpect(jsonPath("$.items[0].titleHighlight").value("<mark>Xylophone</mark> Workshop"));
+
+                mockMvc.perform(delete("/api/events/" + id)).andExpect(status().isNoContent());
+
+                mockMvc.perform(get("/api/events/search").param("q", "xylophone"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.items.length()").value(0));
+        }
+}
@@ -0,0 +1,172 @@
+package com.codeup.eventify.infrastructure.adapters.in.web;
+
+import com.codeup.eventify.infrastructure.adapters.out.jpa.entity.EventEntity;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.entity.VenueEntity;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.repository.SpringEventRepository;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.repository.SpringVenueRepository;
+import com.codeup.eventify.support.SqlStatementCounter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Counts the SQL statements each read endpoint issues against a real (H2) database, so a
+ * regression back to per-row venue loading (N+1) fails the build.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EventSqlStatementCountTest {
+
+        private static final int VENUES = 3;
+        private static final int EVENTS_PER_VENUE = 4;
+        private static final Pattern ROW_VALUE_CURSOR = Pattern.compile("\\([\\w.]+(,[\\w.]+)+\\)>\\(\\?(,\\?)+\\)");
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Autowired
+        private SpringEventRepository springEventRepository;
+
+        @Autowired
+        private SpringVenueRepository springVenueRepository;
+
+        private Long firstEventId;
+        private Long firstVenueId;
+
+        @BeforeEach
+        void setUp() {
+                springEventRepository.deleteAll();
+                springVenueRepository.deleteAll();
+
+                List<EventEntity> events = new ArrayList<>();
+                for (int v = 0; v < VENUES; v++) {
+                        VenueEntity venue = springVenueRepository.save(VenueEntity.builder()
+                                        .name("Venue " + v)
+                                        .country("USA")
+                                        .address(v + " Main St")
+                                        .city("New York")
+                                        .state("NY")
+                                        .zipCode("1000" + v)
+                                        .build());
+                        for (int e = 0; e < EVENTS_PER_VENUE; e++) {
+                                events.add(EventEntity.builder()
+                                                .title("Event " + v + "-" + e)
+                                                .description("Description " + e)
+                                                .venue(venue)
+                                                .date(LocalDate.of(2025, 12, 10 + e))
+                                                .hour(LocalTime.of(20, 0))
+                                                .price(50.0)
+                                                .hostedBy("Host " + e)
+                                                .build());
+                        }
+                }
+                springEventRepository.saveAll(events);
+                firstEventId = events.get(0).getId();
+                firstVenueId = events.get(0).getVenue().getId();
+
+                SqlStatementCounter.reset();
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                        "/api/events",
+                        "/api/events/page?limit=5",
+                        "/api/events/page?limit=5&sort=title",
+                        "/api/events/page?limit=5&sort=date",
+                        "/api/events/page?limit=5&from=2025-12-11&to=2025-12-12",
+                        "/api/venues",
+                        "/api/venues/page?limit=2&sort=name"
+        })
+        void listEndpoints_ShouldIssueSingleStatement(String url) throws Exception {
+                mockMvc.perform(get(url)).andExpect(status().isOk());
+
+                assertStatements(1);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                        "/api/events/page?limit=5&sort=title",
+                        "/api/events/page?limit=5&from=2025-12-10&to=2025-12-13",
+                        "/api/venues/page?limit=2&sort=name"
+        })
+        void cursorPages_ShouldSeekPastTheCursorWithARowValue(String url) throws Exception {
+                Set<Long> ids = new HashSet<>();
+                String after = null;
+                do {
+                        SqlStatementCounter.reset();
+                        MvcResult page = mockMvc.perform(get(url + (after != null ? "&after=" + after : "")))
+                                        .andExpect(status().isOk())
+                                        .andReturn();
+                        JsonNode body = objectMapper.readTree(page.getResponse().getContentAsString());
+                        body.get("items").forEach(item -> assertTrue(ids.add(item.get("id").asLong())));
+                        assertStatements(1);
+                        if (after != null) {
+                                // (sort key, id) > (?, ?) gives the index scan its start; an OR of comparisons only filters
+                                String sql = SqlStatementCounter.statements().get(0).replace(" ", "");
+                                assertTrue(ROW_VALUE_CURSOR.matcher(sql).find(), sql);
+                        }
+                        after = body.get("hasMore").asBoolean() ? body.get("nextCursor").asText() : null;
+                } while (after != null);
+
+                assertEquals(url.startsWith("/api/venues") ? VENUES : VENUES * EVENTS_PER_VENUE, ids.size());
+        }
+
+        @Test
+        void getEventById_ShouldIssueSingleStatement() throws Exception {
+                mockMvc.perform(get("/api/events/" + firstEventId))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.venue.id").value(firstVenueId));
+
+                assertStatements(1);
+        }
+
+        @Test
+        void getEventsByVenueId_ShouldIssueSingleStatement() throws Exception {
+                mockMvc.perform(get("/api/events/venue/" + firstVenueId))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.length()").value(EVENTS_PER_VENUE));
+
+                assertStatements(1);
+        }
+
+        @Test
+        void exportEvents_ShouldIssueSingleStatement() throws Exception {
+                MvcResult result = mockMvc.perform(get("/api/events/export")).andReturn();
+                mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+                assertStatements(1);
+        }
+
+        private void assertStatements(int expected) {
+                assertEquals(expected, SqlStatementCounter.count(),
+                                () -> "Unexpected SQL statements: " + SqlStatementCounter.statements());
+        }
+}
@@ -0,0 +1,101 @@
+package com.codeup.eventify.infrastructure.adapters.in.web;
+
+import com.codeup.eventify.infrastructure.limit.TokenBucketStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimitFilterTest {
+
+        // 20 tokens refilled at 1 per second, so nothing refills noticeably during a test
+        private final RateLimitFilter filter = new RateLimitFilter(
+                        new TokenBucketStore(20, 1, 1000, Duration.ofMinutes(10)), "X-API-Key", Set.of("partner-key"),
+                        1, 10, 5, new ObjectMapper());
+
+        @Test
+        void doFilter_ShouldChargeListsMoreThanSingleResources() throws Exception {
+                MockHttpServletResponse list = perform("GET", "/api/events", "10.0.0.1", null);
+                assertEquals(200, list.getStatus());
+                assertEquals("20", list.getHeader(RateLimitFilter.LIMIT_HEADER));
+                assertEquals("10", list.getHeader(RateLimitFilter.REMAINING_HEADER));
+                assertEquals("10", list.getHeader(RateLimitFilter.RESET_HEADER));
+
+                assertEquals("9", perform("GET", "/api/events/42", "10.0.0.1", null)
+                                .getHeader(RateLimitFilter.REMAINING_HEADER));
+                assertEquals("4", perform("GET", "/api/events/search", "10.0.0.1", null)
+                                .getHeader(RateLimitFilter.REMAINING_HEADER));
+
+                MockHttpServletResponse throttled = perform("GET", "/api/venues/page", "10.0.0.1", null);
+                assertEquals(429, throttled.getStatus());
+                assertEquals("4", throttled.getHeader(RateLimitFilter.REMAINING_HEADER));
+                assertEquals("6", throttled.getHeader(HttpHeaders.RETRY_AFTER));
+                assertTrue(throttled.getContentAsString().contains("\"status\":429"), throttled.getContentAsString());
+
+                assertEquals(200, perform("GET", "/api/venues/7", "10.0.0.1", null).getStatus());
+        }
+
+        @Test
+        void doFilter_ShouldKeyClientsByApiKeyOrElseAddress() throws Exception {
+                perform("GET", "/api/events", "10.0.0.1", null);
+                perform("GET", "/api/events", "10.0.0.1", null);
+
+                assertEquals(429, perform("GET", "/api/events", "10.0.0.1", null).getStatus());
+                assertEquals(200, perform("GET", "/api/events", "10.0.0.2", null).getStatus());
+                assertEquals(200, perform("GET", "/api/events", "10.0.0.1", "partner-key").getStatus());
+        }
+
+        @Test
+        void doFilter_ShouldChargeUnknownApiKeysToTheAddress() throws Exception {
+                perform("GET", "/api/events", "10.0.0.1", UUID.randomUUID().toString());
+                perform("GET", "/api/events", "10.0.0.1", UUID.randomUUID().toString());
+
+                assertEquals(429, perform("GET", "/api/events", "10.0.0.1", UUID.randomUUID().toString()).getStatus());
+                assertEquals(429, perform("GET", "/api/events", "10.0.0.1", null).getStatus());
+        }
+
+        @Test
+        void doFilter_ShouldNotLimitWrites() throws Exception {
+                for (int i = 0; i < 30; i++) {
+                        MockHttpServletResponse response = perform("POST", "/api/events", "10.0.0.1", null);
+                        assertEquals(200, response.getStatus());
+                        assertNull(response.getHeader(RateLimitFilter.LIMIT_HEADER));
+                }
+        }
+
+        @Test
+        void constructor_ShouldRejectCostsAboveTheCapacity() {
+                TokenBucketStore buckets = new TokenBucketStore(5, 1, 1000, Duration.ofMinutes(10));
+
+                assertThrows(IllegalArgumentException.class,
+                                () -> new RateLimitFilter(buckets, "X-API-Key", Set.of(), 1, 10, 5, new ObjectMapper()));
+        }
+
+        private MockHttpServletResponse perform(String method, String uri, String address, String apiKey)
+                        throws Exception {
+                MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+                request.setRemoteAddr(address);
+                if (apiKey != null) {
+                        request.addHeader("X-API-Key", apiKey);
+                }
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                MockFilterChain chain = new MockFilterChain();
+                filter.doFilter(request, response, chain);
+                if (response.getStatus() == 200) {
+                        assertNotNull(chain.getRequest());
+                }
+                return response;
+        }
+}
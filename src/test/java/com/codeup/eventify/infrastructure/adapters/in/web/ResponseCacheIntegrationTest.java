@@ -0,0 +1,163 @@
+package com.codeup.eventify.infrastructure.adapters.in.web;
+
+import com.codeup.eventify.support.SqlStatementCounter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static com.codeup.eventify.support.ApiFixtures.create;
+import static com.codeup.eventify.support.ApiFixtures.eventRequest;
+import static com.codeup.eventify.support.ApiFixtures.venueRequest;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The list response cache against a real (H2) database: repeated reads cost no SQL, and
+ * every write through the use cases is visible on the next read. Data is only ever written
+ * through the API here, as writes that bypass the use cases move no generation.
+ */
+@SpringBootTest(properties = "eventify.response-cache.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ResponseCacheIntegrationTest {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        private Long venueId;
+        private Long otherVenueId;
+
+        @BeforeEach
+        void setUp() throws Exception {
+                venueId = createVenue();
+                otherVenueId = createVenue();
+        }
+
+        @Test
+        void getAllEvents_ShouldBeServedFromCacheUntilAnEventIsCreated() throws Exception {
+                createEvent("Cached Opening", venueId);
+                String cached = getJson("/api/events");
+
+                SqlStatementCounter.reset();
+                assertEquals(cached, getJson("/api/events"));
+                assertEquals(0, SqlStatementCounter.count(), () -> "Statements: " + SqlStatementCounter.statements());
+
+                createEvent("Cached Encore", venueId);
+                assertTrue(titles(getJson("/api/events")).contains("Cached Encore"));
+        }
+
+        @Test
+        void getEventsByVenue_ShouldFollowAnEventMovedToAnotherVenue() throws Exception {
+                Long eventId = createEvent("Touring Show", venueId);
+                assertEquals(List.of("Touring Show"), titles(getJson("/api/events/venue/" + venueId)));
+                assertEquals(List.of(), titles(getJson("/api/events/venue/" + otherVenueId)));
+
+                mockMvc.perform(put("/api/events/" + eventId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(eventRequest("Touring Show", otherVenueId).build())))
+                                .andExpect(status().isOk());
+
+                assertEquals(List.of(), titles(getJson("/api/events/venue/" + venueId)));
+                assertEquals(List.of("Touring Show"), titles(getJson("/api/events/venue/" + otherVenueId)));
+        }
+
+        @Test
+        void deleteEvent_ShouldDropItFromCachedLists() throws Exception {
+                Long eventId = createEvent("Cancelled Show", venueId);
+                assertTrue(titles(getJson("/api/events")).contains("Cancelled Show"));
+                assertEquals(List.of("Cancelled Show"), titles(getJson("/api/events/venue/" + venueId)));
+
+                mockMvc.perform(delete("/api/events/" + eventId)).andExpect(status().isNoContent());
+
+                assertFalse(titles(getJson("/api/events")).contains("Cancelled Show"));
+                assertEquals(List.of(), titles(getJson("/api/events/venue/" + venueId)));
+        }
+
+        @Test
+        void updateVenue_ShouldRefreshVenuesAndTheEventsEmbeddingIt() throws Exception {
+                createEvent("Renamed Venue Show", venueId);
+                getJson("/api/venues");
+                getJson("/api/events/venue/" + venueId);
+
+                String name = "Renamed " + UUID.randomUUID();
+                mockMvc.perform(put("/api/venues/" + venueId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(venueRequest(name).build())))
+                                .andExpect(status().isOk());
+
+                List<String> venueNames = new ArrayList<>();
+                objectMapper.readTree(getJson("/api/venues")).forEach(venue -> venueNames.add(venue.get("name").asText()));
+                assertTrue(venueNames.contains(name));
+                JsonNode events = objectMapper.readTree(getJson("/api/events/venue/" + venueId));
+                assertEquals(name, events.get(0).get("venue").get("name").asText());
+        }
+
+        @Test
+        void getAllEvents_ShouldServeGzipCompressedOnceToClientsAcceptingIt() throws Exception {
+                for (int i = 0; i < 5; i++) {
+                        createEvent("Compressed Show " + i, venueId);
+                }
+                String json = getJson("/api/events");
+                assertTrue(json.length() >= ResponseBodyCache.GZIP_MIN_BYTES);
+
+                MvcResult gzipped = mockMvc.perform(get("/api/events").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                                .andReturn();
+                byte[] body = gzipped.getResponse().getContentAsByteArray();
+                assertTrue(body.length < json.length());
+                try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                        assertEquals(json, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                }
+
+                mockMvc.perform(get("/api/events").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+        }
+
+        private String getJson(String path) throws Exception {
+                return mockMvc.perform(get(path))
+                                .andExpect(status().isOk())
+                                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                                .andReturn().getResponse().getContentAsString();
+        }
+
+        private List<String> titles(String json) throws Exception {
+                List<String> titles = new ArrayList<>();
+                objectMapper.readTree(json).forEach(event -> titles.add(event.get("title").asText()));
+                return titles;
+        }
+
+        private Long createVenue() throws Exception {
+                return create(mockMvc, objectMapper, "/api/venues", venueRequest("Response Hall " + UUID.randomUUID()).build());
+        }
+
+        private Long createEvent(String title, Long venue) throws Exception {
+                return create(mockMvc, objectMapper, "/api/events", eventRequest(title, venue).build());
+        }
+}
@@ -0,0 +1,77 @@
+package com.codeup.eventify.infrastructure.adapters.in.web;
+
+import com.codeup.eventify.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.codeup.eventify.support.ApiFixtures.create;
+import static com.codeup.eventify.support.ApiFixtures.eventRequest;
+import static com.codeup.eventify.support.ApiFixtures.venueRequest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The response cache with read replicas configured: the generation moves when a write
+ * commits on the primary, so responses cached under it must be built from the primary.
+ * The "replica" is the primary's own H2 database under a second pool, as in
+ * ReadReplicaConfigTest, so only the connection counts tell the two apart.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:eventify-cache-replicas;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "eventify.datasource.replica-urls=jdbc:h2:mem:eventify-cache-replicas;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "eventify.datasource.replica-lag-query=SELECT 0",
+        "eventify.response-cache.enabled=true"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ResponseCacheReplicaIntegrationTest {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        @Autowired
+        private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+        @Test
+        void cachedListResponses_ShouldBeBuiltFromThePrimary() throws Exception {
+                assertEquals(1, replicaRoutingDataSource.healthyReplicas());
+                long venueId = create(mockMvc, objectMapper, "/api/venues", venueRequest("Cached Replica Hall").build());
+                long eventId = create(mockMvc, objectMapper, "/api/events",
+                                eventRequest("Cached Replica Night", venueId).build());
+
+                double primaryBefore = connections("primary");
+                double replicaBefore = connections("replica-1");
+
+                mockMvc.perform(get("/api/events/venue/" + venueId))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$[0].id").value(eventId));
+                mockMvc.perform(get("/api/venues"))
+                                .andExpect(status().isOk());
+                assertEquals(primaryBefore + 2, connections("primary"));
+                assertEquals(replicaBefore, connections("replica-1"));
+
+                // Hits open no connection, and reads outside the cache still go to the replica
+                mockMvc.perform(get("/api/events/venue/" + venueId)).andExpect(status().isOk());
+                mockMvc.perform(get("/api/events/" + eventId)).andExpect(status().isOk());
+                assertEquals(primaryBefore + 2, connections("primary"));
+                assertEquals(replicaBefore + 1, connections("replica-1"));
+        }
+
+        private double connections(String target) {
+                return meterRegistry.get("eventify.datasource.connections").tag("target", target).functionCounter().count();
+        }
+}
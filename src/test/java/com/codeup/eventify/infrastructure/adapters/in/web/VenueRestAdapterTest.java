@@ -1,17 +1,21 @@
 package com.codeup.eventify.infrastructure.adapters.in.web;
 
+import com.codeup.eventify.domain.model.CursorPage;
 import com.codeup.eventify.domain.model.Venue;
+import com.codeup.eventify.domain.model.VenueSort;
 import com.codeup.eventify.domain.ports.in.venues.CreateVenueUseCase;
 import com.codeup.eventify.domain.ports.in.venues.DeleteVenueUseCase;
 import com.codeup.eventify.domain.ports.in.venues.RetrieveVenueUseCase;
 import com.codeup.eventify.domain.ports.in.venues.UpdateVenueUseCase;
 import com.codeup.eventify.infrastructure.adapters.in.web.dto.request.VenueRequestDTO;
+import com.codeup.eventify.infrastructure.config.ResponseCacheConfig;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -19,6 +23,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -28,6 +33,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 // In future versions, consider migrating to @MockitoBean or other mocking strategies
 
 @WebMvcTest(VenueRestAdapter.class)
+@Import(ResponseCacheConfig.class)
 class VenueRestAdapterTest {
 
         @Autowired
@@ -149,6 +155,33 @@ class VenueRestAdapterTest {
                 verify(retrieveVenueUseCase, times(1)).getAllVenues();
         }
 
+        @Test
+        void getVenuesPage_ShouldReturnLastPageWithoutCursor() throws Exception {
+                when(retrieveVenueUseCase.getVenuesPage(20, "SUQ6MTo", VenueSort.ID))
+                                .thenReturn(new CursorPage<>(List.of(testVenue), null));
+
+                mockMvc.perform(get("/api/venues/page")
+                                .param("after", "SUQ6MTo"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.items[0].id").value(1))
+                                .andExpect(jsonPath("$.items[0].name").value("Madison Square Garden"))
+                                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                                .andExpect(jsonPath("$.hasMore").value(false));
+
+                verify(retrieveVenueUseCase, times(1)).getVenuesPage(20, "SUQ6MTo", VenueSort.ID);
+        }
+
+        @Test
+        void getVenuesPage_ShouldReturnBadRequest_WhenCursorIsInvalid() throws Exception {
+                when(retrieveVenueUseCase.getVenuesPage(anyInt(), eq("bogus"), any(VenueSort.class)))
+                                .thenThrow(new IllegalArgumentException("Invalid page cursor"));
+
+                mockMvc.perform(get("/api/venues/page")
+                                .param("after", "bogus"))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.message").value("Invalid page cursor"));
+        }
+
         @Test
         void updateVenue_ShouldReturnUpdatedVenue() throws Exception {
                 Venue updatedVenue = Venue.builder()
@@ -161,7 +194,7 @@ class VenueRestAdapterTest {
                                 .zipCode("10001")
                                 .build();
 
-                when(updateVenueUseCase.updateVenue(eq(1L), any(Venue.class))).thenReturn(updatedVenue);
+                when(updateVenueUseCase.updateVenue(eq(1L), any(Venue.class), isNull())).thenReturn(updatedVenue);
 
                 VenueRequestDTO updateRequest = VenueRequestDTO.builder()
                                 .name("Updated Madison Square Garden")
@@ -179,7 +212,7 @@ class VenueRestAdapterTest {
                                 .andExpect(jsonPath("$.id").value(1))
                                 .andExpect(jsonPath("$.name").value("Updated Madison Square Garden"));
 
-                verify(updateVenueUseCase, times(1)).updateVenue(eq(1L), any(Venue.class));
+                verify(updateVenueUseCase, times(1)).updateVenue(eq(1L), any(Venue.class), isNull());
         }
 
         @Test
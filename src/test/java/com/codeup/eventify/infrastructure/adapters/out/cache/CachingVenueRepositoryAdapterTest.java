@@ -0,0 +1,254 @@
+package com.codeup.eventify.infrastructure.adapters.out.cache;
+
+import com.codeup.eventify.domain.model.ResourceVersion;
+import com.codeup.eventify.domain.model.Venue;
+import com.codeup.eventify.domain.ports.out.VenueRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class CachingVenueRepositoryAdapterTest {
+
+    private VenueRepositoryPort delegate;
+    private AtomicLong nanos;
+    private CachingVenueRepositoryAdapter cachingAdapter;
+    private Venue testVenue;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(VenueRepositoryPort.class);
+        nanos = new AtomicLong();
+        cachingAdapter = new CachingVenueRepositoryAdapter(delegate, 100, Duration.ofMinutes(10), nanos::get);
+
+        testVenue = Venue.builder()
+                .id(1L)
+                .name("Madison Square Garden")
+                .country("USA")
+                .address("4 Pennsylvania Plaza")
+                .city("New York")
+                .state("NY")
+                .zipCode("10001")
+                .build();
+    }
+
+    @Test
+    void findById_ShouldHitDelegateOnlyOnce() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(testVenue));
+
+        assertEquals(Optional.of(testVenue), cachingAdapter.findById(1L));
+        assertEquals(Optional.of(testVenue), cachingAdapter.findById(1L));
+
+        verify(delegate, times(1)).findById(1L);
+        assertEquals(1, cachingAdapter.idCacheStats().hitCount());
+        assertEquals(1, cachingAdapter.idCacheStats().missCount());
+    }
+
+    @Test
+    void findById_ShouldShareOneLoadBetweenConcurrentMisses() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findById(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(testVenue);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<Venue>> first = executor.submit(() -> cachingAdapter.findById(1L));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<Optional<Venue>> second = executor.submit(() -> cachingAdapter.findById(1L));
+            release.countDown();
+
+            assertEquals(Optional.of(testVenue), first.get(5, TimeUnit.SECONDS));
+            assertEquals(Optional.of(testVenue), second.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(delegate, times(1)).findById(1L);
+    }
+
+    @Test
+    void findById_ShouldPropagateDelegateFailureAndRetryNextTime() {
+        when(delegate.findById(1L))
+                .thenThrow(new IllegalStateException("Database unavailable"))
+                .thenReturn(Optional.of(testVenue));
+
+        assertThrows(IllegalStateException.class, () -> cachingAdapter.findById(1L));
+        assertEquals(Optional.of(testVenue), cachingAdapter.findById(1L));
+    }
+
+    @Test
+    void findById_ShouldNotExposeCachedInstance() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(testVenue));
+
+        cachingAdapter.findById(1L).orElseThrow().setName("Mutated");
+
+        assertEquals("Madison Square Garden", cachingAdapter.findById(1L).orElseThrow().getName());
+    }
+
+    @Test
+    void findById_ShouldReloadAfterTtl() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(testVenue));
+
+        cachingAdapter.findById(1L);
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(11));
+        cachingAdapter.findById(1L);
+
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    void existsByName_ShouldServeRepeatedLookupsFromMemory() {
+        when(delegate.findByName("Madison Square Garden")).thenReturn(Optional.of(testVenue));
+        when(delegate.findByName("Unknown")).thenReturn(Optional.empty());
+
+        assertTrue(cachingAdapter.existsByName("Madison Square Garden"));
+        assertTrue(cachingAdapter.existsByName("Madison Square Garden"));
+        assertFalse(cachingAdapter.existsByName("Unknown"));
+        assertFalse(cachingAdapter.existsByName("Unknown"));
+
+        verify(delegate, times(1)).findByName("Madison Square Garden");
+        verify(delegate, times(1)).findByName("Unknown");
+        verify(delegate, never()).existsByName(any());
+    }
+
+    @Test
+    void save_ShouldInvalidateCachedMissForNewName() {
+        Venue newVenue = Venue.builder().name("Hollywood Bowl").build();
+        Venue savedVenue = Venue.builder().id(2L).name("Hollywood Bowl").build();
+        when(delegate.findByName("Hollywood Bowl")).thenReturn(Optional.empty(), Optional.of(savedVenue));
+        when(delegate.save(newVenue)).thenReturn(savedVenue);
+
+        assertFalse(cachingAdapter.existsByName("Hollywood Bowl"));
+        cachingAdapter.save(newVenue);
+
+        assertTrue(cachingAdapter.existsByName("Hollywood Bowl"));
+        assertEquals(Optional.of(savedVenue), cachingAdapter.findById(2L));
+        verify(delegate, never()).findById(2L);
+    }
+
+    @Test
+    void update_ShouldReplaceCachedVenue() {
+        Venue renamed = Venue.builder().id(1L).name("The Garden").build();
+        when(delegate.findById(1L)).thenReturn(Optional.of(testVenue));
+        when(delegate.findByName("Madison Square Garden")).thenReturn(Optional.of(testVenue), Optional.empty());
+        when(delegate.update(1L, renamed)).thenReturn(renamed);
+
+        cachingAdapter.findById(1L);
+        cachingAdapter.findByName("Madison Square Garden");
+        cachingAdapter.update(1L, renamed);
+
+        assertEquals("The Garden", cachingAdapter.findById(1L).orElseThrow().getName());
+        assertFalse(cachingAdapter.existsByName("Madison Square Garden"));
+        verify(delegate, times(1)).findById(1L);
+    }
+
+    @Test
+    void save_ShouldNotCacheAVenueWhoseTransactionRolledBack() {
+        Venue newVenue = Venue.builder().name("Hollywood Bowl").build();
+        Venue savedVenue = Venue.builder().id(2L).name("Hollywood Bowl").build();
+        when(delegate.save(newVenue)).thenReturn(savedVenue);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cachingAdapter.save(newVenue);
+            TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                    TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertFalse(cachingAdapter.existsById(2L));
+        verify(delegate).existsById(2L);
+    }
+
+    @Test
+    void update_ShouldCacheTheVenueOnceCommitted() {
+        Venue renamed = Venue.builder().id(1L).name("The Garden").build();
+        when(delegate.findById(1L)).thenReturn(Optional.of(testVenue));
+        when(delegate.update(1L, renamed)).thenReturn(renamed);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cachingAdapter.update(1L, renamed);
+            // Another reader sees the committed row until the update commits
+            assertEquals("Madison Square Garden", cachingAdapter.findById(1L).orElseThrow().getName());
+
+            TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                    TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals("The Garden", cachingAdapter.findById(1L).orElseThrow().getName());
+        verify(delegate, times(1)).findById(1L);
+    }
+
+    @Test
+    void findCurrentVersionById_ShouldReadTheDelegateEvenWhenTheVenueIsCached() {
+        ResourceVersion current = ResourceVersion.of(3L, null);
+        when(delegate.findById(1L)).thenReturn(Optional.of(testVenue));
+        when(delegate.findCurrentVersionById(1L)).thenReturn(Optional.of(current));
+
+        cachingAdapter.findById(1L);
+
+        assertEquals(Optional.of(current), cachingAdapter.findCurrentVersionById(1L));
+        verify(delegate).findCurrentVersionById(1L);
+    }
+
+    @Test
+    void deleteById_ShouldEvictVenue() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(testVenue), Optional.empty());
+
+        cachingAdapter.findById(1L);
+        cachingAdapter.deleteById(1L);
+
+        assertTrue(cachingAdapter.findById(1L).isEmpty());
+        verify(delegate).deleteById(1L);
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    void findAllById_ShouldOnlyLoadMissingVenues() {
+        Venue otherVenue = Venue.builder().id(2L).name("Hollywood Bowl").build();
+        when(delegate.findById(1L)).thenReturn(Optional.of(testVenue));
+        when(delegate.findAllById(anyCollection())).thenReturn(List.of(otherVenue));
+
+        cachingAdapter.findById(1L);
+        List<Venue> venues = cachingAdapter.findAllById(Set.of(1L, 2L));
+
+        assertEquals(2, venues.size());
+        verify(delegate).findAllById(List.of(2L));
+    }
+
+    @Test
+    void findAllById_ShouldLoadMissingVenuesOnTheCallingThread() {
+        Thread caller = Thread.currentThread();
+        when(delegate.findAllById(anyCollection())).thenAnswer(invocation -> {
+            assertSame(caller, Thread.currentThread());
+            return List.of(testVenue);
+        });
+
+        assertEquals(List.of(testVenue), cachingAdapter.findAllById(Set.of(1L)));
+        verify(delegate).findAllById(List.of(1L));
+    }
+}
@@ -0,0 +1,107 @@
+package com.codeup.eventify.infrastructure.adapters.out.changes;
+
+import com.codeup.eventify.domain.model.ChangePage;
+import com.codeup.eventify.domain.model.ChangeRecord;
+import com.codeup.eventify.domain.model.ChangeResource;
+import com.codeup.eventify.domain.model.ChangeType;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryChangeFeedAdapterTest {
+
+    private final InMemoryChangeFeedAdapter changeFeed = new InMemoryChangeFeedAdapter(4);
+
+    @Test
+    void readAfter_ShouldReturnChangesInSequenceOrder() {
+        changeFeed.publish(ChangeResource.VENUE, ChangeType.CREATED, 1L, 0L);
+        changeFeed.publish(ChangeResource.EVENT, ChangeType.CREATED, 7L, 0L);
+        changeFeed.publish(ChangeResource.EVENT, ChangeType.DELETED, 7L, null);
+
+        ChangePage page = changeFeed.readAfter(1, 10);
+
+        assertFalse(page.isGap());
+        assertEquals(3, page.getLatestSequence());
+        assertEquals(List.of(2L, 3L), sequences(page));
+        assertEquals(ChangeType.DELETED, page.getChanges().get(1).getType());
+        assertEquals(List.of(2L), sequences(changeFeed.readAfter(1, 1)));
+        assertTrue(changeFeed.readAfter(3, 10).getChanges().isEmpty());
+    }
+
+    @Test
+    void readAfter_ShouldReportGapOnceChangesAreOverwritten() {
+        for (long id = 1; id <= 6; id++) {
+            changeFeed.publish(ChangeResource.EVENT, ChangeType.UPDATED, id, 1L);
+        }
+
+        ChangePage behind = changeFeed.readAfter(1, 10);
+        assertTrue(behind.isGap());
+        assertEquals(List.of(3L, 4L, 5L, 6L), sequences(behind));
+
+        ChangePage caughtUp = changeFeed.readAfter(2, 10);
+        assertFalse(caughtUp.isGap());
+        assertEquals(List.of(3L, 4L, 5L, 6L), sequences(caughtUp));
+    }
+
+    @Test
+    void readAfter_ShouldReportGapForSequenceFromBeforeARestart() {
+        changeFeed.publish(ChangeResource.VENUE, ChangeType.CREATED, 1L, 0L);
+
+        ChangePage page = changeFeed.readAfter(500, 10);
+
+        assertTrue(page.isGap());
+        assertEquals(List.of(1L), sequences(page));
+    }
+
+    @Test
+    void subscribe_ShouldNotifyUntilUnsubscribed() {
+        AtomicInteger notifications = new AtomicInteger();
+        Runnable unsubscribe = changeFeed.subscribe(notifications::incrementAndGet);
+
+        changeFeed.publish(ChangeResource.VENUE, ChangeType.CREATED, 1L, 0L);
+        unsubscribe.run();
+        changeFeed.publish(ChangeResource.VENUE, ChangeType.UPDATED, 1L, 1L);
+
+        assertEquals(1, notifications.get());
+        assertEquals(2, changeFeed.latestSequence());
+    }
+
+    @Test
+    void publish_ShouldWaitForTheTransactionToCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            changeFeed.publish(ChangeResource.VENUE, ChangeType.CREATED, 1L, 0L);
+            assertEquals(0, changeFeed.latestSequence());
+
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+            assertEquals(1, changeFeed.latestSequence());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void publish_ShouldDropChangesOfARolledBackTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            changeFeed.publish(ChangeResource.EVENT, ChangeType.DELETED, 7L, null);
+
+            TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                    TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(0, changeFeed.latestSequence());
+    }
+
+    private static List<Long> sequences(ChangePage page) {
+        return page.getChanges().stream().map(ChangeRecord::getSequence).toList();
+    }
+}
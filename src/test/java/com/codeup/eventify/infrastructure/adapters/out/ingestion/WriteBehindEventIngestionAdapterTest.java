@@ -0,0 +1,197 @@
+package com.codeup.eventify.infrastructure.adapters.out.ingestion;
+
+import com.codeup.eventify.domain.exception.IngestionQueueFullException;
+import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.model.IngestionStatus;
+import com.codeup.eventify.domain.model.IngestionTicket;
+import com.codeup.eventify.domain.model.Venue;
+import com.codeup.eventify.domain.ports.out.EventRepositoryPort;
+import com.codeup.eventify.infrastructure.adapters.out.cache.InMemoryCatalogGenerationAdapter;
+import com.codeup.eventify.infrastructure.adapters.out.changes.InMemoryChangeFeedAdapter;
+import com.codeup.eventify.infrastructure.adapters.out.memory.InMemoryEventRepositoryAdapter;
+import com.codeup.eventify.infrastructure.adapters.out.memory.InMemoryVenueRepositoryAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WriteBehindEventIngestionAdapterTest {
+
+    @TempDir
+    Path directory;
+
+    private InMemoryEventRepositoryAdapter eventRepository;
+    private final InMemoryChangeFeedAdapter changeFeed = new InMemoryChangeFeedAdapter(100);
+    private final InMemoryCatalogGenerationAdapter catalogGenerations = new InMemoryCatalogGenerationAdapter();
+    private Venue venue;
+    private Path journal;
+    private final List<WriteBehindEventIngestionAdapter> adapters = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        InMemoryVenueRepositoryAdapter venueRepository = new InMemoryVenueRepositoryAdapter();
+        eventRepository = new InMemoryEventRepositoryAdapter(venueRepository);
+        venue = venueRepository.save(Venue.builder().name("Madison Square Garden").city("New York").build());
+        journal = directory.resolve("ingestion.journal");
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapters.forEach(WriteBehindEventIngestionAdapter::stop);
+    }
+
+    @Test
+    void enqueue_ShouldCreateEventsInTheBackground() throws Exception {
+        WriteBehindEventIngestionAdapter adapter = adapter(100);
+        adapter.start();
+
+        List<IngestionTicket> queued = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            queued.add(adapter.enqueue(event("Launch " + i)));
+        }
+
+        for (IngestionTicket ticket : queued) {
+            assertEquals(IngestionStatus.QUEUED, ticket.getStatus());
+            IngestionTicket done = awaitCompletion(adapter, ticket.getTrackingId());
+            assertEquals(IngestionStatus.CREATED, done.getStatus());
+            assertTrue(eventRepository.existsById(done.getEventId()));
+        }
+        assertEquals(20, eventRepository.findAll().size());
+        assertEquals(20, changeFeed.latestSequence());
+        assertEquals(20, catalogGenerations.eventsGeneration());
+        assertEquals(0, Files.size(journal));
+    }
+
+    @Test
+    void enqueue_ShouldFailOnlyTheEventWhoseTitleIsTaken() throws Exception {
+        eventRepository.save(event("Sold Out"));
+        WriteBehindEventIngestionAdapter adapter = adapter(100);
+        adapter.start();
+
+        IngestionTicket fresh = adapter.enqueue(event("Encore"));
+        IngestionTicket duplicate = adapter.enqueue(event("Sold Out"));
+
+        IngestionTicket failed = awaitCompletion(adapter, duplicate.getTrackingId());
+        assertEquals(IngestionStatus.FAILED, failed.getStatus());
+        assertEquals("An event with title 'Sold Out' already exists", failed.getError());
+        assertEquals(IngestionStatus.CREATED, awaitCompletion(adapter, fresh.getTrackingId()).getStatus());
+    }
+
+    @Test
+    void enqueue_ShouldNotExposeStoreErrorsInTickets() throws Exception {
+        EventRepositoryPort failingRepository = mock(EventRepositoryPort.class);
+        DataIntegrityViolationException violation = new DataIntegrityViolationException(
+                "could not execute statement [insert into events ...]; constraint [fk_venue]");
+        when(failingRepository.saveAll(anyList())).thenThrow(violation);
+        when(failingRepository.save(any())).thenThrow(violation);
+        WriteBehindEventIngestionAdapter adapter = new WriteBehindEventIngestionAdapter(failingRepository, changeFeed,
+                catalogGenerations, journal, true, 100, 10, Duration.ofMinutes(5));
+        adapters.add(adapter);
+        adapter.start();
+
+        IngestionTicket failed = awaitCompletion(adapter, adapter.enqueue(event("Nowhere")).getTrackingId());
+
+        assertEquals(IngestionStatus.FAILED, failed.getStatus());
+        assertEquals("Venue not found with ID: " + venue.getId(), failed.getError());
+    }
+
+    @Test
+    void enqueue_ShouldRejectWhenQueueIsFull() {
+        // Not started, so nothing drains the queue
+        WriteBehindEventIngestionAdapter adapter = adapter(2);
+
+        adapter.enqueue(event("First"));
+        adapter.enqueue(event("Second"));
+
+        assertThrows(IngestionQueueFullException.class, () -> adapter.enqueue(event("Third")));
+        assertEquals(2, adapter.size());
+    }
+
+    @Test
+    void start_ShouldReplayEventsAcceptedBeforeARestart() throws Exception {
+        // Accepted while no writer runs, as if the process died before writing it
+        WriteBehindEventIngestionAdapter crashed = adapter(100);
+        IngestionTicket ticket = crashed.enqueue(event("Survivor"));
+        crashed.stop();
+
+        WriteBehindEventIngestionAdapter restarted = adapter(100);
+        restarted.start();
+
+        IngestionTicket done = awaitCompletion(restarted, ticket.getTrackingId());
+        assertEquals(IngestionStatus.CREATED, done.getStatus());
+        assertEquals("Survivor", eventRepository.findById(done.getEventId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    void start_ShouldCountAReplayedEventStoredBeforeTheCrashAsCreated() throws Exception {
+        WriteBehindEventIngestionAdapter crashed = adapter(100);
+        IngestionTicket written = crashed.enqueue(event("Half Written"));
+        IngestionTicket taken = crashed.enqueue(event("Taken Meanwhile"));
+        crashed.stop();
+        // The first was inserted before the crash, the second's title went to a different event
+        Long storedId = eventRepository.save(event("Half Written")).getId();
+        eventRepository.save(Event.builder()
+                .title("Taken Meanwhile")
+                .description("Someone else's event")
+                .date(LocalDate.of(2026, 1, 10))
+                .venue(venue)
+                .hour(LocalTime.of(19, 0))
+                .price(20.0)
+                .hostedBy("Other Promotions")
+                .build());
+
+        WriteBehindEventIngestionAdapter restarted = adapter(100);
+        restarted.start();
+
+        IngestionTicket created = awaitCompletion(restarted, written.getTrackingId());
+        assertEquals(IngestionStatus.CREATED, created.getStatus());
+        assertEquals(storedId, created.getEventId());
+        assertEquals(IngestionStatus.FAILED, awaitCompletion(restarted, taken.getTrackingId()).getStatus());
+        assertEquals(1, eventRepository.findByTitle("Half Written").size());
+    }
+
+    private WriteBehindEventIngestionAdapter adapter(int capacity) {
+        WriteBehindEventIngestionAdapter adapter = new WriteBehindEventIngestionAdapter(eventRepository, changeFeed,
+                catalogGenerations, journal, true, capacity, 10, Duration.ofMinutes(5));
+        adapters.add(adapter);
+        return adapter;
+    }
+
+    private static IngestionTicket awaitCompletion(WriteBehindEventIngestionAdapter adapter, String trackingId)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        IngestionTicket ticket = adapter.findTicket(trackingId).orElseThrow();
+        while (ticket.getStatus() == IngestionStatus.QUEUED && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            ticket = adapter.findTicket(trackingId).orElseThrow();
+        }
+        return ticket;
+    }
+
+    private Event event(String title) {
+        return Event.builder()
+                .title(title)
+                .description(title + " description")
+                .date(LocalDate.of(2025, 12, 15))
+                .venue(venue)
+                .hour(LocalTime.of(20, 0))
+                .price(50.0)
+                .hostedBy("Live Nation")
+                .build();
+    }
+}
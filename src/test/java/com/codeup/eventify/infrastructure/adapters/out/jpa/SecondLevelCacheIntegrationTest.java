@@ -0,0 +1,158 @@
+package com.codeup.eventify.infrastructure.adapters.out.jpa;
+
+import com.codeup.eventify.domain.model.Venue;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.entity.EventEntity;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.entity.VenueEntity;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.repository.SpringEventRepository;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.repository.SpringEventViewRepository;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.repository.SpringVenueRepository;
+import com.codeup.eventify.support.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hibernate's second-level and query caches against H2: repeated lookups cost no SQL, and
+ * writes, including the events PostgreSQL deletes by cascade with their venue, are never
+ * served stale.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true"
+})
+@ActiveProfiles("test")
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private VenueJpaAdapter venueJpaAdapter;
+
+    @Autowired
+    private SpringVenueRepository springVenueRepository;
+
+    @Autowired
+    private SpringEventRepository springEventRepository;
+
+    @Autowired
+    private SpringEventViewRepository springEventViewRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private VenueEntity venue;
+    private EventEntity event;
+
+    @BeforeEach
+    void setUp() {
+        springEventRepository.deleteAll();
+        springVenueRepository.deleteAll();
+
+        venue = springVenueRepository.save(VenueEntity.builder()
+                .name("Cache Hall")
+                .country("USA")
+                .address("1 Main St")
+                .city("Boston")
+                .state("MA")
+                .zipCode("02101")
+                .build());
+        event = springEventRepository.save(event("Opening Night"));
+    }
+
+    @Test
+    void findById_ShouldBeServedFromTheEntityCache() {
+        springVenueRepository.findById(venue.getId());
+        SqlStatementCounter.reset();
+
+        assertEquals("Cache Hall", springVenueRepository.findById(venue.getId()).orElseThrow().getName());
+        assertEquals(0, SqlStatementCounter.count(), () -> "Statements: " + SqlStatementCounter.statements());
+    }
+
+    @Test
+    void findByName_ShouldBeServedFromTheQueryCacheUntilTheVenueChanges() {
+        venueJpaAdapter.findByName("Cache Hall");
+        SqlStatementCounter.reset();
+        assertTrue(venueJpaAdapter.findByName("Cache Hall").isPresent());
+        assertEquals(0, SqlStatementCounter.count(), () -> "Statements: " + SqlStatementCounter.statements());
+
+        venueJpaAdapter.update(venue.getId(), Venue.builder()
+                .name("Renamed Hall")
+                .country("USA")
+                .address("1 Main St")
+                .city("Boston")
+                .state("MA")
+                .zipCode("02101")
+                .build());
+
+        assertTrue(venueJpaAdapter.findByName("Cache Hall").isEmpty());
+        assertEquals("Renamed Hall", venueJpaAdapter.findByName("Renamed Hall").orElseThrow().getName());
+    }
+
+    @Test
+    void findViewsByVenueId_ShouldBeServedFromTheQueryCacheUntilEventsChange() {
+        springEventViewRepository.findViewsByVenueId(venue.getId());
+        SqlStatementCounter.reset();
+        assertEquals(1, springEventViewRepository.findViewsByVenueId(venue.getId()).size());
+        assertEquals(0, SqlStatementCounter.count(), () -> "Statements: " + SqlStatementCounter.statements());
+
+        springEventRepository.save(event("Closing Night"));
+
+        assertEquals(2, springEventViewRepository.findViewsByVenueId(venue.getId()).size());
+        assertEquals(2, springEventRepository.findByVenueId(venue.getId()).size());
+    }
+
+    @Test
+    void deleteById_ShouldEvictEventsDeletedByCascade() {
+        Cache cache = entityManagerFactory.getCache();
+        assertTrue(cache.contains(EventEntity.class, event.getId()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // What ON DELETE CASCADE does on PostgreSQL; H2's schema has no cascade
+            jdbcTemplate.update("DELETE FROM events WHERE venue_id = ?", venue.getId());
+            venueJpaAdapter.deleteById(venue.getId());
+        });
+
+        assertFalse(cache.contains(EventEntity.class, event.getId()));
+        assertTrue(springEventRepository.findById(event.getId()).isEmpty());
+    }
+
+    @Test
+    void regions_ShouldPublishCacheMeters() {
+        springVenueRepository.findById(venue.getId());
+
+        assertNotNull(meterRegistry.find("cache.size").tag("cache", VenueEntity.CACHE_REGION).gauge());
+        assertNotNull(meterRegistry.find("cache.size").tag("cache", EventEntity.BY_VENUE_CACHE_REGION).gauge());
+        assertNotNull(meterRegistry.find("cache.evictions").tag("cache", EventEntity.CACHE_REGION).functionCounter());
+    }
+
+    private EventEntity event(String title) {
+        return EventEntity.builder()
+                .title(title)
+                .description("Description")
+                .venue(venue)
+                .date(LocalDate.of(2025, 12, 10))
+                .hour(LocalTime.of(20, 0))
+                .price(50.0)
+                .hostedBy("Host")
+                .build();
+    }
+}
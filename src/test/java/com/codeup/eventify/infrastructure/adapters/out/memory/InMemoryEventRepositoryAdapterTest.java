@@ -0,0 +1,199 @@
+package com.codeup.eventify.infrastructure.adapters.out.memory;
+
+import com.codeup.eventify.domain.exception.DuplicateEventTitleException;
+import com.codeup.eventify.domain.exception.StaleVersionException;
+import com.codeup.eventify.domain.model.DateRange;
+import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.model.EventSort;
+import com.codeup.eventify.domain.model.EventView;
+import com.codeup.eventify.domain.model.PageCursor;
+import com.codeup.eventify.domain.model.Venue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryEventRepositoryAdapterTest {
+
+    private InMemoryVenueRepositoryAdapter venueRepository;
+    private InMemoryEventRepositoryAdapter eventRepository;
+    private InMemoryEventReadModelAdapter eventReadModel;
+    private Venue garden;
+    private Venue bowl;
+
+    @BeforeEach
+    void setUp() {
+        venueRepository = new InMemoryVenueRepositoryAdapter();
+        eventRepository = new InMemoryEventRepositoryAdapter(venueRepository);
+        eventReadModel = new InMemoryEventReadModelAdapter(eventRepository);
+        garden = venueRepository.save(Venue.builder().name("Madison Square Garden").city("New York").build());
+        bowl = venueRepository.save(Venue.builder().name("Hollywood Bowl").city("Los Angeles").build());
+    }
+
+    @Test
+    void save_ShouldAssignIdsAndJoinVenue() {
+        Event saved = eventRepository.save(event("Rock Concert", garden, "Live Nation"));
+
+        assertNotNull(saved.getId());
+        assertEquals("Madison Square Garden", saved.getVenue().getName());
+        assertEquals(saved, eventRepository.findById(saved.getId()).orElseThrow());
+        EventView view = eventReadModel.findById(saved.getId()).orElseThrow();
+        assertEquals("New York", view.getVenueCity());
+    }
+
+    @Test
+    void secondaryIndexes_ShouldFollowUpdatesAndDeletes() {
+        Event first = eventRepository.save(event("Rock Concert", garden, "Live Nation"));
+        Event second = eventRepository.save(event("Jazz Night", garden, "Blue Note"));
+
+        assertEquals(List.of(first.getId(), second.getId()), ids(eventRepository.findByVenueId(garden.getId())));
+        assertTrue(eventRepository.existsByTitle("Rock Concert"));
+
+        first.setTitle("Rock Revival");
+        first.setVenue(bowl);
+        eventRepository.save(first);
+
+        assertFalse(eventRepository.existsByTitle("Rock Concert"));
+        assertEquals(List.of(first.getId()), ids(eventRepository.findByTitle("Rock Revival")));
+        assertEquals(List.of(second.getId()), ids(eventRepository.findByVenueId(garden.getId())));
+        assertEquals(List.of(first.getId()), ids(eventRepository.findByHostedBy("Live Nation")));
+        assertEquals(Set.of("Rock Revival"), eventRepository.findExistingTitles(List.of("Rock Revival", "Opera")));
+
+        eventRepository.deleteById(second.getId());
+
+        assertFalse(eventRepository.existsById(second.getId()));
+        assertTrue(eventRepository.findByHostedBy("Blue Note").isEmpty());
+    }
+
+    @Test
+    void findPage_ShouldWalkKeysetPagesInOrder() {
+        for (String title : List.of("Delta", "Alpha", "Charlie", "Bravo", "Echo")) {
+            eventRepository.save(event(title, garden, "Host"));
+        }
+
+        List<EventView> firstPage = eventReadModel.findPage(EventSort.TITLE, null, DateRange.UNBOUNDED, 2);
+        assertEquals(List.of("Alpha", "Bravo"), titles(firstPage));
+        EventView last = firstPage.get(1);
+        PageCursor cursor = new PageCursor("TITLE", last.getId(), last.getTitle());
+        assertEquals(List.of("Charlie", "Delta", "Echo"), titles(eventReadModel.findPage(EventSort.TITLE, cursor, DateRange.UNBOUNDED, 5)));
+
+        List<EventView> byId = eventReadModel.findPage(EventSort.ID, new PageCursor("ID", 3L, null), DateRange.UNBOUNDED, 10);
+        assertEquals(List.of(4L, 5L), byId.stream().map(EventView::getId).toList());
+    }
+
+    @Test
+    void findPage_ShouldReturnDateRangeChronologically() {
+        for (int day = 1; day <= 20; day++) {
+            Event event = event("Day " + day, garden, "Host");
+            event.setDate(LocalDate.of(2025, 12, 21 - day));
+            eventRepository.save(event);
+        }
+        DateRange range = new DateRange(LocalDate.of(2025, 12, 5), LocalDate.of(2025, 12, 10));
+
+        List<EventView> firstPage = eventReadModel.findPage(EventSort.DATE, null, range, 4);
+        assertEquals(List.of("Day 16", "Day 15", "Day 14", "Day 13"), titles(firstPage));
+        EventView last = firstPage.get(3);
+        PageCursor cursor = new PageCursor("DATE", last.getId(), LocalDateTime.of(last.getDate(), last.getHour()).toString());
+        assertEquals(List.of("Day 12", "Day 11"), titles(eventReadModel.findPage(EventSort.DATE, cursor, range, 4)));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> eventReadModel.findPage(EventSort.ID, null, range, 4));
+    }
+
+    @Test
+    void deleteVenue_ShouldCascadeToItsEvents() {
+        Event atGarden = eventRepository.save(event("Rock Concert", garden, "Live Nation"));
+        Event atBowl = eventRepository.save(event("Jazz Night", bowl, "Blue Note"));
+
+        venueRepository.deleteById(garden.getId());
+
+        assertFalse(eventRepository.existsById(atGarden.getId()));
+        assertEquals(List.of(atBowl.getId()), ids(eventRepository.findAll()));
+    }
+
+    @Test
+    void save_ShouldRejectTakenTitleUntilItIsReleased() {
+        Event first = eventRepository.save(event("Rock Concert", garden, "Live Nation"));
+
+        assertThrows(DuplicateEventTitleException.class,
+                () -> eventRepository.save(event("Rock Concert", bowl, "Blue Note")));
+
+        first.setTitle("Rock Concert Reloaded");
+        eventRepository.save(first);
+        Event second = eventRepository.save(event("Rock Concert", bowl, "Blue Note"));
+        eventRepository.deleteById(second.getId());
+        eventRepository.save(event("Rock Concert", bowl, "Blue Note"));
+
+        assertEquals(2, eventRepository.findAll().size());
+    }
+
+    @Test
+    void save_ShouldBumpVersionAndRejectStaleWrites() {
+        Event saved = eventRepository.save(event("Rock Concert", garden, "Live Nation"));
+        assertEquals(0L, saved.getVersion());
+
+        saved.setPrice(60.0);
+        Event updated = eventRepository.save(saved);
+        assertEquals(1L, updated.getVersion());
+        assertEquals(1L, eventReadModel.findVersionById(saved.getId()).orElseThrow().getVersion());
+
+        saved.setVersion(0L);
+        assertThrows(StaleVersionException.class, () -> eventRepository.save(saved));
+    }
+
+    @Test
+    void concurrentSaves_ShouldNotLoseEvents() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        eventRepository.save(event("Event " + thread + "-" + i, garden, "Host " + thread));
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(4000, eventRepository.findAll().size());
+        assertEquals(4000, eventReadModel.findByVenueId(garden.getId()).size());
+        assertEquals(500, eventRepository.findByHostedBy("Host 3").size());
+    }
+
+    private static Event event(String title, Venue venue, String hostedBy) {
+        return Event.builder()
+                .title(title)
+                .description(title + " description")
+                .date(LocalDate.of(2025, 12, 15))
+                .venue(venue)
+                .hour(LocalTime.of(20, 0))
+                .price(50.0)
+                .hostedBy(hostedBy)
+                .build();
+    }
+
+    private static List<Long> ids(List<Event> events) {
+        return events.stream().map(Event::getId).toList();
+    }
+
+    private static List<String> titles(List<EventView> events) {
+        return events.stream().map(EventView::getTitle).toList();
+    }
+}
@@ -0,0 +1,116 @@
+package com.codeup.eventify.infrastructure.adapters.out.search;
+
+import com.codeup.eventify.domain.model.Event;
+import com.codeup.eventify.domain.model.EventSearchHit;
+import com.codeup.eventify.domain.model.Venue;
+import com.codeup.eventify.domain.ports.out.EventRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class InMemoryEventSearchAdapterTest {
+
+    private EventRepositoryPort source;
+    private InMemoryEventSearchAdapter searchAdapter;
+    private Venue testVenue;
+
+    @BeforeEach
+    void setUp() {
+        source = mock(EventRepositoryPort.class);
+        searchAdapter = new InMemoryEventSearchAdapter(source);
+        testVenue = Venue.builder().id(1L).name("Blue Note").build();
+
+        searchAdapter.index(event(1L, "Jazz Night", "Live jazz quartet"));
+        searchAdapter.index(event(2L, "Rock Festival", "Three days of rock and jazz fusion"));
+        searchAdapter.index(event(3L, "Comedy Special", "Stand-up comedy"));
+    }
+
+    @Test
+    void search_ShouldRankTitleMatchesFirst() {
+        List<EventSearchHit> hits = searchAdapter.search("jazz", 10, 0);
+
+        assertEquals(List.of(1L, 2L), ids(hits));
+        assertTrue(hits.get(0).getRank() > hits.get(1).getRank());
+        assertEquals("<mark>Jazz</mark> Night", hits.get(0).getTitleHighlight());
+        assertEquals("Live <mark>jazz</mark> quartet", hits.get(0).getDescriptionHighlight());
+        assertNull(hits.get(1).getTitleHighlight());
+        assertEquals("Blue Note", hits.get(0).getEvent().getVenueName());
+    }
+
+    @Test
+    void search_ShouldEscapeTheTextAroundHighlights() {
+        searchAdapter.index(event(4L, "<mark>Blues</mark> & Soul", "Tom's \"late\" blues set"));
+
+        List<EventSearchHit> hits = searchAdapter.search("blues", 10, 0);
+
+        assertEquals("&lt;mark&gt;<mark>Blues</mark>&lt;/mark&gt; &amp; Soul", hits.get(0).getTitleHighlight());
+        assertEquals("Tom&#39;s &quot;late&quot; <mark>blues</mark> set", hits.get(0).getDescriptionHighlight());
+    }
+
+    @Test
+    void search_ShouldSupportWebSearchOperators() {
+        assertEquals(List.of(2L), ids(searchAdapter.search("jazz rock", 10, 0)));
+        assertEquals(List.of(1L), ids(searchAdapter.search("jazz -festival", 10, 0)));
+        assertEquals(List.of(3L, 1L), ids(searchAdapter.search("quartet or comedy", 10, 0)));
+        assertEquals(List.of(2L), ids(searchAdapter.search("the festivals", 10, 0)));
+        assertTrue(searchAdapter.search("opera", 10, 0).isEmpty());
+        assertTrue(searchAdapter.search("-jazz", 10, 0).isEmpty());
+    }
+
+    @Test
+    void search_ShouldApplyLimitAndOffset() {
+        assertEquals(List.of(1L), ids(searchAdapter.search("jazz", 1, 0)));
+        assertEquals(List.of(2L), ids(searchAdapter.search("jazz", 1, 1)));
+        assertTrue(searchAdapter.search("jazz", 1, 2).isEmpty());
+    }
+
+    @Test
+    void index_ShouldReplacePreviousVersionAndRemoveShouldDrop() {
+        searchAdapter.index(event(1L, "Blues Night", "Live blues trio"));
+
+        assertEquals(List.of(2L), ids(searchAdapter.search("jazz", 10, 0)));
+        assertEquals(List.of(1L), ids(searchAdapter.search("blues", 10, 0)));
+
+        searchAdapter.remove(1L);
+
+        assertTrue(searchAdapter.search("blues", 10, 0).isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuild_ShouldReplaceIndexWithRepositoryContents() {
+        doAnswer(invocation -> {
+            ((Consumer<Event>) invocation.getArgument(0)).accept(event(4L, "Jazz Brunch", null));
+            return null;
+        }).when(source).streamAll(any());
+
+        searchAdapter.rebuild();
+
+        assertEquals(List.of(4L), ids(searchAdapter.search("jazz", 10, 0)));
+    }
+
+    private Event event(Long id, String title, String description) {
+        return Event.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .date(LocalDate.of(2025, 12, 15))
+                .venue(testVenue)
+                .hour(LocalTime.of(20, 0))
+                .price(50.0)
+                .hostedBy("Host")
+                .build();
+    }
+
+    private static List<Long> ids(List<EventSearchHit> hits) {
+        return hits.stream().map(hit -> hit.getEvent().getId()).toList();
+    }
+}
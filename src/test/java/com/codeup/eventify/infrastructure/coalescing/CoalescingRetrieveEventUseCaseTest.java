@@ -0,0 +1,159 @@
+package com.codeup.eventify.infrastructure.coalescing;
+
+import com.codeup.eventify.application.usecase.events.RetrieveEventUseCaseImpl;
+import com.codeup.eventify.domain.model.EventView;
+import com.codeup.eventify.domain.ports.out.EventReadModelPort;
+import com.codeup.eventify.infrastructure.adapters.out.cache.InMemoryCatalogGenerationAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.codeup.eventify.infrastructure.coalescing.SingleFlightTest.waitUntil;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CoalescingRetrieveEventUseCaseTest {
+
+    private static final int CALLERS = 50;
+
+    private final InMemoryCatalogGenerationAdapter catalogGenerations = new InMemoryCatalogGenerationAdapter();
+    private EventReadModelPort eventReadModel;
+    private EventView testEvent;
+
+    @BeforeEach
+    void setUp() {
+        eventReadModel = mock(EventReadModelPort.class);
+        testEvent = new EventView(1L, "Tech Conference", "Description", LocalDate.of(2025, 12, 10),
+                LocalTime.of(20, 0), 50.0, "Host", 1L, "Madison Square Garden", "USA", "4 Pennsylvania Plaza",
+                "New York", "NY", "10001");
+    }
+
+    @Test
+    void getEventById_ShouldRunOneQueryForConcurrentCallers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(eventReadModel.findById(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(testEvent);
+        });
+        CoalescingRetrieveEventUseCase useCase = coalescing(CoalescingRetrieveEventUseCase.QUERIES);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        useCase.bindTo(registry);
+
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<EventView>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> useCase.getEventById(1L)));
+            }
+            // Everyone but the caller running the query is waiting on it
+            waitUntil(() -> mockingDetails(eventReadModel).getInvocations().size() == 1);
+            waitUntil(() -> calls(registry, CoalescingRetrieveEventUseCase.EVENT_BY_ID, "coalesced") == CALLERS - 1);
+            release.countDown();
+
+            for (Future<EventView> result : results) {
+                assertSame(testEvent, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(eventReadModel, times(1)).findById(1L);
+        assertEquals(1.0, calls(registry, CoalescingRetrieveEventUseCase.EVENT_BY_ID, "executed"));
+    }
+
+    @Test
+    void getEventsByVenueId_ShouldShareAnUnmodifiableList() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(eventReadModel.findByVenueId(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new ArrayList<>(List.of(testEvent));
+        });
+        CoalescingRetrieveEventUseCase useCase = coalescing(Set.of(CoalescingRetrieveEventUseCase.EVENTS_BY_VENUE));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        useCase.bindTo(registry);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<EventView>> first = executor.submit(() -> useCase.getEventsByVenueId(1L));
+            waitUntil(() -> !mockingDetails(eventReadModel).getInvocations().isEmpty());
+            Future<List<EventView>> second = executor.submit(() -> useCase.getEventsByVenueId(1L));
+            waitUntil(() -> calls(registry, CoalescingRetrieveEventUseCase.EVENTS_BY_VENUE, "coalesced") == 1);
+            release.countDown();
+
+            List<EventView> events = first.get(5, TimeUnit.SECONDS);
+            assertSame(events, second.get(5, TimeUnit.SECONDS));
+            assertThrows(UnsupportedOperationException.class, () -> events.add(testEvent));
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(eventReadModel, times(1)).findByVenueId(1L);
+    }
+
+    @Test
+    void getEventsByVenueId_ShouldNotJoinAFlightStartedBeforeAWrite() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<EventView> before = List.of();
+        List<EventView> after = List.of(testEvent);
+        when(eventReadModel.findByVenueId(1L))
+                .thenAnswer(invocation -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return before;
+                })
+                .thenReturn(after);
+        CoalescingRetrieveEventUseCase useCase = coalescing(CoalescingRetrieveEventUseCase.QUERIES);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<EventView>> stale = executor.submit(() -> useCase.getEventsByVenueId(1L));
+            waitUntil(() -> !mockingDetails(eventReadModel).getInvocations().isEmpty());
+            // An event of the venue committed (no transaction here, so the generation moves at once)
+            catalogGenerations.eventsChanged(List.of(1L));
+
+            assertEquals(after, useCase.getEventsByVenueId(1L));
+            release.countDown();
+            assertEquals(before, stale.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(eventReadModel, times(2)).findByVenueId(1L);
+    }
+
+    @Test
+    void getEventById_ShouldCallThroughWhenNotCoalesced() {
+        when(eventReadModel.findById(1L)).thenReturn(Optional.of(testEvent));
+        CoalescingRetrieveEventUseCase useCase = coalescing(Set.of(CoalescingRetrieveEventUseCase.EVENTS_BY_VENUE));
+
+        assertSame(testEvent, useCase.getEventById(1L));
+        assertSame(testEvent, useCase.getEventById(1L));
+
+        verify(eventReadModel, times(2)).findById(1L);
+    }
+
+    @Test
+    void constructor_ShouldRejectUnknownQueries() {
+        assertThrows(IllegalArgumentException.class, () -> coalescing(Set.of("event-by-title")));
+    }
+
+    private CoalescingRetrieveEventUseCase coalescing(Set<String> queries) {
+        return new CoalescingRetrieveEventUseCase(new RetrieveEventUseCaseImpl(eventReadModel), catalogGenerations,
+                queries);
+    }
+
+    private static double calls(SimpleMeterRegistry registry, String query, String outcome) {
+        return registry.get(SingleFlight.CALLS_METRIC)
+                .tags("query", query, "outcome", outcome)
+                .functionCounter()
+                .count();
+    }
+}
@@ -0,0 +1,107 @@
+package com.codeup.eventify.infrastructure.coalescing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SingleFlight<Long, String> flight = new SingleFlight<>("test");
+
+    @Test
+    void execute_ShouldShareAnInFlightCallsException() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> flight.execute(1L, () -> {
+                running.countDown();
+                await(release);
+                throw new IllegalStateException("boom");
+            }));
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+            Future<String> follower = executor.submit(() -> flight.execute(1L, () -> "not run"));
+            waitUntil(() -> flight.getCoalescedCount() == 1);
+            release.countDown();
+
+            ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+            ExecutionException followerFailure = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, leaderFailure.getCause());
+            assertSame(leaderFailure.getCause(), followerFailure.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_ShouldRunAgainOnceTheCallHasCompleted() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertEquals("1", flight.execute(1L, () -> String.valueOf(calls.incrementAndGet())));
+        assertEquals("2", flight.execute(1L, () -> String.valueOf(calls.incrementAndGet())));
+
+        assertEquals(2, flight.getExecutedCount());
+        assertEquals(0, flight.getCoalescedCount());
+    }
+
+    @Test
+    void execute_ShouldNotCoalesceDifferentKeys() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> flight.execute(1L, () -> {
+                running.countDown();
+                await(release);
+                return "one";
+            }));
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+
+            assertEquals("two", flight.execute(2L, () -> "two"));
+            release.countDown();
+            assertEquals("one", first.get(5, TimeUnit.SECONDS));
+            assertEquals(0, flight.getCoalescedCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void bindTo_ShouldPublishCallCounts() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        flight.bindTo(registry);
+
+        flight.execute(1L, () -> "one");
+
+        assertEquals(1.0, registry.get(SingleFlight.CALLS_METRIC)
+                .tags("query", "test", "outcome", "executed").functionCounter().count());
+        assertEquals(0.0, registry.get(SingleFlight.CALLS_METRIC)
+                .tags("query", "test", "outcome", "coalesced").functionCounter().count());
+    }
+
+    static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out");
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
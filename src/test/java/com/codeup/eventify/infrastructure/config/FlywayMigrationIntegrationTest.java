@@ -0,0 +1,165 @@
+package com.codeup.eventify.infrastructure.config;
+
+import com.codeup.eventify.infrastructure.adapters.in.web.dto.request.EventRequestDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.CoreMigrationType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static com.codeup.eventify.support.ApiFixtures.create;
+import static com.codeup.eventify.support.ApiFixtures.eventRequest;
+import static com.codeup.eventify.support.ApiFixtures.venueRequest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the Flyway migrations on PostgreSQL, which the H2 database of the other tests cannot
+ * do: the application works on a schema created by V1, and a database created before Flyway is
+ * only baselined once every script in database/migrations has been applied. Skipped when Docker
+ * is not available.
+ *
+ * <p>Hibernate keeps the production ddl-auto=none rather than validate: PostgreSQL leaves identity
+ * sequences such as events_id_seq out of information_schema.sequences, so validate reports it
+ * missing. The requests below touch every column and index V1 adds instead.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class FlywayMigrationIntegrationTest {
+
+        @Container
+        private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+        @DynamicPropertySource
+        static void postgres(DynamicPropertyRegistry registry) {
+                registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+                registry.add("spring.datasource.username", POSTGRES::getUsername);
+                registry.add("spring.datasource.password", POSTGRES::getPassword);
+                registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+                registry.add("spring.flyway.enabled", () -> "true");
+                registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+                registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+                registry.add("eventify.search.engine", () -> "postgres");
+        }
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Autowired
+        private Flyway flyway;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Test
+        void migrate_ShouldCreateTheSchemaTheApplicationRunsOn() throws Exception {
+                MigrationInfo current = flyway.info().current();
+                assertEquals("1", current.getVersion().getVersion());
+                assertEquals(CoreMigrationType.SQL, current.getType());
+
+                long venueId = create(mockMvc, objectMapper, "/api/venues", venueRequest("Migration Hall").build());
+                long eventId = create(mockMvc, objectMapper, "/api/events",
+                                event("Baseline Night", "Tsvector & GIN on a \"migrated\" schema", venueId));
+                // Batched inserts take their ids from the pooled sequence
+                mockMvc.perform(post("/api/events/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(List.of(
+                                                event("Second Night", "Encore", venueId),
+                                                event("Third Night", "Finale", venueId)))))
+                                .andExpect(status().isCreated());
+                mockMvc.perform(post("/api/events")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(event("Baseline Night", "Same title", venueId))))
+                                .andExpect(status().isConflict());
+
+                mockMvc.perform(get("/api/events/search").param("q", "gin migrated"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.items.length()").value(1))
+                                .andExpect(jsonPath("$.items[0].event.id").value(eventId))
+                                .andExpect(jsonPath("$.items[0].descriptionHighlight")
+                                                .value("Tsvector &amp; <mark>GIN</mark> on a &quot;<mark>migrated</mark>&quot; schema"));
+                mockMvc.perform(get("/api/events/page").param("from", "2025-12-15").param("to", "2025-12-15"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.items.length()").value(3));
+                mockMvc.perform(get("/api/venues/page").param("sort", "name"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.items[0].id").value(venueId));
+
+                String etag = mockMvc.perform(get("/api/events/" + eventId))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.price").value(19.5))
+                                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+                mockMvc.perform(put("/api/events/" + eventId)
+                                .header(HttpHeaders.IF_MATCH, etag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(event("Baseline Night", "Revised", venueId))))
+                                .andExpect(status().isOk());
+                mockMvc.perform(put("/api/events/" + eventId)
+                                .header(HttpHeaders.IF_MATCH, etag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(event("Baseline Night", "Lost update", venueId))))
+                                .andExpect(status().isPreconditionFailed());
+        }
+
+        @Test
+        void baseline_ShouldRefuseADatabaseMissingAHandRunScript() {
+                jdbcTemplate.execute("CREATE SCHEMA legacy");
+                DriverManagerDataSource legacy = new DriverManagerDataSource(
+                                POSTGRES.getJdbcUrl() + "&currentSchema=legacy", POSTGRES.getUsername(), POSTGRES.getPassword());
+                // A pre-Flyway database at 005: the V1 schema without the version columns of 006
+                new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline_schema.sql")).execute(legacy);
+                jdbcTemplate.execute("ALTER TABLE legacy.events DROP COLUMN version");
+                Flyway baseline = Flyway.configure()
+                                .dataSource(legacy)
+                                .schemas("legacy")
+                                .baselineOnMigrate(true)
+                                .baselineVersion("1")
+                                .load();
+
+                FlywayException refused = assertThrows(FlywayException.class, baseline::migrate);
+                assertTrue(refused.getMessage().contains("apply 006_entity_versions.sql from database/migrations first"),
+                                refused.getMessage());
+                assertNull(jdbcTemplate.queryForObject("SELECT to_regclass('legacy.flyway_schema_history')::text", String.class));
+
+                jdbcTemplate.execute("ALTER TABLE legacy.events ADD COLUMN version BIGINT NOT NULL DEFAULT 0");
+                baseline.migrate();
+                MigrationInfo current = baseline.info().current();
+                assertEquals("1", current.getVersion().getVersion());
+                assertEquals(CoreMigrationType.BASELINE, current.getType());
+        }
+
+        private static EventRequestDTO event(String title, String description, long venueId) {
+                return eventRequest(title, venueId).description(description).price(19.5).build();
+        }
+}
@@ -0,0 +1,75 @@
+package com.codeup.eventify.infrastructure.config;
+
+import com.codeup.eventify.domain.ports.out.EventReadModelPort;
+import com.codeup.eventify.domain.ports.out.VenueRepositoryPort;
+import com.codeup.eventify.infrastructure.adapters.out.memory.InMemoryEventReadModelAdapter;
+import com.codeup.eventify.infrastructure.adapters.out.memory.InMemoryVenueRepositoryAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("in-memory")
+class InMemoryPersistenceConfigTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void contextLoads_WithoutDataSource() {
+        assertTrue(context.getBeansOfType(DataSource.class).isEmpty());
+        assertInstanceOf(InMemoryVenueRepositoryAdapter.class, context.getBean(VenueRepositoryPort.class));
+        assertInstanceOf(InMemoryEventReadModelAdapter.class, context.getBean(EventReadModelPort.class));
+    }
+
+    @Test
+    void createdEvents_ShouldBeReadableAndSearchable() throws Exception {
+        String venue = mockMvc.perform(post("/api/venues")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of(
+                        "name", "Edge Hall", "country", "USA", "address", "1 Edge St",
+                        "city", "Denver", "state", "CO", "zipCode", "80202"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long venueId = objectMapper.readTree(venue).get("id").asLong();
+
+        mockMvc.perform(post("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of(
+                        "title", "Edge Summit", "description", "Talks about edge computing",
+                        "venueId", venueId, "date", "2025-12-15", "hour", "09:00:00",
+                        "price", 10.0, "hostedBy", "Edge Org"))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/events/venue/" + venueId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Edge Summit"))
+                .andExpect(jsonPath("$[0].venue.name").value("Edge Hall"));
+        mockMvc.perform(get("/api/events/search").param("q", "computing"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].event.title").value("Edge Summit"));
+    }
+}
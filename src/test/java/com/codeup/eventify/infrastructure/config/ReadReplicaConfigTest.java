@@ -0,0 +1,70 @@
+package com.codeup.eventify.infrastructure.config;
+
+import com.codeup.eventify.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.codeup.eventify.support.ApiFixtures.create;
+import static com.codeup.eventify.support.ApiFixtures.eventRequest;
+import static com.codeup.eventify.support.ApiFixtures.venueRequest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The "replica" is the primary's own H2 database under a second pool, i.e. a replica with
+ * no lag, so routed reads find what was just written.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:eventify-replicas;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "eventify.datasource.replica-urls=jdbc:h2:mem:eventify-replicas;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "eventify.datasource.replica-lag-query=SELECT 0"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReadReplicaConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Test
+    void retrieveUseCases_ShouldReadFromReplicaAndWritesGoToPrimary() throws Exception {
+        assertEquals(1, replicaRoutingDataSource.healthyReplicas());
+
+        long venueId = create(mockMvc, objectMapper, "/api/venues", venueRequest("Replica Hall").build());
+        long eventId = create(mockMvc, objectMapper, "/api/events", eventRequest("Replica Night", venueId).build());
+
+        double primaryBefore = connections("primary");
+        double replicaBefore = connections("replica-1");
+
+        mockMvc.perform(get("/api/events/" + eventId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Replica Night"));
+        mockMvc.perform(get("/api/events/venue/" + venueId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(eventId));
+
+        assertEquals(primaryBefore, connections("primary"));
+        assertEquals(replicaBefore + 2, connections("replica-1"));
+    }
+
+    private double connections(String target) {
+        return meterRegistry.get("eventify.datasource.connections").tag("target", target).functionCounter().count();
+    }
+}
@@ -0,0 +1,26 @@
+package com.codeup.eventify.infrastructure.config;
+
+import com.codeup.eventify.domain.ports.in.events.RetrieveEventUseCase;
+import com.codeup.eventify.domain.ports.out.EventRepositoryPort;
+import com.codeup.eventify.domain.ports.out.VenueRepositoryPort;
+import com.codeup.eventify.infrastructure.adapters.out.jpa.EventJpaAdapter;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RuntimeHintsConfigTest {
+
+    @Test
+    void registerHints_ShouldKeepEveryPortIntrospectable() {
+        RuntimeHints hints = new RuntimeHints();
+        new RuntimeHintsConfig.EventifyRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.reflection().onType(RetrieveEventUseCase.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(EventRepositoryPort.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(VenueRepositoryPort.class).test(hints));
+        assertFalse(RuntimeHintsPredicates.reflection().onType(EventJpaAdapter.class).test(hints));
+    }
+}
@@ -0,0 +1,96 @@
+package com.codeup.eventify.infrastructure.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = database("primary");
+    private final DataSource replica = database("replica");
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        routing = new ReplicaRoutingDataSource(primary, List.of(replica),
+                "SELECT lag_seconds FROM replica_state", Duration.ofSeconds(5), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void getConnection_ShouldSendOnlyReadOnlyTransactionsToTheReplica() throws SQLException {
+        routing.checkReplicas();
+
+        assertEquals("primary", databaseOf(routing));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals("replica", databaseOf(routing));
+    }
+
+    @Test
+    void getConnection_ShouldUsePrimaryUntilTheReplicaHasBeenChecked() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("primary", databaseOf(routing));
+    }
+
+    @Test
+    void getConnection_ShouldFallBackToPrimaryWhileReplicaLags() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        JdbcTemplate replicaState = new JdbcTemplate(replica);
+
+        replicaState.update("UPDATE replica_state SET lag_seconds = 30");
+        routing.checkReplicas();
+        assertEquals(0, routing.healthyReplicas());
+        assertEquals("primary", databaseOf(routing));
+
+        replicaState.update("UPDATE replica_state SET lag_seconds = 0.2");
+        routing.checkReplicas();
+        assertEquals("replica", databaseOf(routing));
+    }
+
+    @Test
+    void getConnection_ShouldFallBackToPrimaryWhenReplicaIsUnreachable() throws SQLException {
+        DataSource missing = new DriverManagerDataSource("jdbc:h2:mem:missing-" + UUID.randomUUID() + ";IFEXISTS=TRUE", "sa", "");
+        routing = new ReplicaRoutingDataSource(primary, List.of(missing, replica),
+                "SELECT lag_seconds FROM replica_state", Duration.ofSeconds(5), Duration.ofSeconds(5));
+        routing.checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(1, routing.healthyReplicas());
+        assertEquals("replica", databaseOf(routing));
+        assertEquals("replica", databaseOf(routing));
+    }
+
+    private static String databaseOf(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return new JdbcTemplate(new SingleConnectionDataSource(connection, true))
+                    .queryForObject("SELECT name FROM replica_state", String.class);
+        }
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE replica_state (name VARCHAR(20), lag_seconds DECIMAL(10, 3))");
+        jdbc.update("INSERT INTO replica_state VALUES (?, 0)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,103 @@
+package com.codeup.eventify.infrastructure.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private long now;
+
+    @Test
+    void tryAcquire_ShouldRejectOnceTheLimitIsReached() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 1, 10);
+
+        Optional<AdaptiveConcurrencyLimiter.Permit> first = limiter.tryAcquire();
+        Optional<AdaptiveConcurrencyLimiter.Permit> second = limiter.tryAcquire();
+
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+        assertTrue(limiter.tryAcquire().isEmpty());
+        assertEquals(1, limiter.getRejected());
+
+        first.get().release();
+        first.get().release();
+        assertEquals(1, limiter.getInflight());
+        assertTrue(limiter.tryAcquire().isPresent());
+    }
+
+    @Test
+    void limit_ShouldGrowWhileLatencyHoldsAndTheLimitIsUsed() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 2, 100);
+
+        for (int window = 0; window < 20; window++) {
+            runWindow(limiter, limiter.getLimit(), 10);
+        }
+
+        assertTrue(limiter.getLimit() > 10, () -> "limit stayed at " + limiter.getLimit());
+    }
+
+    @Test
+    void limit_ShouldNotGrowWhenMostOfItIsIdle() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 2, 100);
+
+        for (int window = 0; window < 20; window++) {
+            runWindow(limiter, 2, 10);
+        }
+
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void limit_ShouldShrinkWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = limiter(40, 4, 100);
+        for (int window = 0; window < 20; window++) {
+            runWindow(limiter, limiter.getLimit(), 10);
+        }
+        int healthyLimit = limiter.getLimit();
+
+        for (int window = 0; window < 10; window++) {
+            runWindow(limiter, limiter.getLimit(), 80);
+        }
+        int slowLimit = limiter.getLimit();
+        assertTrue(slowLimit < healthyLimit * 0.6, () -> "limit only fell to " + slowLimit);
+
+        for (int window = 0; window < 40; window++) {
+            runWindow(limiter, limiter.getLimit(), 2000);
+        }
+        assertTrue(limiter.getLimit() < slowLimit, () -> "limit rose to " + limiter.getLimit());
+        assertTrue(limiter.getLimit() >= 4, () -> "limit fell below the minimum: " + limiter.getLimit());
+    }
+
+    @Test
+    void constructor_ShouldRejectInconsistentLimits() {
+        assertThrows(IllegalArgumentException.class, () -> limiter(5, 10, 100));
+        assertThrows(IllegalArgumentException.class, () -> limiter(200, 10, 100));
+    }
+
+    // Runs a window of requests that overlap `concurrency` at a time and each take `latencyMillis`
+    private void runWindow(AdaptiveConcurrencyLimiter limiter, int concurrency, long latencyMillis) {
+        int requests = Math.max(concurrency, 10);
+        int done = 0;
+        while (done < requests) {
+            List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+            for (int i = 0; i < concurrency && done + i < requests; i++) {
+                permits.add(limiter.tryAcquire().orElseThrow());
+            }
+            now += TimeUnit.MILLISECONDS.toNanos(latencyMillis);
+            permits.forEach(AdaptiveConcurrencyLimiter.Permit::release);
+            done += permits.size();
+        }
+        // Let the window close on the next sample even if the requests were quick
+        now += TimeUnit.MILLISECONDS.toNanos(100);
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initial, int min, int max) {
+        return new AdaptiveConcurrencyLimiter("test", initial, min, max, () -> now);
+    }
+}
@@ -0,0 +1,55 @@
+package com.codeup.eventify.infrastructure.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketStoreTest {
+
+    private long now;
+    // 10 tokens, refilled at 2 per second
+    private final TokenBucketStore buckets = new TokenBucketStore(10, 2, 1000, Duration.ofMinutes(10), () -> now);
+
+    @Test
+    void tryConsume_ShouldRejectOnceTheBucketIsEmpty() {
+        TokenBucketStore.Decision first = buckets.tryConsume("ip:10.0.0.1", 4);
+        assertTrue(first.allowed());
+        assertEquals(10, first.limit());
+        assertEquals(6, first.remaining());
+        assertEquals(Duration.ofSeconds(2), first.resetAfter());
+
+        assertTrue(buckets.tryConsume("ip:10.0.0.1", 4).allowed());
+        TokenBucketStore.Decision rejected = buckets.tryConsume("ip:10.0.0.1", 4);
+
+        assertFalse(rejected.allowed());
+        assertEquals(2, rejected.remaining());
+        assertEquals(Duration.ofSeconds(1), rejected.retryAfter());
+    }
+
+    @Test
+    void tryConsume_ShouldRefillOverTimeUpToCapacity() {
+        buckets.tryConsume("key:abc", 10);
+        assertFalse(buckets.tryConsume("key:abc", 1).allowed());
+
+        now += Duration.ofMillis(500).toNanos();
+        assertTrue(buckets.tryConsume("key:abc", 1).allowed());
+
+        now += Duration.ofMinutes(1).toNanos();
+        assertEquals(9, buckets.tryConsume("key:abc", 1).remaining());
+    }
+
+    @Test
+    void tryConsume_ShouldKeepABucketPerClient() {
+        buckets.tryConsume("ip:10.0.0.1", 10);
+
+        assertFalse(buckets.tryConsume("ip:10.0.0.1", 1).allowed());
+        assertTrue(buckets.tryConsume("ip:10.0.0.2", 1).allowed());
+    }
+
+    @Test
+    void tryConsume_ShouldRefuseCostsABucketCanNeverHold() {
+        assertThrows(IllegalArgumentException.class, () -> buckets.tryConsume("ip:10.0.0.1", 11));
+    }
+}
@@ -0,0 +1,81 @@
+package com.codeup.eventify.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class PortMetricsAspectTest {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        @Test
+        void getAllEvents_ShouldRecordUseCaseAndPortTimers() throws Exception {
+                mockMvc.perform(get("/api/events")).andExpect(status().isOk());
+
+                Timer useCase = meterRegistry.find(PortMetricsAspect.USE_CASE_METRIC)
+                                .tags("port", "RetrieveEventUseCase", "method", "getAllEvents",
+                                                "adapter", "RetrieveEventUseCaseImpl", "outcome", "success")
+                                .timer();
+                Timer port = meterRegistry.find(PortMetricsAspect.PORT_METRIC)
+                                .tags("port", "EventReadModelPort", "method", "findAll",
+                                                "adapter", "EventReadModelJpaAdapter", "outcome", "success")
+                                .timer();
+
+                assertNotNull(useCase);
+                assertNotNull(port);
+                assertTrue(useCase.count() >= 1);
+                assertTrue(port.count() >= 1);
+        }
+
+        @Test
+        void failingUseCase_ShouldRecordErrorOutcome() throws Exception {
+                mockMvc.perform(get("/api/events/venue/0")).andExpect(status().isBadRequest());
+
+                Timer errors = meterRegistry.find(PortMetricsAspect.USE_CASE_METRIC)
+                                .tags("method", "getEventsByVenueId", "outcome", "error",
+                                                "exception", "IllegalArgumentException")
+                                .timer();
+
+                assertNotNull(errors);
+                assertTrue(errors.count() >= 1);
+        }
+
+        @Test
+        void prometheusEndpoint_ShouldExposePortPoolAndHibernateMetrics() throws Exception {
+                mockMvc.perform(get("/api/events")).andExpect(status().isOk());
+
+                mockMvc.perform(get("/actuator/prometheus"))
+                                .andExpect(status().isOk())
+                                .andExpect(content().string(containsString(
+                                                "eventify_usecase_seconds_bucket")))
+                                .andExpect(content().string(containsString(
+                                                "eventify_port_seconds_count{")))
+                                .andExpect(content().string(containsString(
+                                                "hikaricp_connections_active")))
+                                .andExpect(content().string(containsString(
+                                                "hibernate_statements")))
+                                .andExpect(content().string(containsString(
+                                                "cache=\"venuesById\"")));
+        }
+}
@@ -0,0 +1,59 @@
+package com.codeup.eventify.support;
+
+import com.codeup.eventify.infrastructure.adapters.in.web.dto.request.EventRequestDTO;
+import com.codeup.eventify.infrastructure.adapters.in.web.dto.request.VenueRequestDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Request bodies and a create call shared by the tests that write through the REST API.
+ * The builders come with valid values for every required field, so a test only sets the
+ * fields it asserts on.
+ */
+public final class ApiFixtures {
+
+    public static final LocalDate EVENT_DATE = LocalDate.of(2025, 12, 15);
+
+    private ApiFixtures() {
+    }
+
+    public static VenueRequestDTO.VenueRequestDTOBuilder venueRequest(String name) {
+        return VenueRequestDTO.builder()
+                .name(name)
+                .country("USA")
+                .address("200 Fixture Street")
+                .city("Portland")
+                .state("OR")
+                .zipCode("97201");
+    }
+
+    public static EventRequestDTO.EventRequestDTOBuilder eventRequest(String title, Long venueId) {
+        return EventRequestDTO.builder()
+                .title(title)
+                .description("Created through the API")
+                .venueId(venueId)
+                .date(EVENT_DATE)
+                .hour(LocalTime.of(20, 0))
+                .price(30.0)
+                .hostedBy("Fixture Promotions");
+    }
+
+    /**
+     * POSTs the body as JSON, expects 201 Created and returns the id of the created resource.
+     */
+    public static long create(MockMvc mockMvc, ObjectMapper objectMapper, String path, Object body) throws Exception {
+        String created = mockMvc.perform(post(path)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(body)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(created).get("id").asLong();
+    }
+}